@@ -0,0 +1,44 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.injector.source.FilePropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load a {@link FilePropertySource} from files with 1K, 100K and 1M keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FilePropertySourceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int keys;
+
+    private File file;
+
+    @Setup
+    public void setup() {
+        file = Fixtures.writeProperties(keys).toFile();
+    }
+
+    @Benchmark
+    public FilePropertySource load() {
+        return new FilePropertySource(file);
+    }
+}
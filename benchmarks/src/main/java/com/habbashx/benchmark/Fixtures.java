@@ -0,0 +1,109 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Config classes and generated property files shared by the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Writes a properties file with the keys used by {@link FlatConfig} and {@link NestedConfig}
+     * followed by {@code extraKeys} generated {@code key.N=value-N} entries.
+     */
+    static Path writeProperties(int extraKeys) {
+        try {
+            final Path file = Files.createTempFile("property-parser-bench", ".properties");
+            file.toFile().deleteOnExit();
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+                writer.write("app.name=benchmark\n");
+                writer.write("app.port=8080\n");
+                writer.write("app.timeout=250ms\n");
+                writer.write("app.ratio=0.75\n");
+                writer.write("app.enabled=true\n");
+                writer.write("app.users=alice,bob,carol,dave\n");
+                writer.write("app.url=http://${app.name}:${app.port}/\n");
+                writer.write("db.url=jdbc:postgresql://localhost/bench\n");
+                writer.write("db.user=bench\n");
+                writer.write("db.pool=32\n");
+                for (int i = 0; i < extraKeys; i++) {
+                    writer.write("key.");
+                    writer.write(Integer.toString(i));
+                    writer.write("=value-");
+                    writer.write(Integer.toString(i));
+                    writer.write('\n');
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class FlatConfig {
+
+        @InjectProperty("app.name")
+        private String name;
+
+        @InjectProperty("app.port")
+        private int port;
+
+        @InjectProperty("app.timeout")
+        private java.time.Duration timeout;
+
+        @InjectProperty("app.ratio")
+        private double ratio;
+
+        @InjectProperty("app.enabled")
+        private boolean enabled;
+
+        @InjectProperty("app.url")
+        private String url;
+
+        @InjectProperty("app.missing")
+        @DefaultValue("fallback")
+        private String missing;
+
+        @InjectList("app.users")
+        private List<String> users;
+    }
+
+    public static class NestedConfig {
+
+        @InjectProperty("app.name")
+        private String name;
+
+        @InjectPrefix("db")
+        private DatabaseConfig database;
+    }
+
+    public static class DatabaseConfig {
+
+        @InjectProperty("url")
+        private String url;
+
+        @InjectProperty("user")
+        private String user;
+
+        @InjectProperty("pool")
+        private int pool;
+    }
+
+    public enum Mode {
+        DEVELOPMENT, STAGING, PRODUCTION
+    }
+}
@@ -0,0 +1,53 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.resolver.PlaceholderResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link PropertyInjector#inject(Object, Object...)} for a flat config class
+ * and for a class with an {@code @InjectPrefix} nested object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectBenchmark {
+
+    private PropertyInjector injector;
+
+    @Setup
+    public void setup() {
+        injector = PropertyInjector.injectorBuilder()
+                .propertySource(Fixtures.writeProperties(0).toFile())
+                .resolver(new PlaceholderResolver())
+                .build();
+    }
+
+    @Benchmark
+    public Object injectFlat() {
+        final Fixtures.FlatConfig config = new Fixtures.FlatConfig();
+        injector.inject(config);
+        return config;
+    }
+
+    @Benchmark
+    public Object injectNested() {
+        final Fixtures.NestedConfig config = new Fixtures.NestedConfig();
+        injector.inject(config);
+        return config;
+    }
+}
@@ -0,0 +1,58 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.parser.ListParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ListParser#parseList(String, java.lang.reflect.Type)} by list size and element type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListParserBenchmark {
+
+    @Param({"4", "64", "1024"})
+    public int size;
+
+    private String strings;
+    private String integers;
+
+    @Setup
+    public void setup() {
+        final StringJoiner stringJoiner = new StringJoiner(", ");
+        final StringJoiner integerJoiner = new StringJoiner(",");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add("item-" + i);
+            integerJoiner.add(Integer.toString(i * 31));
+        }
+        strings = stringJoiner.toString();
+        integers = integerJoiner.toString();
+    }
+
+    @Benchmark
+    public List<Object> parseStrings() {
+        return ListParser.parseList(strings, String.class);
+    }
+
+    @Benchmark
+    public List<Object> parseIntegers() {
+        return ListParser.parseList(integers, Integer.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.parser.factory.ParserFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ParserFactory#parse(Class, String)} per target type, covering registered
+ * parsers, enum tables, factory methods and String constructors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserFactoryBenchmark {
+
+    @Param({"int", "long", "double", "boolean", "String", "BigDecimal", "LocalDate", "Duration", "DataSize", "enum", "UUID", "URI"})
+    public String type;
+
+    private Class<?> targetType;
+    private String value;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "int" -> init(int.class, "8080");
+            case "long" -> init(long.class, "9223372036854775807");
+            case "double" -> init(double.class, "3.14159");
+            case "boolean" -> init(boolean.class, "true");
+            case "String" -> init(String.class, "value");
+            case "BigDecimal" -> init(java.math.BigDecimal.class, "12345.6789");
+            case "LocalDate" -> init(java.time.LocalDate.class, "2024-02-29");
+            case "Duration" -> init(java.time.Duration.class, "250ms");
+            case "DataSize" -> init(com.habbashx.unit.DataSize.class, "64MiB");
+            case "enum" -> init(Fixtures.Mode.class, "production");
+            case "UUID" -> init(java.util.UUID.class, "123e4567-e89b-12d3-a456-426614174000");
+            case "URI" -> init(java.net.URI.class, "https://example.com/path");
+            default -> throw new IllegalArgumentException(type);
+        }
+    }
+
+    private void init(Class<?> targetType, String value) {
+        this.targetType = targetType;
+        this.value = value;
+    }
+
+    @Benchmark
+    public Object parse() {
+        return ParserFactory.parse(targetType, value);
+    }
+}
@@ -0,0 +1,48 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.manager.PropertyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PropertyManager#loadProperties()} and {@link PropertyManager#store()} by store size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyManagerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int keys;
+
+    private PropertyManager propertyManager;
+
+    @Setup
+    public void setup() {
+        propertyManager = new PropertyManager(Fixtures.writeProperties(keys).toFile());
+    }
+
+    @Benchmark
+    public void load() {
+        propertyManager.loadProperties();
+    }
+
+    @Benchmark
+    public void store() {
+        propertyManager.store();
+    }
+}
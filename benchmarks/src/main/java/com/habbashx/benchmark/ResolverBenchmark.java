@@ -0,0 +1,62 @@
+package com.habbashx.benchmark;
+
+import com.habbashx.resolver.PlaceholderResolver;
+import com.habbashx.resolver.registry.ResolverRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of placeholder resolution, directly through {@link PlaceholderResolver} and through
+ * a {@link ResolverRegistry} chain, for values with and without placeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolverBenchmark {
+
+    private final PlaceholderResolver placeholderResolver = new PlaceholderResolver();
+    private final ResolverRegistry resolverRegistry = new ResolverRegistry();
+    private final Properties properties = new Properties();
+
+    @Setup
+    public void setup() {
+        properties.setProperty("host", "localhost");
+        properties.setProperty("port", "8080");
+        properties.setProperty("scheme", "https");
+        resolverRegistry.register(placeholderResolver);
+    }
+
+    @Benchmark
+    public String placeholderPlain() {
+        return placeholderResolver.resolve("jdbc:postgresql://localhost:5432/db", properties);
+    }
+
+    @Benchmark
+    public String placeholderSingle() {
+        return placeholderResolver.resolve("${host}", properties);
+    }
+
+    @Benchmark
+    public String placeholderMultiple() {
+        return placeholderResolver.resolve("${scheme}://${host}:${port}/api", properties);
+    }
+
+    @Benchmark
+    public String registryChain() {
+        return resolverRegistry.resolve("${scheme}://${host}:${port}/api", properties);
+    }
+}
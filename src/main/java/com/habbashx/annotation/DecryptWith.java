@@ -28,7 +28,7 @@ import java.lang.annotation.Target;
  * of an object, where the decryption logic is applied dynamically based on the annotation.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
 public @interface DecryptWith {
     @NotNull Class<? extends PropertyDecryptor> value();
 }
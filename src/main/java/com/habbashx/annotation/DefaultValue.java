@@ -20,10 +20,10 @@ import java.lang.annotation.Target;
  * property resolution logic to enable the desired behavior.
  *
  * Retention policy: {@code RUNTIME} to allow runtime access via reflection.
- * Applicable target: {@code FIELD} to ensure it applies only to fields.
+ * Applicable targets: {@code FIELD}, {@code PARAMETER}, {@code RECORD_COMPONENT} and {@code METHOD}.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
 public @interface DefaultValue {
   @NotNull String value();
 }
@@ -0,0 +1,29 @@
+package com.habbashx.annotation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares additional names under which an enum constant can be resolved when
+ * parsing property values.
+ *
+ * Aliases are matched case-insensitively, the same way as the constant name itself,
+ * and are collected once when the lookup table of the enum type is built.
+ *
+ * Example usage:
+ * <pre>
+ *     enum Level {
+ *         &#64;EnumAlias({"warn", "warning"})
+ *         WARNING
+ *     }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumAlias {
+    @NotNull String[] value();
+}
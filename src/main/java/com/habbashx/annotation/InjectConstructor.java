@@ -0,0 +1,26 @@
+package com.habbashx.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor used by {@code PropertyInjector.create(Class)} to build an
+ * immutable config object.
+ *
+ * Every parameter of the constructor must carry {@code @InjectProperty}, {@code @InjectPrefix}
+ * or {@code @InjectList}, optionally together with {@code @DefaultValue}, {@code @Required},
+ * {@code @UseConverter}, {@code @DecryptWith} and the constraint annotations. All arguments
+ * are converted first and the object is created with a single constructor call, so its
+ * fields can be {@code final}.
+ *
+ * Records do not need this annotation; their canonical constructor is used and the
+ * annotations are read from the record components.
+ *
+ * At most one constructor of a class may be annotated.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface InjectConstructor {
+}
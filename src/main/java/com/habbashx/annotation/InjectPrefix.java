@@ -16,10 +16,10 @@ import java.lang.annotation.Target;
  * hierarchical or nested configurations, allowing fields to receive values prefixed by
  * the specified identifier.
  *
- * This annotation is retained at runtime and applies exclusively to fields.
+ * This annotation is retained at runtime and applies to fields, constructor parameters and record components.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
 public @interface InjectPrefix {
     @NotNull String value();
 }
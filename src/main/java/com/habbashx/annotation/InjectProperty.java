@@ -23,7 +23,7 @@ import java.lang.annotation.Target;
  * environment-specific settings, or dynamic resource values directly into
  * fields of an object.
  *
- * This annotation must be applied at the field level and will be retained
+ * This annotation is applied to fields, constructor parameters or interface methods and is retained
  * during runtime to allow reflective access.
  *
  * Annotation properties:
@@ -31,7 +31,8 @@ import java.lang.annotation.Target;
  *   that should be injected into the annotated field.
  *
  * Target:
- * - This annotation can only be used on fields.
+ * - Fields, the parameters of records and {@code @InjectConstructor} constructors, and
+ *   the methods of interfaces read through {@code PropertyInjector.constants(Class)}.
  *
  * Retention:
  * - The annotation is retained at runtime and is therefore accessible
@@ -40,7 +41,7 @@ import java.lang.annotation.Target;
  * See also: Custom injection methods or frameworks capable of processing
  * the {@code InjectProperty} annotation.
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface InjectProperty {
    String value();
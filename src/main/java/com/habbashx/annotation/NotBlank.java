@@ -0,0 +1,18 @@
+package com.habbashx.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the injected value of a {@link CharSequence} field to contain at least one
+ * non-whitespace character.
+ *
+ * Unlike {@link Required}, which fails when the property is missing, this constraint
+ * rejects values that are present but empty or blank.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface NotBlank {
+}
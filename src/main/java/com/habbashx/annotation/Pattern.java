@@ -0,0 +1,21 @@
+package com.habbashx.annotation;
+
+import org.intellij.lang.annotations.Language;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the injected value of a {@link CharSequence} field to match a regular expression.
+ *
+ * The expression is compiled once, when the field metadata is built, and the whole
+ * value must match it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface Pattern {
+    @Language("RegExp") @NotNull String value();
+}
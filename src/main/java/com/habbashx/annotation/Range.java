@@ -0,0 +1,23 @@
+package com.habbashx.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constrains a numeric field to an inclusive range.
+ *
+ * The check is compiled once into the field metadata and runs on the converted value
+ * while the field is injected. Violations of all constrained fields of an object are
+ * reported together in a single {@code ConstraintViolationException}.
+ *
+ * Applies to fields whose converted value is a {@link Number}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface Range {
+    long min() default Long.MIN_VALUE;
+
+    long max() default Long.MAX_VALUE;
+}
@@ -15,12 +15,12 @@ import java.lang.annotation.Target;
  *
  * This annotation is typically used in conjunction with property injection mechanisms.
  *
- * It should be applied only to fields.
+ * It applies to fields, constructor parameters, record components and interface methods.
  *
  * @see Retention
  * @see Target
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
 public @interface Required {
 }
@@ -0,0 +1,22 @@
+package com.habbashx.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constrains the size of a field to an inclusive range.
+ *
+ * The size is the length of a {@link CharSequence}, the number of elements of a
+ * {@link java.util.Collection}, {@link java.util.Map} or array. The check runs on the
+ * converted value while the field is injected, which makes it usable on
+ * {@code @InjectList} fields as well.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface Size {
+    int min() default 0;
+
+    int max() default Integer.MAX_VALUE;
+}
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * Usage requires providing a class that extends {@code PropertyConverter<?>} through the {@code value} element.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
 public @interface UseConverter {
     @NotNull Class<? extends PropertyConverter<?>> value();
 }
@@ -43,6 +43,29 @@ public class PropertyConverterRegistry {
         registry.put(type, converter);
     }
 
+    /**
+     * Returns the converter registered for the given type, instantiating it through its
+     * no-argument constructor if it is not registered yet.
+     *
+     * <p>
+     * Instantiation happens inside {@link ConcurrentHashMap#computeIfAbsent}, so concurrent
+     * callers always observe the same single instance per converter type.
+     * </p>
+     *
+     * @param converterClass the converter class
+     * @return the converter instance
+     * @throws RuntimeException if the converter cannot be instantiated
+     */
+    public PropertyConverter<?> getOrCreate(Class<? extends PropertyConverter<?>> converterClass) {
+        return registry.computeIfAbsent(converterClass, type -> {
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException("Cannot create converter: " + type.getName(), e);
+            }
+        });
+    }
+
     /**
      * Converts a raw string value into a target type using the specified converter.
      *
@@ -62,16 +85,7 @@ public class PropertyConverterRegistry {
                           Class<?> targetType,
                           String rawValue) {
 
-        PropertyConverter<?> converter = registry.get(converterClass);
-
-        if (converter == null) {
-            try {
-                converter = converterClass.getDeclaredConstructor().newInstance();
-                registry.put(converterClass, converter);
-            } catch (Exception e) {
-                throw new RuntimeException("Cannot create converter: " + converterClass.getName(), e);
-            }
-        }
+        final PropertyConverter<?> converter = getOrCreate(converterClass);
 
         return ((PropertyConverter<Object>) converter).convert(targetType, rawValue);
 
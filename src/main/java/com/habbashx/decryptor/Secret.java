@@ -0,0 +1,55 @@
+package com.habbashx.decryptor;
+
+import com.habbashx.injector.Lazy;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Handle to a secret value that is decrypted on first access.
+ *
+ * <p>
+ * Fields declared as {@code Secret<T>} and annotated with {@code @DecryptWith} are not
+ * decrypted while the object is injected. Instead, the injector stores a {@code Secret}
+ * capturing the property key and the resolution, decryption and conversion pipeline;
+ * the first call to {@link #get()} runs that pipeline once and memoizes the result.
+ * Secrets that are never read are never decrypted.
+ * </p>
+ *
+ * <p>
+ * Unlike a plain {@link Lazy}, {@link #toString()} never reveals the value.
+ * </p>
+ *
+ * @param <T> the type of the decrypted value
+ */
+public final class Secret<T> extends Lazy<T> {
+
+    private Secret(Supplier<? extends T> loader) {
+        super(loader);
+    }
+
+    /**
+     * Creates a secret that obtains its value from the given loader on first access.
+     *
+     * @param loader decrypts and converts the value
+     * @param <T> the type of the decrypted value
+     * @return the secret handle
+     */
+    @Contract("_ -> new")
+    public static <T> @NotNull Secret<T> of(@NotNull Supplier<? extends T> loader) {
+        return new Secret<>(loader);
+    }
+
+    /**
+     * @return {@code true} if the value has already been decrypted
+     */
+    public boolean isDecrypted() {
+        return isResolved();
+    }
+
+    @Override
+    public String toString() {
+        return "Secret[****]";
+    }
+}
@@ -0,0 +1,85 @@
+package com.habbashx.decryptor.aes;
+
+import javax.crypto.SecretKey;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Command line tool producing values for {@link AesGcmPropertyDecryptor}.
+ *
+ * <pre>
+ *     java -cp property-parser.jar com.habbashx.decryptor.aes.AesGcmEncryptCli --generate-key
+ *     java -cp property-parser.jar com.habbashx.decryptor.aes.AesGcmEncryptCli --key &lt;base64&gt; value...
+ *     java -cp property-parser.jar com.habbashx.decryptor.aes.AesGcmEncryptCli --password &lt;pw&gt; --salt &lt;salt&gt; value...
+ * </pre>
+ *
+ * Without {@code --key} or {@code --password}/{@code --salt}, the key is read from the
+ * same system properties and environment variables as the no-argument constructor of
+ * {@link AesGcmPropertyDecryptor}. Every value is printed on its own line as {@code ENC(...)}.
+ */
+public final class AesGcmEncryptCli {
+
+    private AesGcmEncryptCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        String key = null;
+        String password = null;
+        String salt = null;
+        final List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--generate-key" -> {
+                    out.println(Base64.getEncoder().encodeToString(AesGcmPropertyDecryptor.generateKey().getEncoded()));
+                    return 0;
+                }
+                case "--key" -> key = ++i < args.length ? args[i] : null;
+                case "--password" -> password = ++i < args.length ? args[i] : null;
+                case "--salt" -> salt = ++i < args.length ? args[i] : null;
+                case "--help", "-h" -> {
+                    printUsage(out);
+                    return 0;
+                }
+                default -> values.add(args[i]);
+            }
+        }
+
+        if (values.isEmpty()) {
+            printUsage(err);
+            return 2;
+        }
+
+        try {
+            final SecretKey secretKey;
+            if (key != null) {
+                secretKey = AesGcmPropertyDecryptor.keyOf(key);
+            } else if (password != null && salt != null) {
+                secretKey = AesGcmPropertyDecryptor.deriveKey(password.toCharArray(), salt.getBytes(StandardCharsets.UTF_8));
+            } else {
+                secretKey = AesGcmPropertyDecryptor.keyFromEnvironment();
+            }
+
+            final AesGcmPropertyDecryptor decryptor = new AesGcmPropertyDecryptor(secretKey);
+            for (final String value : values) {
+                out.println("ENC(" + decryptor.encrypt(value) + ")");
+            }
+            return 0;
+        } catch (RuntimeException e) {
+            err.println("error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static void printUsage(PrintStream stream) {
+        stream.println("usage: AesGcmEncryptCli --generate-key");
+        stream.println("       AesGcmEncryptCli [--key <base64> | --password <password> --salt <salt>] <value>...");
+    }
+}
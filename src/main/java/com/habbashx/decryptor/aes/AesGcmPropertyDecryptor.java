@@ -0,0 +1,376 @@
+package com.habbashx.decryptor.aes;
+
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.exception.PropertyDecryptorException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link PropertyDecryptor} for values encrypted with AES in GCM mode.
+ *
+ * <p>
+ * An encrypted value is the Base64 encoding of a 12 byte IV followed by the ciphertext
+ * and the 16 byte authentication tag, optionally wrapped as {@code ENC(...)}. Values in
+ * this format are produced by {@link #encrypt(String)} and by {@link AesGcmEncryptCli}.
+ * </p>
+ *
+ * <p>
+ * The key is derived exactly once, when the decryptor is created. Each thread keeps its
+ * own {@link Cipher} and working buffers, so decrypting does not call
+ * {@code Cipher.getInstance}, re-derive the key or allocate Base64 buffers per call.
+ * </p>
+ *
+ * <p>
+ * The no-argument constructor, used when the decryptor is instantiated automatically for
+ * {@code @DecryptWith(AesGcmPropertyDecryptor.class)}, reads the key from the system
+ * property {@value #KEY_PROPERTY} (or the environment variable {@value #KEY_ENV}) as a
+ * Base64 encoded 128, 192 or 256 bit key, or derives it with PBKDF2 from
+ * {@value #PASSWORD_PROPERTY} and {@value #SALT_PROPERTY} ({@value #PASSWORD_ENV} and
+ * {@value #SALT_ENV}).
+ * </p>
+ *
+ * <p>
+ * Thread-safety: instances are thread-safe.
+ * </p>
+ */
+public class AesGcmPropertyDecryptor implements PropertyDecryptor {
+
+    public static final String KEY_PROPERTY = "property.parser.aes.key";
+    public static final String PASSWORD_PROPERTY = "property.parser.aes.password";
+    public static final String SALT_PROPERTY = "property.parser.aes.salt";
+
+    public static final String KEY_ENV = "PROPERTY_PARSER_AES_KEY";
+    public static final String PASSWORD_ENV = "PROPERTY_PARSER_AES_PASSWORD";
+    public static final String SALT_ENV = "PROPERTY_PARSER_AES_SALT";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KEY_DERIVATION = "PBKDF2WithHmacSHA256";
+    private static final int KEY_DERIVATION_ITERATIONS = 210_000;
+    private static final int KEY_BITS = 256;
+
+    static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final String PREFIX = "ENC(";
+    private static final String SUFFIX = ")";
+
+    /**
+     * Reverse lookup table for both the standard and the URL-safe Base64 alphabets.
+     */
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+        BASE64_VALUES['-'] = 62;
+        BASE64_VALUES['_'] = 63;
+    }
+
+    private final SecretKey key;
+
+    /**
+     * Cipher and reusable buffers of the calling thread.
+     */
+    private final ThreadLocal<CipherState> cipherState;
+
+    private final LongAdder decryptions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder decryptedBytes = new LongAdder();
+    private final LongAdder decryptionNanos = new LongAdder();
+
+    /**
+     * Creates a decryptor whose key is read from system properties or environment variables.
+     *
+     * @throws PropertyDecryptorException if no key is configured
+     */
+    public AesGcmPropertyDecryptor() {
+        this(keyFromEnvironment());
+    }
+
+    /**
+     * Creates a decryptor that derives its key once from a password and a salt with PBKDF2.
+     *
+     * @param password the password
+     * @param salt the salt
+     */
+    public AesGcmPropertyDecryptor(char @NotNull [] password, byte @NotNull [] salt) {
+        this(deriveKey(password, salt));
+    }
+
+    /**
+     * Creates a decryptor using the given AES key.
+     *
+     * @param key the AES key
+     */
+    public AesGcmPropertyDecryptor(@NotNull SecretKey key) {
+        this.key = key;
+        this.cipherState = ThreadLocal.withInitial(CipherState::new);
+    }
+
+    /**
+     * Decrypts a Base64 encoded, optionally {@code ENC(...)} wrapped, AES-GCM value.
+     *
+     * @param encryptedValue the encrypted value
+     * @return the decrypted value, or {@code null} if {@code encryptedValue} is {@code null}
+     * @throws PropertyDecryptorException if the value is malformed or fails authentication
+     */
+    @Override
+    public @Nullable String decrypt(@Nullable String encryptedValue) {
+        if (encryptedValue == null) {
+            return null;
+        }
+
+        final long start = System.nanoTime();
+
+        int from = 0;
+        int to = encryptedValue.length();
+        if (encryptedValue.startsWith(PREFIX) && encryptedValue.endsWith(SUFFIX)) {
+            from = PREFIX.length();
+            to -= SUFFIX.length();
+        }
+
+        final CipherState state = cipherState.get();
+        try {
+            final int length = decodeBase64(encryptedValue, from, to, state);
+            if (length <= IV_LENGTH) {
+                throw new PropertyDecryptorException("encrypted value is too short");
+            }
+
+            final byte[] input = state.decoded;
+            state.cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, input, 0, IV_LENGTH));
+
+            final byte[] output = state.output(state.cipher.getOutputSize(length - IV_LENGTH));
+            final int written = state.cipher.doFinal(input, IV_LENGTH, length - IV_LENGTH, output, 0);
+
+            final String decrypted = new String(output, 0, written, StandardCharsets.UTF_8);
+            Arrays.fill(output, 0, written, (byte) 0);
+
+            decryptions.increment();
+            decryptedBytes.add(written);
+            decryptionNanos.add(System.nanoTime() - start);
+            return decrypted;
+        } catch (GeneralSecurityException e) {
+            failures.increment();
+            throw new PropertyDecryptorException("cannot decrypt value: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Encrypts a value into the format accepted by {@link #decrypt(String)}.
+     *
+     * @param plainValue the value to encrypt
+     * @return the Base64 encoded IV, ciphertext and tag
+     * @throws PropertyDecryptorException if encryption fails
+     */
+    public @NotNull String encrypt(@NotNull String plainValue) {
+        try {
+            final byte[] iv = new byte[IV_LENGTH];
+            CipherState.RANDOM.nextBytes(iv);
+
+            final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+
+            final byte[] plain = plainValue.getBytes(StandardCharsets.UTF_8);
+            final byte[] output = Arrays.copyOf(iv, IV_LENGTH + cipher.getOutputSize(plain.length));
+            final int written = cipher.doFinal(plain, 0, plain.length, output, IV_LENGTH);
+
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(output, IV_LENGTH + written));
+        } catch (GeneralSecurityException e) {
+            throw new PropertyDecryptorException("cannot encrypt value: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the throughput counters of this decryptor.
+     *
+     * @return the current metrics
+     */
+    @Contract(" -> new")
+    public @NotNull Metrics getMetrics() {
+        return new Metrics(decryptions.sum(), failures.sum(), decryptedBytes.sum(), decryptionNanos.sum());
+    }
+
+    /**
+     * Generates a new random 256 bit AES key.
+     *
+     * @return the key
+     */
+    @Contract(" -> new")
+    public static @NotNull SecretKey generateKey() {
+        final byte[] bytes = new byte[KEY_BITS / 8];
+        CipherState.RANDOM.nextBytes(bytes);
+        return new SecretKeySpec(bytes, "AES");
+    }
+
+    /**
+     * Creates an AES key from its Base64 encoded raw bytes.
+     *
+     * @param base64Key the Base64 encoded 128, 192 or 256 bit key
+     * @return the key
+     */
+    @Contract("_ -> new")
+    public static @NotNull SecretKey keyOf(@NotNull String base64Key) {
+        final byte[] bytes = Base64.getDecoder().decode(base64Key.trim());
+        if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+            throw new PropertyDecryptorException("AES key must be 128, 192 or 256 bits but was " + bytes.length * 8);
+        }
+        return new SecretKeySpec(bytes, "AES");
+    }
+
+    /**
+     * Derives a 256 bit AES key from a password and a salt with PBKDF2.
+     *
+     * @param password the password
+     * @param salt the salt
+     * @return the derived key
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull SecretKey deriveKey(char @NotNull [] password, byte @NotNull [] salt) {
+        final PBEKeySpec spec = new PBEKeySpec(password, salt, KEY_DERIVATION_ITERATIONS, KEY_BITS);
+        try {
+            final byte[] bytes = SecretKeyFactory.getInstance(KEY_DERIVATION).generateSecret(spec).getEncoded();
+            return new SecretKeySpec(bytes, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new PropertyDecryptorException("cannot derive key: " + e.getMessage(), e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * Reads the key configuration from system properties, falling back to environment variables.
+     *
+     * @return the configured key
+     * @throws PropertyDecryptorException if neither a key nor a password and salt are configured
+     */
+    static @NotNull SecretKey keyFromEnvironment() {
+        final String base64Key = setting(KEY_PROPERTY, KEY_ENV);
+        if (base64Key != null) {
+            return keyOf(base64Key);
+        }
+
+        final String password = setting(PASSWORD_PROPERTY, PASSWORD_ENV);
+        final String salt = setting(SALT_PROPERTY, SALT_ENV);
+        if (password != null && salt != null) {
+            return deriveKey(password.toCharArray(), salt.getBytes(StandardCharsets.UTF_8));
+        }
+
+        throw new PropertyDecryptorException("no AES key configured, set " + KEY_PROPERTY + " or "
+                + PASSWORD_PROPERTY + " and " + SALT_PROPERTY);
+    }
+
+    private static @Nullable String setting(String property, String env) {
+        final String value = System.getProperty(property);
+        return value != null ? value : System.getenv(env);
+    }
+
+    /**
+     * Decodes Base64 characters straight into the reusable buffer of the thread.
+     *
+     * @return the number of decoded bytes
+     */
+    private static int decodeBase64(@NotNull String value, int from, int to, @NotNull CipherState state) {
+        while (to > from && value.charAt(to - 1) == '=') {
+            to--;
+        }
+
+        final byte[] decoded = state.decoded((to - from) * 3 / 4);
+        int bits = 0;
+        int bitCount = 0;
+        int length = 0;
+
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            final int digit = c < 128 ? BASE64_VALUES[c] : -1;
+            if (digit < 0) {
+                throw new PropertyDecryptorException("invalid Base64 character at index " + i);
+            }
+            bits = (bits << 6) | digit;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                decoded[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Throughput counters of a decryptor.
+     *
+     * @param decryptions number of successful decryptions
+     * @param failures number of failed decryptions
+     * @param decryptedBytes total number of decrypted plaintext bytes
+     * @param decryptionNanos total time spent in successful decryptions
+     */
+    public record Metrics(long decryptions, long failures, long decryptedBytes, long decryptionNanos) {
+
+        /**
+         * @return successful decryptions per second of decryption time
+         */
+        public double decryptionsPerSecond() {
+            return decryptionNanos == 0 ? 0d : decryptions * 1_000_000_000d / decryptionNanos;
+        }
+
+        /**
+         * @return average time of a successful decryption in nanoseconds
+         */
+        public double averageNanos() {
+            return decryptions == 0 ? 0d : (double) decryptionNanos / decryptions;
+        }
+    }
+
+    /**
+     * Per-thread cipher and buffers, grown on demand and reused across calls.
+     */
+    private static final class CipherState {
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        private final Cipher cipher;
+        private byte[] decoded = new byte[256];
+        private byte[] output = new byte[256];
+
+        private CipherState() {
+            try {
+                this.cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new PropertyDecryptorException("AES-GCM is not available: " + e.getMessage(), e);
+            }
+        }
+
+        private byte[] decoded(int capacity) {
+            if (decoded.length < capacity) {
+                decoded = new byte[Math.max(capacity, decoded.length * 2)];
+            }
+            return decoded;
+        }
+
+        private byte[] output(int capacity) {
+            if (output.length < capacity) {
+                output = new byte[Math.max(capacity, output.length * 2)];
+            }
+            return output;
+        }
+    }
+}
@@ -41,6 +41,29 @@ public class PropertyDecryptorRegistry {
         registry.put(type, decryptor);
     }
 
+    /**
+     * Returns the decryptor registered for the given type, instantiating it through its
+     * no-argument constructor if it is not registered yet.
+     *
+     * <p>
+     * Instantiation happens inside {@link ConcurrentHashMap#computeIfAbsent}, so concurrent
+     * callers always observe the same single instance per decryptor type.
+     * </p>
+     *
+     * @param type the decryptor class
+     * @return the decryptor instance
+     * @throws RuntimeException if the decryptor cannot be instantiated
+     */
+    public PropertyDecryptor getOrCreate(Class<? extends PropertyDecryptor> type) {
+        return registry.computeIfAbsent(type, t -> {
+            try {
+                return t.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException("Cannot create decryptor: " + t.getName(), e);
+            }
+        });
+    }
+
     /**
      * Decrypts the given encrypted value using the specified decryptor type.
      *
@@ -57,17 +80,6 @@ public class PropertyDecryptorRegistry {
     public String decrypt(Class<? extends PropertyDecryptor> type,
                           String value) {
 
-        PropertyDecryptor decryptor = registry.get(type);
-
-        if (decryptor == null) {
-            try {
-                decryptor = type.getDeclaredConstructor().newInstance();
-                registry.put(type, decryptor);
-            } catch (Exception e) {
-                throw new RuntimeException("Cannot create decryptor: " + type.getName(), e);
-            }
-        }
-
-        return decryptor.decrypt(value);
+        return getOrCreate(type).decrypt(value);
     }
 }
\ No newline at end of file
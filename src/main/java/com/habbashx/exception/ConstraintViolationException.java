@@ -0,0 +1,33 @@
+package com.habbashx.exception;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Thrown when one or more injected values violate the constraint annotations
+ * ({@code @Range}, {@code @Size}, {@code @Pattern}, {@code @NotBlank}) declared on their fields.
+ *
+ * All violations found while injecting an object are collected and reported together,
+ * one message per violated constraint.
+ *
+ * This exception is a subclass of {@code RuntimeException}, so it is unchecked.
+ */
+public class ConstraintViolationException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -3166473349026517630L;
+
+    private final List<String> violations;
+
+    public ConstraintViolationException(@NotNull List<String> violations) {
+        super(violations.size() + " constraint violation(s): " + String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public @Unmodifiable @NotNull List<String> getViolations() {
+        return violations;
+    }
+}
@@ -5,4 +5,8 @@ public class PropertyDecryptorException extends RuntimeException {
     public PropertyDecryptorException(String message) {
         super(message);
     }
+
+    public PropertyDecryptorException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -21,4 +21,8 @@ public class UnSupportedTypeException extends RuntimeException {
     public UnSupportedTypeException(String message) {
         super(message);
     }
+
+    public UnSupportedTypeException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
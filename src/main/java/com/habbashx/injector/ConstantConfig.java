@@ -0,0 +1,214 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.injector.meta.MethodMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Config values that the JIT can constant-fold, read through an annotated interface.
+ *
+ * <p>
+ * Every abstract, parameterless method of the interface annotated with {@link InjectProperty}
+ * is backed by a {@link MutableCallSite} whose target returns the converted value as a
+ * constant. A {@code static final} handle from {@link #handle(String)} invoked with
+ * {@code invokeExact} is inlined by the JIT down to the constant itself: no field load and
+ * no null check remain in compiled code.
+ * </p>
+ *
+ * <pre>{@code
+ * interface Limits {
+ *     @InjectProperty("limits.max.connections") @DefaultValue("64") int maxConnections();
+ * }
+ *
+ * static final ConstantConfig<Limits> LIMITS = injector.constants(Limits.class);
+ * static final MethodHandle MAX_CONNECTIONS = LIMITS.handle("maxConnections");
+ *
+ * int max = (int) MAX_CONNECTIONS.invokeExact();
+ * }</pre>
+ *
+ * <p>
+ * {@link #refresh()}, also called by {@link PropertyInjector#reload()}, converts every value
+ * again and swaps the targets of the call sites whose value changed, then publishes them with
+ * {@link MutableCallSite#syncAll(MutableCallSite[])}. Code compiled against the old constants
+ * is deoptimized and recompiled against the new ones. If any value fails conversion or
+ * violates its constraints, no call site is changed.
+ * </p>
+ *
+ * <p>
+ * {@link #get()} returns a {@link Proxy} of the interface backed by the same call sites. It
+ * always sees the current values but goes through reflection, so it is a convenience for
+ * code that is not hot.
+ * </p>
+ *
+ * <p>
+ * The injector holds its configs weakly. Every handle and the proxy keep their config
+ * reachable, so a config stays refreshed by {@link PropertyInjector#reload()} for as long as
+ * any of them is in use, even if the config itself is not stored.
+ * </p>
+ *
+ * <p>Thread-safety: handles and the proxy may be used from any thread; refreshes are serialized.</p>
+ *
+ * @param <T> the config interface
+ */
+public final class ConstantConfig<T> {
+
+    private final PropertyInjector injector;
+
+    private final Class<T> type;
+
+    private final List<MethodMeta> metas;
+
+    private final MutableCallSite[] sites;
+
+    /**
+     * Exact invokers of {@link #sites} by method name, typed {@code ()R}.
+     */
+    private final Map<String, MethodHandle> handles;
+
+    private final T proxy;
+
+    /**
+     * Values the call sites currently return.
+     */
+    private Object[] values;
+
+    ConstantConfig(@NotNull PropertyInjector injector, @NotNull Class<T> type) {
+
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type.getName() + " is not an interface");
+        }
+
+        this.injector = injector;
+        this.type = type;
+
+        final List<MethodMeta> metas = new ArrayList<>();
+        for (final Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers())) {
+                continue;
+            }
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class
+                    || !method.isAnnotationPresent(InjectProperty.class)) {
+                throw new IllegalArgumentException(
+                        "constant config method " + method.getName() + " of " + type.getName()
+                                + " must take no parameters, return a value and be annotated with @InjectProperty");
+            }
+            metas.add(new MethodMeta(method));
+        }
+        this.metas = List.copyOf(metas);
+
+        this.values = injector.constantValues(this.metas);
+
+        this.sites = new MutableCallSite[metas.size()];
+        final Map<String, MethodHandle> handles = new HashMap<>();
+        final Map<Method, MethodHandle> byMethod = new HashMap<>();
+        // the injector holds its configs weakly, so every handle keeps its config reachable:
+        // the config is folded in as an ignored constant argument, which the JIT drops
+        final MethodHandle self = MethodHandles.constant(ConstantConfig.class, this);
+        for (int i = 0; i < sites.length; i++) {
+            final MethodMeta meta = metas.get(i);
+            sites[i] = new MutableCallSite(constant(meta, values[i]));
+            final MethodHandle invoker = MethodHandles.foldArguments(
+                    MethodHandles.dropArguments(sites[i].dynamicInvoker(), 0, ConstantConfig.class), self);
+            handles.put(meta.getName(), invoker);
+            byMethod.put(meta.getMethod(), invoker);
+        }
+        this.handles = Map.copyOf(handles);
+        this.proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler(byMethod)));
+    }
+
+    /**
+     * Returns the exact invoker of the call site backing a method, of type {@code ()R} where
+     * {@code R} is the return type of the method. Store it in a {@code static final} field and
+     * call it with {@code invokeExact} so that the JIT can fold the value.
+     *
+     * @param methodName the name of the interface method
+     * @return the invoker
+     * @throws IllegalArgumentException if the interface has no such config method
+     */
+    public @NotNull MethodHandle handle(@NotNull String methodName) {
+        final MethodHandle handle = handles.get(methodName);
+        if (handle == null) {
+            throw new IllegalArgumentException("no constant config method " + methodName + " in " + type.getName());
+        }
+        return handle;
+    }
+
+    /**
+     * @return the names of the config methods
+     */
+    public @Unmodifiable @NotNull List<String> getNames() {
+        return metas.stream().map(MethodMeta::getName).toList();
+    }
+
+    /**
+     * @return a proxy of the interface reading the current values
+     */
+    public @NotNull T get() {
+        return proxy;
+    }
+
+    public @NotNull Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Converts every value from the property source again and swaps the targets of the call
+     * sites whose value changed. Does nothing to the call sites if any value fails.
+     *
+     * @return the number of call sites that received a new value
+     */
+    public synchronized int refresh() {
+
+        final Object[] refreshed = injector.constantValues(metas);
+
+        final List<MutableCallSite> changed = new ArrayList<>();
+        for (int i = 0; i < sites.length; i++) {
+            if (!Objects.equals(values[i], refreshed[i])) {
+                sites[i].setTarget(constant(metas.get(i), refreshed[i]));
+                changed.add(sites[i]);
+            }
+        }
+        values = refreshed;
+
+        if (!changed.isEmpty()) {
+            MutableCallSite.syncAll(changed.toArray(MutableCallSite[]::new));
+        }
+        return changed.size();
+    }
+
+    private static MethodHandle constant(@NotNull MethodMeta meta, Object value) {
+        return MethodHandles.constant(meta.getType(), value);
+    }
+
+    private InvocationHandler handler(Map<Method, MethodHandle> byMethod) {
+        return (instance, method, arguments) -> {
+            final MethodHandle handle = byMethod.get(method);
+            if (handle != null) {
+                return handle.invoke();
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(instance, method, arguments);
+            }
+            return switch (method.getName()) {
+                case "equals" -> instance == arguments[0];
+                case "hashCode" -> System.identityHashCode(instance);
+                case "toString" -> type.getSimpleName() + getNames();
+                default -> throw new UnsupportedOperationException(method.toString());
+            };
+        };
+    }
+}
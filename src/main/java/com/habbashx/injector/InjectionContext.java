@@ -0,0 +1,118 @@
+package com.habbashx.injector;
+
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.exception.ConstraintViolationException;
+import com.habbashx.injector.meta.InjectionPoint;
+import com.habbashx.validation.Constraint;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of a single {@link PropertyInjector#inject(Object, Object...)} call.
+ *
+ * <p>A context is created per top-level injection and threaded through nested
+ * injection so that per-call state, such as constraint violations and values decrypted
+ * ahead of injection, is kept in one place and reported once the whole object graph has
+ * been injected.</p>
+ *
+ * <p>Not thread-safe; a context is confined to the injecting thread.</p>
+ */
+final class InjectionContext {
+
+    /**
+     * Constraint violations collected so far; allocated on the first violation only.
+     */
+    private List<String> violations;
+
+    /**
+     * Values decrypted ahead of injection by the bulk decryption phase, keyed by property key
+     * and decryptor type, as the same key may be injected into fields with different decryptors.
+     */
+    private Map<DecryptedKey, String> decrypted;
+
+    /**
+     * Checks the converted value of a field or constructor argument against its compiled
+     * constraints and records every violation under the given property key.
+     *
+     * @param meta the field or parameter metadata holding the compiled constraints
+     * @param key the property key the value was injected from
+     * @param value the converted value
+     * @return {@code true} if the value is valid and may be injected
+     */
+    boolean check(@NotNull InjectionPoint meta, String key, Object value) {
+        final Constraint[] constraints = meta.getConstraints();
+        if (constraints.length == 0 || value == null) {
+            return true;
+        }
+        boolean valid = true;
+        for (final Constraint constraint : constraints) {
+            final String violation = constraint.check(value);
+            if (violation != null) {
+                violate(key, violation);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Checks an absent property without a default value against the constraints of the
+     * field or constructor argument it would have been injected into.
+     *
+     * @param meta the field or parameter metadata holding the compiled constraints
+     * @param key the absent property key
+     * @see Constraint#checkMissing(java.lang.reflect.AnnotatedElement)
+     */
+    void checkMissing(@NotNull InjectionPoint meta, String key) {
+        final String violation = meta.getMissingViolation();
+        if (violation != null) {
+            violate(key, violation);
+        }
+    }
+
+    private void violate(String key, String violation) {
+        if (violations == null) {
+            violations = new ArrayList<>();
+        }
+        violations.add(key + ": " + violation);
+    }
+
+    /**
+     * Records a value decrypted by the bulk decryption phase.
+     *
+     * @param key the property key
+     * @param decryptorType the decryptor the value was decrypted with
+     * @param value the resolved and decrypted value
+     */
+    void putDecrypted(String key, @NotNull Class<? extends PropertyDecryptor> decryptorType, String value) {
+        if (decrypted == null) {
+            decrypted = new HashMap<>();
+        }
+        decrypted.put(new DecryptedKey(key, decryptorType), value);
+    }
+
+    /**
+     * @param key the property key
+     * @param decryptorType the decryptor of the field or argument being injected
+     * @return the value decrypted ahead of injection with that decryptor, or {@code null} if there is none
+     */
+    String getDecrypted(String key, @NotNull Class<? extends PropertyDecryptor> decryptorType) {
+        return decrypted == null ? null : decrypted.get(new DecryptedKey(key, decryptorType));
+    }
+
+    /**
+     * @throws ConstraintViolationException if any violation was recorded
+     */
+    void throwIfViolated() {
+        if (violations != null) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    private record DecryptedKey(String key, Class<? extends PropertyDecryptor> decryptorType) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.habbashx.injector;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Memoizing handle to a value that is resolved on first access.
+ *
+ * <p>
+ * Fields declared as {@code Lazy<T>} or {@code Supplier<T>} are not converted while the
+ * object is injected. The injector stores a {@code Lazy} capturing the property key and
+ * the resolution pipeline (resolvers, decryption, conversion and constraints); the first
+ * call to {@link #get()} runs it once and memoizes the result. Fields that are never read
+ * never pay for their conversion.
+ * </p>
+ *
+ * <p>
+ * {@link #reset()} discards the memoized value so that the next {@link #get()} runs the
+ * pipeline again; {@link PropertyInjector#reload()} resets every handle it created.
+ * </p>
+ *
+ * <p>
+ * Thread-safety: {@link #get()} and {@link #reset()} are safe to call from multiple
+ * threads; the pipeline runs at most once per reset unless it fails, in which case the
+ * next call retries it.
+ * </p>
+ *
+ * @param <T> the type of the value
+ */
+public class Lazy<T> implements Supplier<T> {
+
+    private static final Object UNRESOLVED = new Object();
+
+    private final Supplier<? extends T> loader;
+
+    private volatile Object value = UNRESOLVED;
+
+    protected Lazy(@NotNull Supplier<? extends T> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Creates a handle that obtains its value from the given loader on first access.
+     *
+     * @param loader resolves the value
+     * @param <T> the type of the value
+     * @return the handle
+     */
+    @Contract("_ -> new")
+    public static <T> @NotNull Lazy<T> of(@NotNull Supplier<? extends T> loader) {
+        return new Lazy<>(loader);
+    }
+
+    /**
+     * Returns the value, resolving it on the first call after creation or {@link #reset()}.
+     *
+     * @return the value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object result = value;
+        if (result == UNRESOLVED) {
+            synchronized (this) {
+                result = value;
+                if (result == UNRESOLVED) {
+                    result = loader.get();
+                    value = result;
+                }
+            }
+        }
+        return (T) result;
+    }
+
+    /**
+     * @return {@code true} if the value has been resolved and not reset since
+     */
+    public boolean isResolved() {
+        return value != UNRESOLVED;
+    }
+
+    /**
+     * Discards the memoized value; the next {@link #get()} resolves it again.
+     */
+    public void reset() {
+        synchronized (this) {
+            value = UNRESOLVED;
+        }
+    }
+
+    @Override
+    public String toString() {
+        final Object result = value;
+        return result == UNRESOLVED ? "Lazy[unresolved]" : "Lazy[" + result + "]";
+    }
+}
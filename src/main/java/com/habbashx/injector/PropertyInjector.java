@@ -1,18 +1,32 @@
 package com.habbashx.injector;
 
+import com.habbashx.annotation.InjectConstructor;
 import com.habbashx.annotation.InjectList;
 import com.habbashx.annotation.InjectPrefix;
 import com.habbashx.annotation.UseConverter;
 import com.habbashx.annotation.DecryptWith;
-
-import com.habbashx.annotation.InjectProperty;
 import com.habbashx.converter.PropertyConverter;
 import com.habbashx.converter.registry.PropertyConverterRegistry;
 import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.decryptor.Secret;
 import com.habbashx.decryptor.registry.PropertyDecryptorRegistry;
+import com.habbashx.exception.ConstraintViolationException;
+import com.habbashx.injector.listener.InjectionCache;
+import com.habbashx.injector.listener.InjectionListener;
+import com.habbashx.injector.listener.InjectionPhase;
+import com.habbashx.injector.meta.ConstructorMeta;
 import com.habbashx.injector.meta.FieldMeta;
+import com.habbashx.injector.meta.FieldPlan;
+import com.habbashx.injector.meta.InjectionPoint;
+import com.habbashx.injector.meta.MethodMeta;
+import com.habbashx.injector.meta.ParameterMeta;
+import com.habbashx.injector.meta.PlanIndex;
 import com.habbashx.injector.source.FilePropertySource;
 import com.habbashx.injector.source.PropertySource;
+import com.habbashx.jfr.ClassPlanEvent;
+import com.habbashx.jfr.DecryptionEvent;
+import com.habbashx.jfr.FieldInjectionEvent;
+import com.habbashx.jfr.ReloadEvent;
 import com.habbashx.parser.ListParser;
 
 import com.habbashx.parser.factory.ParserFactory;
@@ -20,6 +34,7 @@ import com.habbashx.resolver.Resolver;
 import com.habbashx.resolver.registry.ResolverRegistry;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 
@@ -27,10 +42,20 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * PropertyInjector is a high-performance annotation-driven dependency injection engine
@@ -46,16 +71,28 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <li>Support nested object injection via {@link InjectPrefix}</li>
  *     <li>Support list parsing via {@link InjectList}</li>
  *     <li>Support custom conversion via {@link UseConverter}</li>
- *     <li>Support encrypted values via {@link DecryptWith}</li>
+ *     <li>Support encrypted values via {@link DecryptWith}, decrypted eagerly, lazily through
+ *     {@link Secret} fields, or in a parallel bulk phase</li>
+ *     <li>Support deferred conversion through {@link Lazy} and {@link Supplier} fields</li>
+ *     <li>Create immutable records and {@link InjectConstructor} classes through {@link #create(Class)}</li>
+ *     <li>Expose constant-foldable values of annotated interfaces through {@link #constants(Class)}</li>
  * </ul>
  *
  * <h2>Performance Design</h2>
  * <ul>
- *     <li>Field metadata is cached per class to avoid repeated reflection calls</li>
+ *     <li>Field metadata is cached per class in a process-wide {@link ClassValue} to avoid repeated
+ *     reflection calls without pinning class loaders; injectors only carry their source and registries</li>
  *     <li>Setter/getter operations use {@link java.lang.invoke.MethodHandle} instead of Field.set</li>
  *     <li>Annotation lookups are precomputed in {@link FieldMeta}</li>
+ *     <li>Class plans can be persisted to a {@link PlanIndex} so that later starts skip annotation scanning</li>
  * </ul>
  *
+ * <h2>Instrumentation</h2>
+ * <p>An {@link InjectionListener} set through {@link #setInjectionListener(InjectionListener)}
+ * receives per-phase and per-field timings and cache hit/miss events. Without a listener no
+ * timestamps are taken. Class scans, field injections, decryptions and reloads are also recorded as
+ * Java Flight Recorder events from the {@code com.habbashx.jfr} package.</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>This class is thread-safe for injection operations assuming:
  * PropertySource and registries are thread-safe implementations.</p>
@@ -76,19 +113,70 @@ public class PropertyInjector {
     private final ResolverRegistry resolverRegistry;
 
     /**
-     * Cache of class-level field metadata.
-     * Prevents repeated reflection operations.
+     * Process-wide cache of class-level and field-level metadata, shared by all injectors.
+     * Prevents repeated reflection operations, and makes creating another injector for the
+     * same classes (e.g. one per tenant, each with its own source) free of any warm-up.
+     *
+     * <p>Backed by a {@link ClassValue}, so the metadata is stored alongside each class and
+     * becomes unreachable together with it: injecting classes of a redeployed class loader
+     * does not keep the old loader alive.</p>
      */
-    private final Map<Class<?>,List<FieldMeta>> metadataCache = new ConcurrentHashMap<>();
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata();
+        }
+    };
 
     /**
-     * Cache of individual field metadata, keyed by {@link Field}.
-     * This backs {@link #getFieldMeta(Field)} so that every call site
-     * (injectProperty, inject, injectList, decryptWith, useConverter,
-     * getOrCreate) reuses the same {@link FieldMeta} instance instead of
-     * re-resolving MethodHandles and annotations on every injection.
+     * Classes whose field metadata has been built, weakly held. Used for statistics and for
+     * {@link #writePlanIndex(Path)}, as a {@link ClassValue} cannot be enumerated.
      */
-    private final Map<Field, FieldMeta> fieldMetaCache = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> CACHED_CLASSES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Marker returned instead of a value that violates its constraints, so that it is never
+     * assigned to a field or passed to a constructor.
+     */
+    private static final Object REJECTED = new Object();
+
+    /**
+     * Whether encrypted values are decrypted in a parallel bulk phase before injection.
+     */
+    private volatile boolean parallelDecryption;
+
+    /**
+     * Deferred handles created by this injector, reset on {@link #reload()}. Weakly held so
+     * that handles of discarded config objects can be collected.
+     */
+    private final Set<Lazy<?>> deferredHandles = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Number of {@link #reload()} calls, so that a deferred handle drops the raw value it
+     * captured at injection time once the source has been reloaded.
+     */
+    private final AtomicLong reloads = new AtomicLong();
+
+    /**
+     * Constant configs created by this injector, refreshed on {@link #reload()}. Weakly held;
+     * the handles and the proxy of a config keep it reachable while they are in use.
+     */
+    private final Set<ConstantConfig<?>> constantConfigs = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Receiver of timings and cache events, or {@code null} when injection is not instrumented.
+     */
+    private volatile InjectionListener injectionListener;
+
+    /**
+     * Persisted class plans consulted before scanning a class, or {@code null}.
+     */
+    private volatile PlanIndex planIndex;
+
+    /** Runtime counters, exposed through the getters below and the injector MBean */
+    private final LongAdder injectionCount = new LongAdder();
+    private final LongAdder injectedFieldCount = new LongAdder();
+    private final LongAdder failedInjectionCount = new LongAdder();
 
 
     /**
@@ -130,33 +218,204 @@ public class PropertyInjector {
      * <p>This method scans cached metadata and delegates injection
      * based on annotation type.</p>
      *
+     * <p>Constraint annotations are checked on the converted values as the fields are
+     * injected; all violations are reported together once every field has been processed.</p>
+     *
      * @param targetObject object to inject into
      * @param arguments optional constructor arguments for nested objects
      *
+     * @throws ConstraintViolationException if any injected value violates its constraints
      * @throws RuntimeException if injection fails
      */
     public void inject(@NotNull Object targetObject, Object... arguments) {
+        final InjectionContext context = new InjectionContext();
+        final InjectionListener listener = injectionListener;
+        final long start = now(listener);
         try {
 
             final List<FieldMeta> metas = getFieldMetas(targetObject.getClass());
 
+            if (parallelDecryption) {
+                decryptInParallel(targetObject.getClass(), context);
+            }
 
             for (final FieldMeta meta : metas) {
 
                 final boolean isStatic = Modifier.isStatic(meta.getField().getModifiers());
                 final Object instance = isStatic ? null : targetObject;
 
-                if (meta.getInjectProperty() != null) {
-                    injectProperty(instance, meta.getField());
-                } else if (meta.getInjectPrefix() != null) {
-                    injectNestedProperties(targetObject, meta.getField(), arguments);
-                } else if (meta.getInjectList() != null) {
-                    injectList(instance, meta.getField());
+                if (meta.getPropertyKey() != null) {
+                    injectProperty(instance, meta.getField(), context);
+                } else if (meta.getPrefix() != null) {
+                    injectNestedProperties(targetObject, meta.getField(), context, arguments);
+                } else if (meta.getListKey() != null) {
+                    injectList(instance, meta.getField(), meta.getListKey(), context);
                 }
             }
         } catch (Exception e) {
+            failedInjectionCount.increment();
+            throw new RuntimeException(e);
+        }
+        if (listener != null) {
+            listener.onInjection(targetObject.getClass(), System.nanoTime() - start);
+        }
+        injectionCount.increment();
+        context.throwIfViolated();
+    }
+
+    /**
+     * Creates an immutable config object: a record, through its canonical constructor, or a
+     * class with an {@link InjectConstructor} constructor.
+     *
+     * <p>The annotations are read from the record components or constructor parameters. Every
+     * argument is resolved, decrypted, converted and checked first, then the object is created
+     * with a single constructor handle invocation, so all of its fields can be {@code final}.
+     * Parameters annotated with {@link InjectPrefix} are created the same way, with their keys
+     * prefixed.</p>
+     *
+     * @param type the record or {@link InjectConstructor} class
+     * @return the new instance
+     *
+     * @throws ConstraintViolationException if any argument violates its constraints
+     * @throws RuntimeException if the type has no injectable constructor or creation fails
+     */
+    public <T> @NotNull T create(@NotNull Class<T> type) {
+        final InjectionContext context = new InjectionContext();
+        final InjectionListener listener = injectionListener;
+        final long start = now(listener);
+        final Object instance;
+        try {
+            instance = instantiate(type, null, context);
+        } catch (Exception e) {
+            failedInjectionCount.increment();
             throw new RuntimeException(e);
         }
+        if (listener != null) {
+            listener.onInjection(type, System.nanoTime() - start);
+        }
+        injectionCount.increment();
+        context.throwIfViolated();
+        return type.cast(instance);
+    }
+
+    /**
+     * Converts every constructor argument of the type and invokes its constructor once.
+     *
+     * @param prefix the prefix of the keys, or {@code null} at the top level
+     * @return the new instance, or {@code null} if an argument violates its constraints
+     */
+    private @Nullable Object instantiate(@NotNull Class<?> type, @Nullable String prefix, InjectionContext context) {
+
+        final ConstructorMeta constructor = getConstructorMeta(type);
+        if (constructor == null) {
+            throw new IllegalArgumentException(type.getName() + " is neither a record nor declares an @InjectConstructor constructor");
+        }
+
+        final List<ParameterMeta> parameters = constructor.getParameters();
+        final Object[] arguments = new Object[parameters.size()];
+        boolean rejected = false;
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = argument(parameters.get(i), prefix, context);
+            rejected |= arguments[i] == REJECTED;
+        }
+        // the constructor never sees a value that violates its constraints
+        return rejected ? null : constructor.newInstance(arguments);
+    }
+
+    /**
+     * Creates constant-foldable config values for an annotated interface: every abstract
+     * {@link com.habbashx.annotation.InjectProperty} method is backed by a call site returning
+     * its converted value as a constant. {@link #reload()} refreshes the values.
+     *
+     * @param type the config interface
+     * @return the constant config
+     *
+     * @throws ConstraintViolationException if any value violates its constraints
+     * @throws RuntimeException if the type is not a valid config interface or a value cannot be converted
+     * @see ConstantConfig
+     */
+    public <T> @NotNull ConstantConfig<T> constants(@NotNull Class<T> type) {
+        final ConstantConfig<T> config = new ConstantConfig<>(this, type);
+        constantConfigs.add(config);
+        return config;
+    }
+
+    /**
+     * Converts the values of the methods of a constant config interface, all or nothing.
+     *
+     * @throws ConstraintViolationException if any value violates its constraints
+     */
+    Object @NotNull [] constantValues(@NotNull List<MethodMeta> metas) {
+        final InjectionContext context = new InjectionContext();
+        final Object[] values = new Object[metas.size()];
+        for (int i = 0; i < values.length; i++) {
+            final MethodMeta meta = metas.get(i);
+            final String key = meta.getPropertyKey();
+            String rawValue = propertySource.get(key);
+            if (rawValue == null) {
+                if (meta.getDefaultRawValue() != null) {
+                    rawValue = meta.getDefaultRawValue();
+                } else if (meta.isRequired()) {
+                    throw new IllegalArgumentException("missing required property: " + key);
+                } else {
+                    context.checkMissing(meta, key);
+                }
+            }
+            values[i] = rawValue == null ? meta.getMissingValue() : value(meta, key, rawValue, context);
+        }
+        context.throwIfViolated();
+        return values;
+    }
+
+    /**
+     * Resolves the argument of a single constructor parameter.
+     */
+    private Object argument(@NotNull ParameterMeta meta, @Nullable String prefix, InjectionContext context) {
+
+        if (meta.getPropertyKey() != null) {
+
+            final String key = prefix == null ? meta.getPropertyKey() : prefix + "." + meta.getPropertyKey();
+            final InjectionListener listener = injectionListener;
+            final long start = now(listener);
+
+            String rawValue = propertySource.get(key);
+            lap(listener, meta.getDeclaringClass(), key, InjectionPhase.SOURCE, start);
+
+            if (rawValue == null) {
+                if (meta.getDefaultRawValue() != null) {
+                    rawValue = meta.getDefaultRawValue();
+                } else if (meta.isRequired()) {
+                    throw new IllegalArgumentException("missing required property: " + key);
+                } else if (!meta.isDeferred()) {
+                    context.checkMissing(meta, key);
+                    return meta.getMissingValue();
+                }
+            }
+
+            final FieldInjectionEvent event = new FieldInjectionEvent();
+            event.begin();
+            final Object value = value(meta, key, rawValue, context);
+            commit(event, meta, key);
+            injectedFieldCount.increment();
+            if (listener != null) {
+                listener.onField(meta.getDeclaringClass(), key, System.nanoTime() - start);
+            }
+            return value;
+        }
+        if (meta.getPrefix() != null) {
+            final Object nested = instantiate(meta.getType(), prefix == null ? meta.getPrefix() : prefix + "." + meta.getPrefix(), context);
+            return nested == null ? REJECTED : nested;
+        }
+        if (meta.getListKey() != null) {
+            // like the @InjectList fields of nested beans, list keys are not prefixed
+            final List<Object> list = list(meta, meta.getListKey(), context);
+            if (list != null) {
+                injectedFieldCount.increment();
+            }
+            return list;
+        }
+        throw new IllegalArgumentException("parameter " + meta.getName() + " of " + meta.getDeclaringClass().getName()
+                + " has no @InjectProperty, @InjectPrefix or @InjectList annotation");
     }
 
     /**
@@ -164,25 +423,40 @@ public class PropertyInjector {
      *
      * <p>Resolution order:
      * PropertySource → DefaultValue → Required validation</p>
+     *
+     * @throws ConstraintViolationException if the injected value violates the constraints of the field
      */
     public void injectProperty(Object instance, @NotNull Field field) throws IllegalAccessException {
+        final InjectionContext context = new InjectionContext();
+        injectProperty(instance, field, context);
+        context.throwIfViolated();
+    }
+
+    private void injectProperty(Object instance, @NotNull Field field, InjectionContext context) throws IllegalAccessException {
 
         final FieldMeta fieldMeta = getFieldMeta(field);
-        final InjectProperty injectProperty = fieldMeta.getInjectProperty();
+        final String key = fieldMeta.getPropertyKey();
+        final InjectionListener listener = injectionListener;
+        final long start = now(listener);
 
-        String rawValue = propertySource.get(injectProperty.value());
+        String rawValue = propertySource.get(key);
+        lap(listener, field.getDeclaringClass(), key, InjectionPhase.SOURCE, start);
 
         if (rawValue == null) {
-            if (fieldMeta.getDefaultValue() != null) {
-                rawValue = fieldMeta.getDefaultValue().value();
-            } else if (fieldMeta.getRequired() != null) {
-                throw new IllegalArgumentException("missing required property: " + injectProperty.value());
+            if (fieldMeta.getDefaultRawValue() != null) {
+                rawValue = fieldMeta.getDefaultRawValue();
+            } else if (fieldMeta.isRequired()) {
+                throw new IllegalArgumentException("missing required property: " + key);
+            } else if (!fieldMeta.isDeferred()) {
+                context.checkMissing(fieldMeta, key);
+                return;
             }
+            // a deferred handle reads the property on first access, so a reload can supply it
         }
-        if (rawValue == null) {
-            return;
+        inject(field, instance, key, rawValue, context);
+        if (listener != null) {
+            listener.onField(field.getDeclaringClass(), key, System.nanoTime() - start);
         }
-        inject(field, instance, rawValue);
     }
 
 
@@ -209,6 +483,7 @@ public class PropertyInjector {
      *                     properly initialized.
      * @param targetField  The nestedField within the targetObject that represents a nested object. The nestedField
      *                     needs to be annotated with {@code InjectPrefix} to determine the property prefix.
+     * @param context      The state of the current injection, collecting constraint violations.
      * @param arguments    Additional arguments that may be required for creating or injecting nested objects.
      *                     These arguments can provide context or initialization data necessary for processing
      *                     nested properties.
@@ -216,15 +491,25 @@ public class PropertyInjector {
      * @throws RuntimeException If any error occurs during the injection process, such as accessing inaccessible
      *                          fields, missing required properties, or data parsing errors.
      */
-    private void injectNestedProperties(Object targetObject,Field targetField,Object... arguments) {
+    private void injectNestedProperties(Object targetObject,Field targetField,InjectionContext context,Object... arguments) {
 
         try {
             final FieldMeta targetMeta = getFieldMeta(targetField);
-            final InjectPrefix injectPrefix = targetMeta.getInjectPrefix();
+            final String prefix = targetMeta.getPrefix();
+
+            if (getConstructorMeta(targetField.getType()) != null) {
+                // immutable nested objects are created as a whole rather than injected into
+                final Object nested = instantiate(targetField.getType(), prefix, context);
+                if (nested != null) {
+                    targetMeta.set(targetObject, nested);
+                }
+                return;
+            }
+
             final Object nestedTarget = getOrCreate(targetField.getType(),targetField,targetObject,arguments);
-            final String prefix = injectPrefix.value();
 
             final List<FieldMeta> nestedMetas = getFieldMetas(targetField.getType());
+            final InjectionListener listener = injectionListener;
             for (final FieldMeta meta : nestedMetas) {
 
                 final Field nestedField = meta.getField();
@@ -232,26 +517,32 @@ public class PropertyInjector {
                 final boolean isStatic = Modifier.isStatic(nestedField.getModifiers());
                 final Object instance = isStatic ? null:nestedTarget;
 
-                if (meta.getInjectProperty() != null) {
+                if (meta.getPropertyKey() != null) {
 
-                    final String property = prefix+"."+meta.getInjectProperty().value();
+                    final String property = prefix+"."+meta.getPropertyKey();
+                    final long start = now(listener);
                     String rawValue = propertySource.get(property);
+                    lap(listener, nestedField.getDeclaringClass(), property, InjectionPhase.SOURCE, start);
 
 
                     if (rawValue == null) {
-                        if (meta.getDefaultValue() != null) {
-                            rawValue = meta.getDefaultValue().value();
+                        if (meta.getDefaultRawValue() != null) {
+                            rawValue = meta.getDefaultRawValue();
                         } else {
-                            if (meta.getRequired() != null) {
-                                throw new IllegalArgumentException("missing required property: " + meta.getInjectProperty().value());
-                            } else {
+                            if (meta.isRequired()) {
+                                throw new IllegalArgumentException("missing required property: " + property);
+                            } else if (!meta.isDeferred()) {
+                                context.checkMissing(meta, property);
                                 continue;
                             }
                         }
                     }
-                    inject(nestedField, instance, rawValue);
-                } else if (nestedField.isAnnotationPresent(InjectList.class)) {
-                    injectList(instance,nestedField);
+                    inject(nestedField, instance, property, rawValue, context);
+                    if (listener != null) {
+                        listener.onField(nestedField.getDeclaringClass(), property, System.nanoTime() - start);
+                    }
+                } else if (meta.getListKey() != null) {
+                    injectList(instance, nestedField, meta.getListKey(), context);
                 }
             }
 
@@ -271,31 +562,217 @@ public class PropertyInjector {
      *                           the processing of the raw value.
      * @param instance           The object instance into which the resolved value is to be injected.
      *                           This parameter must not be null.
+     * @param key                The property key the raw value was read from, used to report violations.
      * @param rawValue           The raw property value to be processed and injected into the nestedField.
      *                           It may be resolved using a placeholder resolver or transformed
      *                           based on the nestedField annotations.
+     * @param context            The state of the current injection, collecting constraint violations.
      * @throws IllegalAccessException If the specified nestedField cannot be written to, such as when it's inaccessible
      *                                or final.
      */
-    private void inject(@NotNull Field field, Object instance, String rawValue) throws IllegalAccessException {
+    private void inject(@NotNull Field field, Object instance, String key, String rawValue, InjectionContext context) throws IllegalAccessException {
 
 
         final FieldMeta fieldMeta = getFieldMeta(field);
+        final InjectionListener listener = injectionListener;
+        final FieldInjectionEvent event = new FieldInjectionEvent();
+        event.begin();
+
+        final Object value = value(fieldMeta, key, rawValue, context);
+        if (value == REJECTED) {
+            // the field keeps its previous value; the violation is reported by the caller
+            return;
+        }
+
+        final long time = now(listener);
+        fieldMeta.set(instance, value);
+        lap(listener, field.getDeclaringClass(), key, InjectionPhase.SET, time);
+        commit(event, fieldMeta, key);
+        injectedFieldCount.increment();
+    }
 
-        rawValue = resolverRegistry.resolve(rawValue,propertySource.getAll());
+    /**
+     * Produces the value of a field or constructor argument from its raw property value:
+     * a deferred handle, or the resolved, decrypted, converted and checked value.
+     *
+     * @return the value, or {@link #REJECTED} if it violates its constraints
+     */
+    private Object value(@NotNull InjectionPoint meta, String key, String rawValue, InjectionContext context) {
 
-        if (fieldMeta.getDecryptWith() != null) {
-            rawValue = decryptWith(field,rawValue);
+        if (meta.isDeferred()) {
+            return deferred(meta, key, rawValue);
         }
 
-        Object convertedValue;
+        final InjectionListener listener = injectionListener;
+        final Class<?> type = meta.getDeclaringClass();
+        long time = now(listener);
+
+        final String decryptedValue = meta.getDecryptorType() == null
+                ? null
+                : context.getDecrypted(key, meta.getDecryptorType());
 
-        if (fieldMeta.getUseConverter() != null) {
-            convertedValue = useConverter(field,rawValue);
+        if (decryptedValue != null) {
+            rawValue = decryptedValue;
         } else {
-            convertedValue = ParserFactory.parse(field.getType(),rawValue);
+            rawValue = resolverRegistry.resolve(rawValue,propertySource.getAll());
+            time = lap(listener, type, key, InjectionPhase.RESOLVE, time);
+            if (meta.getDecryptorType() != null) {
+                rawValue = decryptWith(meta, rawValue);
+                time = lap(listener, type, key, InjectionPhase.DECRYPT, time);
+            }
+        }
+
+        final Object convertedValue = convert(meta, rawValue);
+        lap(listener, type, key, InjectionPhase.PARSE, time);
+
+        return context.check(meta, key, convertedValue) ? convertedValue : REJECTED;
+    }
+
+    private static void commit(@NotNull FieldInjectionEvent event, @NotNull InjectionPoint meta, String key) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.key = key;
+            event.declaringClass = meta.getDeclaringClass();
+            event.field = meta.getName();
+            event.valueType = meta.getValueType();
+            event.deferred = meta.isDeferred();
+            event.commit();
+        }
+    }
+
+    /**
+     * Creates the handle stored in a {@link Lazy}, {@link Supplier} or
+     * {@link Secret} field. The first {@code get()} converts the raw value captured at injection
+     * time, unless the source has been reloaded since; after a {@link #reload()} the value is read
+     * from the property source again. A handle is created for an absent optional property too,
+     * and resolves to {@code null} until a reload supplies it.
+     */
+    private @NotNull Lazy<Object> deferred(@NotNull InjectionPoint meta, String key, String rawValue) {
+
+        final String fallback = meta.getDefaultRawValue();
+        final AtomicReference<String> captured = new AtomicReference<>(rawValue);
+        final long generation = reloads.get();
+
+        final Supplier<Object> loader = () -> {
+
+            String value = captured.getAndSet(null);
+            if (value == null || reloads.get() != generation) {
+                value = propertySource.get(key);
+            }
+            if (value == null) {
+                value = fallback;
+            }
+            if (value == null) {
+                if (meta.isRequired()) {
+                    throw new IllegalArgumentException("missing required property: " + key);
+                }
+                final InjectionContext context = new InjectionContext();
+                context.checkMissing(meta, key);
+                context.throwIfViolated();
+                return null;
+            }
+
+            final InjectionListener listener = injectionListener;
+            final Class<?> type = meta.getDeclaringClass();
+            long time = now(listener);
+
+            value = resolverRegistry.resolve(value, propertySource.getAll());
+            time = lap(listener, type, key, InjectionPhase.RESOLVE, time);
+            if (meta.getDecryptorType() != null) {
+                value = decryptWith(meta, value);
+                time = lap(listener, type, key, InjectionPhase.DECRYPT, time);
+            }
+            final Object converted = convert(meta, value);
+            lap(listener, type, key, InjectionPhase.PARSE, time);
+
+            final InjectionContext context = new InjectionContext();
+            context.check(meta, key, converted);
+            context.throwIfViolated();
+            return converted;
+        };
+
+        final Lazy<Object> handle = meta.isSecret() ? Secret.of(loader) : Lazy.of(loader);
+        deferredHandles.add(handle);
+        return handle;
+    }
+
+    /**
+     * Eager binding phase: creates every converter and decryptor referenced by
+     * {@code @UseConverter} and {@code @DecryptWith} on the given classes (and on the types
+     * of their {@code @InjectPrefix} fields) and binds the instances to the field metadata.
+     *
+     * <p>Each converter and decryptor type is instantiated exactly once, through the
+     * registries' {@code computeIfAbsent} semantics, so no instantiation happens on the
+     * injection path afterwards.</p>
+     *
+     * @param classes the config classes to bind
+     * @throws RuntimeException if a converter or decryptor cannot be instantiated
+     */
+    public void bind(Class<?> @NotNull ... classes) {
+        for (final Class<?> clazz : classes) {
+            bind(clazz, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    private void bind(Class<?> clazz, Set<Class<?>> visited) {
+        if (!visited.add(clazz)) {
+            return;
+        }
+        final ConstructorMeta constructor = getConstructorMeta(clazz);
+        final List<? extends InjectionPoint> metas = constructor != null ? constructor.getParameters() : getFieldMetas(clazz);
+        for (final InjectionPoint meta : metas) {
+            if (meta.getConverterType() != null && meta.getConverter(propertyConverterRegistry) == null) {
+                meta.bindConverter(propertyConverterRegistry, propertyConverterRegistry.getOrCreate(meta.getConverterType()));
+            }
+            if (meta.getDecryptorType() != null && meta.getDecryptor(propertyDecryptorRegistry) == null) {
+                meta.bindDecryptor(propertyDecryptorRegistry, propertyDecryptorRegistry.getOrCreate(meta.getDecryptorType()));
+            }
+            if (meta.getPrefix() != null) {
+                bind(meta.getType(), visited);
+            }
+        }
+    }
+
+    /**
+     * Reloads the property source and resets every {@link Lazy}, {@link Supplier}
+     * and {@link Secret} handle created by this injector, so that their next {@code get()}
+     * converts the reloaded value. Every {@link ConstantConfig} created by this injector is
+     * refreshed.
+     *
+     * <p>Eagerly injected fields keep their values; call {@link #inject(Object, Object...)}
+     * again to refresh them.</p>
+     *
+     * @throws ConstraintViolationException if a refreshed {@link ConstantConfig} value violates its
+     *         constraints; the call sites of that config keep their previous values
+     */
+    public void reload() {
+        final ReloadEvent event = new ReloadEvent();
+        event.begin();
+
+        propertySource.reload();
+        reloads.incrementAndGet();
+        int resetHandles = 0;
+        synchronized (deferredHandles) {
+            for (final Lazy<?> handle : deferredHandles) {
+                handle.reset();
+                resetHandles++;
+            }
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = propertySource.getClass();
+            event.resetHandles = resetHandles;
+            event.commit();
+        }
+
+        final List<ConstantConfig<?>> configs;
+        synchronized (constantConfigs) {
+            configs = List.copyOf(constantConfigs);
+        }
+        for (final ConstantConfig<?> config : configs) {
+            config.refresh();
         }
-        fieldMeta.set(instance,convertedValue);
     }
 
     /**
@@ -303,30 +780,60 @@ public class PropertyInjector {
      */
     private void injectList(
             Object instance,
-            @NotNull Field field
+            @NotNull Field field,
+            String key,
+            InjectionContext context
     ) {
 
         final FieldMeta meta =
                 getFieldMeta(field);
 
-        final InjectList injectList =
-                meta.getInjectList();
+        final InjectionListener listener = injectionListener;
+        final long start = now(listener);
+
+        final List<Object> list =
+                list(meta, key, context);
+
+        if (list == null) {
+            return;
+        }
+
+        final long time = now(listener);
+        meta.set(instance, list);
+        injectedFieldCount.increment();
+        lap(listener, field.getDeclaringClass(), key, InjectionPhase.SET, time);
+        if (listener != null) {
+            listener.onField(field.getDeclaringClass(), key, System.nanoTime() - start);
+        }
+    }
 
-        final Type genericType =
-                field.getGenericType();
+    /**
+     * Parses and checks the list of a field or constructor argument.
+     *
+     * @return the list, or {@code null} if the key is absent, the list violates its constraints
+     *         or the declared type has no element type
+     */
+    private @Nullable List<Object> list(
+            @NotNull InjectionPoint meta,
+            String key,
+            InjectionContext context
+    ) {
 
-        if (genericType instanceof ParameterizedType p) {
+        if (meta.getGenericType() instanceof ParameterizedType p) {
 
             final Type paramType =
                     p.getActualTypeArguments()[0];
 
+            final InjectionListener listener = injectionListener;
+            final long start = now(listener);
+
             final String rawValue =
-                    propertySource.get(
-                            injectList.value()
-                    );
+                    propertySource.get(key);
+            final long time = lap(listener, meta.getDeclaringClass(), key, InjectionPhase.SOURCE, start);
 
             if (rawValue == null) {
-                return;
+                context.checkMissing(meta, key);
+                return null;
             }
 
             final List<Object> list =
@@ -334,45 +841,73 @@ public class PropertyInjector {
                             rawValue,
                             paramType
                     );
+            lap(listener, meta.getDeclaringClass(), key, InjectionPhase.PARSE, time);
 
-            meta.set(instance, list);
+            return context.check(meta, key, list) ? list : null;
         }
+        return null;
     }
 
+    /**
+     * Decrypts the value with the decryptor declared by {@code @DecryptWith}, or returns
+     * it unchanged if the field has none.
+     */
     private String decryptWith(
-            @NotNull Field field,
+            @NotNull InjectionPoint meta,
             String encryptedValue
     ) {
 
+        if (meta.getDecryptorType() == null) {
+            return encryptedValue;
+        }
+
         try {
 
-            final FieldMeta meta =
-                    getFieldMeta(field);
+            PropertyDecryptor decryptor = meta.getDecryptor(propertyDecryptorRegistry);
+            cacheLookup(InjectionCache.DECRYPTOR, meta, decryptor != null);
+            if (decryptor == null) {
+                decryptor = propertyDecryptorRegistry.getOrCreate(meta.getDecryptorType());
+                meta.bindDecryptor(propertyDecryptorRegistry, decryptor);
+            }
 
-            return propertyDecryptorRegistry.decrypt(
-                    meta.getDecryptWith().value(),
-                    encryptedValue
-            );
+            final DecryptionEvent event = new DecryptionEvent();
+            event.begin();
+            final String decrypted = decryptor.decrypt(encryptedValue);
+            event.end();
+            if (event.shouldCommit()) {
+                event.declaringClass = meta.getDeclaringClass();
+                event.field = meta.getName();
+                event.decryptor = decryptor.getClass();
+                event.commit();
+            }
+            return decrypted;
 
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private Object useConverter(
-            @NotNull Field field,
+    /**
+     * Converts the value into the value type of the field, through the converter declared
+     * by {@code @UseConverter} or through {@link ParserFactory}.
+     */
+    private Object convert(
+            @NotNull InjectionPoint meta,
             String rawValue) {
 
-        try {
+        if (meta.getConverterType() == null) {
+            return ParserFactory.parse(meta.getValueType(), rawValue);
+        }
 
-            final FieldMeta meta =
-                    getFieldMeta(field);
+        try {
 
-            return propertyConverterRegistry.convert(
-                    meta.getUseConverter().value(),
-                    field.getType(),
-                    rawValue
-            );
+            PropertyConverter<?> converter = meta.getConverter(propertyConverterRegistry);
+            cacheLookup(InjectionCache.CONVERTER, meta, converter != null);
+            if (converter == null) {
+                converter = propertyConverterRegistry.getOrCreate(meta.getConverterType());
+                meta.bindConverter(propertyConverterRegistry, converter);
+            }
+            return converter.convert(meta.getValueType(), rawValue);
 
         } catch (Exception e) {
 
@@ -380,6 +915,178 @@ public class PropertyInjector {
         }
     }
 
+    /**
+     * Bulk decryption phase: resolves and decrypts every encrypted value of the class
+     * (including fields of {@code @InjectPrefix} objects) in parallel, before any field
+     * is set. The results are handed to the injection pass through the context.
+     */
+    private void decryptInParallel(Class<?> clazz, InjectionContext context) {
+
+        final List<DecryptionJob> jobs = new ArrayList<>();
+        collectDecryptionJobs(clazz, null, jobs, Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        if (jobs.size() < 2) {
+            return;
+        }
+
+        final InjectionListener listener = injectionListener;
+        final List<String> decrypted = jobs.parallelStream()
+                .map(job -> {
+                    final long start = now(listener);
+                    final String value = decryptWith(job.meta(), job.value());
+                    lap(listener, job.meta().getDeclaringClass(), job.key(), InjectionPhase.DECRYPT, start);
+                    return value;
+                })
+                .toList();
+
+        for (int i = 0; i < jobs.size(); i++) {
+            final DecryptionJob job = jobs.get(i);
+            context.putDecrypted(job.key(), job.meta().getDecryptorType(), decrypted.get(i));
+        }
+    }
+
+    /**
+     * Collects the encrypted values of the class and, with their keys prefixed, of every
+     * {@code @InjectPrefix} object injected along with it: the fields of a nested object, and
+     * the constructor arguments of records and {@link InjectConstructor} classes at any depth.
+     *
+     * @param path the classes being collected on the current path, to stop at cycles
+     */
+    private void collectDecryptionJobs(Class<?> clazz, String prefix, List<DecryptionJob> jobs, Set<Class<?>> path) {
+
+        if (!path.add(clazz)) {
+            return;
+        }
+
+        final ConstructorMeta constructor = getConstructorMeta(clazz);
+        final List<? extends InjectionPoint> metas = constructor != null ? constructor.getParameters() : getFieldMetas(clazz);
+        for (final InjectionPoint meta : metas) {
+
+            if (meta.getPropertyKey() != null && meta.getDecryptorType() != null && !meta.isDeferred()) {
+
+                final String key = prefix == null
+                        ? meta.getPropertyKey()
+                        : prefix + "." + meta.getPropertyKey();
+
+                String rawValue = propertySource.get(key);
+                if (rawValue == null && meta.getDefaultRawValue() != null) {
+                    rawValue = meta.getDefaultRawValue();
+                }
+                if (rawValue != null) {
+                    // resolvers are not required to be thread-safe, so resolve before going parallel
+                    jobs.add(new DecryptionJob(key, meta, resolverRegistry.resolve(rawValue, propertySource.getAll())));
+                }
+            } else if (meta.getPrefix() != null && (prefix == null || getConstructorMeta(meta.getType()) != null)) {
+                // mirrors injection: fields of nested objects are injected one level deep only
+                final String nested = prefix == null ? meta.getPrefix() : prefix + "." + meta.getPrefix();
+                collectDecryptionJobs(meta.getType(), nested, jobs, path);
+            }
+        }
+        path.remove(clazz);
+    }
+
+    /**
+     * Encrypted value of a field or constructor argument awaiting the bulk decryption phase.
+     */
+    private record DecryptionJob(String key, InjectionPoint meta, String value) {
+    }
+
+    /**
+     * Enables or disables the bulk decryption phase.
+     *
+     * <p>When enabled, {@link #inject(Object, Object...)} decrypts all encrypted values of the
+     * target class in parallel before any field is set, instead of decrypting them one at a
+     * time while the fields are injected. Fields declared as {@link Secret} are excluded,
+     * as they are decrypted lazily on first access.</p>
+     *
+     * @param parallelDecryption {@code true} to decrypt in parallel
+     */
+    public void setParallelDecryption(boolean parallelDecryption) {
+        this.parallelDecryption = parallelDecryption;
+    }
+
+    public boolean isParallelDecryption() {
+        return parallelDecryption;
+    }
+
+    /**
+     * Sets the listener receiving injection timings and cache events.
+     *
+     * @param injectionListener the listener, or {@code null} to stop instrumenting injection
+     */
+    public void setInjectionListener(InjectionListener injectionListener) {
+        this.injectionListener = injectionListener;
+    }
+
+    public InjectionListener getInjectionListener() {
+        return injectionListener;
+    }
+
+    /**
+     * @return the number of completed {@link #inject(Object, Object...)} and {@link #create(Class)} calls
+     */
+    public long getInjectionCount() {
+        return injectionCount.sum();
+    }
+
+    /**
+     * @return the number of fields set and constructor arguments converted by this injector,
+     *         including list and deferred values
+     */
+    public long getInjectedFieldCount() {
+        return injectedFieldCount.sum();
+    }
+
+    /**
+     * @return the number of {@link #inject(Object, Object...)} calls that failed with an exception
+     *         other than a constraint violation
+     */
+    public long getFailedInjectionCount() {
+        return failedInjectionCount.sum();
+    }
+
+    /**
+     * @return the number of classes whose field metadata is cached, across all injectors
+     */
+    public int getCachedClassCount() {
+        return CACHED_CLASSES.size();
+    }
+
+    /**
+     * @return the number of live deferred handles that {@link #reload()} will reset
+     */
+    public int getDeferredHandleCount() {
+        return deferredHandles.size();
+    }
+
+    /**
+     * @return the current time for the listener, or {@code 0} without taking a timestamp if there is none
+     */
+    private static long now(InjectionListener listener) {
+        return listener == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Reports a completed phase to the listener.
+     *
+     * @return the time the phase ended, which is the start of the next phase
+     */
+    private static long lap(InjectionListener listener, Class<?> type, String key, InjectionPhase phase, long start) {
+        if (listener == null) {
+            return 0L;
+        }
+        final long now = System.nanoTime();
+        listener.onPhase(type, key, phase, now - start);
+        return now;
+    }
+
+    private void cacheLookup(InjectionCache cache, InjectionPoint meta, boolean hit) {
+        final InjectionListener listener = injectionListener;
+        if (listener != null) {
+            listener.onCacheLookup(cache, meta.getDeclaringClass(), hit);
+        }
+    }
+
     /**
      * Optimized getOrCreate()
      */
@@ -419,35 +1126,176 @@ public class PropertyInjector {
 
     @Contract("_ -> !null")
     private @NotNull FieldMeta getFieldMeta(final Field field) {
-        // IMPORTANT: field.getDeclaringClass() may not equal the class we cached
-        // metadata under (e.g. for nested targets), so we key a dedicated
-        // Field -> FieldMeta cache directly, which is always correct and O(1).
-        return fieldMetaCache.computeIfAbsent(field, FieldMeta::new);
+        // field.getDeclaringClass() may not equal the class we are injecting
+        // (e.g. for nested targets), so field metadata is always kept under
+        // the declaring class and looked up by name, which is unique per class.
+        return METADATA.get(field.getDeclaringClass()).fields
+                .computeIfAbsent(field.getName(), name -> new FieldMeta(field));
     }
     private List<FieldMeta> getFieldMetas(
             Class<?> clazz
     ) {
 
-        return metadataCache.computeIfAbsent(
-                clazz,
-                c -> {
+        final ClassMetadata metadata = METADATA.get(clazz);
+        List<FieldMeta> metas = metadata.metas;
 
-                    final List<FieldMeta> metas =
-                            new ArrayList<>();
+        final InjectionListener listener = injectionListener;
+        if (listener != null) {
+            listener.onCacheLookup(InjectionCache.CLASS_METADATA, clazz, metas != null);
+        }
+        if (metas != null) {
+            return metas;
+        }
 
-                    for (Field field :
-                            c.getDeclaredFields()) {
+        synchronized (metadata) {
+            metas = metadata.metas;
+            if (metas != null) {
+                return metas;
+            }
 
-                        field.setAccessible(true);
+            final ClassPlanEvent event = new ClassPlanEvent();
+            event.begin();
 
-                        final FieldMeta meta = fieldMetaCache.computeIfAbsent(field, FieldMeta::new);
+            final PlanIndex index = planIndex;
+            final List<FieldPlan> plans = index == null ? null : index.plansFor(clazz);
 
-                        metas.add(meta);
-                    }
+            metas = plans == null ? null : metasFromPlans(clazz, metadata, plans);
+            final boolean indexed = metas != null;
+            if (metas == null) {
+                metas = scanFieldMetas(clazz, metadata);
+            }
+
+            metadata.metas = metas;
+            CACHED_CLASSES.add(clazz);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = clazz;
+                event.fieldCount = metas.size();
+                event.indexed = indexed;
+                event.commit();
+            }
+            return metas;
+        }
+    }
 
-                    return metas;
+    /**
+     * @return the injected constructor of the type, or {@code null} if it is neither a record
+     *         nor declares an {@link InjectConstructor} constructor
+     */
+    private static @Nullable ConstructorMeta getConstructorMeta(@NotNull Class<?> type) {
+        final ClassMetadata metadata = METADATA.get(type);
+        Optional<ConstructorMeta> constructor = metadata.constructor;
+        if (constructor == null) {
+            synchronized (metadata) {
+                constructor = metadata.constructor;
+                if (constructor == null) {
+                    constructor = Optional.ofNullable(ConstructorMeta.of(type));
+                    metadata.constructor = constructor;
                 }
-        );
+            }
+        }
+        return constructor.orElse(null);
+    }
+
+    /**
+     * Builds the metadata of the injectable fields of a class from their annotations.
+     */
+    private static @NotNull List<FieldMeta> scanFieldMetas(@NotNull Class<?> clazz, @NotNull ClassMetadata metadata) {
+        if (clazz.isRecord()) {
+            // record fields cannot be written; records are created through create(Class)
+            return List.of();
+        }
+        final List<FieldMeta> metas = new ArrayList<>();
+        for (final Field field : clazz.getDeclaredFields()) {
+            final FieldPlan plan = FieldPlan.of(field);
+            if (plan.isInjectable()) {
+                metas.add(metadata.fields.computeIfAbsent(field.getName(), name -> new FieldMeta(field, plan)));
+            }
+        }
+        return metas;
+    }
+
+    /**
+     * Builds the metadata of a class from plans loaded from the plan index, without reading
+     * annotations or scanning the declared fields: only the planned fields are looked up, by
+     * name, to create their accessors.
+     *
+     * @return the metadata, or {@code null} if a planned field no longer exists
+     */
+    private static @Nullable List<FieldMeta> metasFromPlans(@NotNull Class<?> clazz, @NotNull ClassMetadata metadata, @NotNull List<FieldPlan> plans) {
+        final List<FieldMeta> metas = new ArrayList<>(plans.size());
+        for (final FieldPlan plan : plans) {
+            FieldMeta meta = metadata.fields.get(plan.name());
+            if (meta == null) {
+                final Field field;
+                try {
+                    field = clazz.getDeclaredField(plan.name());
+                } catch (NoSuchFieldException e) {
+                    return null;
+                }
+                meta = metadata.fields.computeIfAbsent(plan.name(), name -> new FieldMeta(field, plan));
+            }
+            metas.add(meta);
+        }
+        return metas;
+    }
+
+    /**
+     * Metadata cached per class in {@link #METADATA}.
+     */
+    private static final class ClassMetadata {
+
+        /**
+         * Metadata of the injectable fields, or {@code null} until the class is first scanned.
+         */
+        private volatile List<FieldMeta> metas;
+
+        /**
+         * Metadata by field name, including fields injected individually through
+         * {@link #injectProperty(Object, Field)}.
+         */
+        private final Map<String, FieldMeta> fields = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor used by {@link #create(Class)}, empty if there is none, or {@code null}
+         * until first resolved.
+         */
+        private volatile Optional<ConstructorMeta> constructor;
+    }
+
+    /**
+     * Uses the given plan index to build class metadata without scanning annotations.
+     * Classes missing from the index, or rebuilt since it was written, are scanned as usual.
+     *
+     * @param planIndex the index, or {@code null} to always scan
+     */
+    public void setPlanIndex(PlanIndex planIndex) {
+        this.planIndex = planIndex;
+    }
+
+    public PlanIndex getPlanIndex() {
+        return planIndex;
+    }
+
+    /**
+     * Writes the plans of every class injected so far, merged into the current plan index if
+     * there is one, to the given file. A later start can pass the file to
+     * {@link PropertyInjectorBuilder#planIndex(Path)} to skip annotation scanning.
+     *
+     * @param path the index file
+     * @throws RuntimeException if the file cannot be written
+     */
+    public void writePlanIndex(@NotNull Path path) {
+        final PlanIndex index = planIndex != null ? planIndex : new PlanIndex();
+        final List<Class<?>> classes;
+        synchronized (CACHED_CLASSES) {
+            classes = List.copyOf(CACHED_CLASSES);
+        }
+        for (final Class<?> type : classes) {
+            index.put(type, METADATA.get(type).metas.stream().map(FieldMeta::getPlan).toList());
+        }
+        index.write(path);
     }
     @Contract(" -> new")
     public static @NotNull PropertyInjectorBuilder injectorBuilder() {
@@ -467,6 +1315,14 @@ public class PropertyInjector {
 
         private final ResolverRegistry resolverRegistry = new ResolverRegistry();
 
+        private boolean parallelDecryption;
+
+        private final List<Class<?>> boundClasses = new ArrayList<>();
+
+        private InjectionListener injectionListener;
+
+        private PlanIndex planIndex;
+
         /** Sets property source file */
         public PropertyInjectorBuilder propertySource(File file) {
             propertySource = new FilePropertySource(file);
@@ -485,6 +1341,30 @@ public class PropertyInjector {
             return this;
         }
 
+        /** Decrypts all encrypted values in parallel before fields are set */
+        public PropertyInjectorBuilder parallelDecryption(boolean parallelDecryption) {
+            this.parallelDecryption = parallelDecryption;
+            return this;
+        }
+
+        /** Binds converters and decryptors of the given classes when the injector is built */
+        public PropertyInjectorBuilder bind(Class<?>... classes) {
+            boundClasses.addAll(List.of(classes));
+            return this;
+        }
+
+        /** Sets the listener receiving injection timings and cache events */
+        public PropertyInjectorBuilder injectionListener(InjectionListener injectionListener) {
+            this.injectionListener = injectionListener;
+            return this;
+        }
+
+        /** Loads class plans from an index written by {@link PropertyInjector#writePlanIndex(Path)}, if it exists */
+        public PropertyInjectorBuilder planIndex(Path path) {
+            this.planIndex = PlanIndex.read(path);
+            return this;
+        }
+
         /** Registers resolver */
         public PropertyInjectorBuilder resolver(Resolver resolver) {
             resolverRegistry.register(resolver);
@@ -493,12 +1373,17 @@ public class PropertyInjector {
 
         /** Builds injector */
         public PropertyInjector build() {
-            return new PropertyInjector(
+            final PropertyInjector injector = new PropertyInjector(
                     propertySource,
                     propertyConverterRegistry,
                     propertyDecryptorRegistry,
                     resolverRegistry
             );
+            injector.setParallelDecryption(parallelDecryption);
+            injector.setInjectionListener(injectionListener);
+            injector.setPlanIndex(planIndex);
+            injector.bind(boundClasses.toArray(Class<?>[]::new));
+            return injector;
         }
     }
 }
\ No newline at end of file
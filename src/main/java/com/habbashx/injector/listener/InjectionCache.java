@@ -0,0 +1,23 @@
+package com.habbashx.injector.listener;
+
+/**
+ * Caches consulted by the {@code PropertyInjector}, reported through
+ * {@link InjectionListener#onCacheLookup(InjectionCache, Class, boolean)}.
+ */
+public enum InjectionCache {
+
+    /**
+     * Per-class field metadata. A miss means the class was scanned by reflection.
+     */
+    CLASS_METADATA,
+
+    /**
+     * Converter bound to a {@code @UseConverter} field. A miss means it was taken from the registry.
+     */
+    CONVERTER,
+
+    /**
+     * Decryptor bound to a {@code @DecryptWith} field. A miss means it was taken from the registry.
+     */
+    DECRYPTOR
+}
@@ -0,0 +1,63 @@
+package com.habbashx.injector.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timings and cache events from a {@code PropertyInjector}.
+ *
+ * <p>
+ * All methods have empty default implementations, so a listener only overrides the events
+ * it is interested in. Timings are wall-clock nanoseconds measured with {@link System#nanoTime()}.
+ * When no listener is set on the injector, no timestamps are taken at all.
+ * </p>
+ *
+ * <p>
+ * Listeners are called on the injecting thread, and from worker threads during the parallel
+ * decryption phase, so implementations must be thread-safe.
+ * </p>
+ *
+ * @see InjectionStatistics
+ */
+public interface InjectionListener {
+
+    /**
+     * Called when a phase of injecting a field has completed.
+     *
+     * @param type the class declaring the field
+     * @param key the property key, including the {@code @InjectPrefix} prefix
+     * @param phase the completed phase
+     * @param nanos the time spent in the phase
+     */
+    default void onPhase(@NotNull Class<?> type, @NotNull String key, @NotNull InjectionPhase phase, long nanos) {
+    }
+
+    /**
+     * Called when a field has been injected, with the time spent across all of its phases.
+     *
+     * @param type the class declaring the field
+     * @param key the property key, including the {@code @InjectPrefix} prefix
+     * @param nanos the time spent injecting the field
+     */
+    default void onField(@NotNull Class<?> type, @NotNull String key, long nanos) {
+    }
+
+    /**
+     * Called when {@code inject} has processed every field of a target object, including
+     * its nested {@code @InjectPrefix} objects.
+     *
+     * @param type the class of the target object
+     * @param nanos the time spent in {@code inject}
+     */
+    default void onInjection(@NotNull Class<?> type, long nanos) {
+    }
+
+    /**
+     * Called on every lookup in one of the injector's caches.
+     *
+     * @param cache the cache that was consulted
+     * @param type the class the lookup was made for
+     * @param hit {@code true} if the cached entry was used
+     */
+    default void onCacheLookup(@NotNull InjectionCache cache, @NotNull Class<?> type, boolean hit) {
+    }
+}
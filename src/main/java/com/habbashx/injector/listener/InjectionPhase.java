@@ -0,0 +1,33 @@
+package com.habbashx.injector.listener;
+
+/**
+ * Phases of injecting a single field, in the order they run.
+ */
+public enum InjectionPhase {
+
+    /**
+     * Reading the raw value from the {@code PropertySource}.
+     */
+    SOURCE,
+
+    /**
+     * Resolving placeholders and external values through the {@code ResolverRegistry}.
+     */
+    RESOLVE,
+
+    /**
+     * Decrypting the value with the decryptor declared by {@code @DecryptWith}.
+     */
+    DECRYPT,
+
+    /**
+     * Converting the value through {@code ParserFactory}, {@code ListParser} or the converter
+     * declared by {@code @UseConverter}.
+     */
+    PARSE,
+
+    /**
+     * Checking constraints and writing the value into the field.
+     */
+    SET
+}
@@ -0,0 +1,194 @@
+package com.habbashx.injector.listener;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link InjectionListener} that aggregates timings per property key, per class
+ * and per phase, and counts cache hits and misses.
+ *
+ * <pre>{@code
+ * InjectionStatistics statistics = new InjectionStatistics();
+ * injector.setInjectionListener(statistics);
+ * injector.inject(config);
+ * statistics.printReport(System.out, 10);
+ * }</pre>
+ *
+ * <p>Thread-safe; all counters are {@link LongAdder}s. Classes are held weakly: the timings of
+ * a class are dropped once the class is unloaded.</p>
+ */
+public final class InjectionStatistics implements InjectionListener {
+
+    private final Map<String, Counter> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Timings per injected class. Weakly keyed, so that collecting statistics does not keep
+     * the classes of a redeployed class loader, and the loader itself, alive.
+     */
+    private final Map<Class<?>, Counter> classes = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<InjectionPhase, Counter> phases = new EnumMap<>(InjectionPhase.class);
+    private final Map<InjectionCache, LongAdder[]> caches = new EnumMap<>(InjectionCache.class);
+
+    public InjectionStatistics() {
+        for (final InjectionPhase phase : InjectionPhase.values()) {
+            phases.put(phase, new Counter());
+        }
+        for (final InjectionCache cache : InjectionCache.values()) {
+            caches.put(cache, new LongAdder[]{new LongAdder(), new LongAdder()});
+        }
+    }
+
+    @Override
+    public void onPhase(@NotNull Class<?> type, @NotNull String key, @NotNull InjectionPhase phase, long nanos) {
+        phases.get(phase).record(nanos);
+    }
+
+    @Override
+    public void onField(@NotNull Class<?> type, @NotNull String key, long nanos) {
+        keys.computeIfAbsent(key, k -> new Counter()).record(nanos);
+    }
+
+    @Override
+    public void onInjection(@NotNull Class<?> type, long nanos) {
+        classes.computeIfAbsent(type, t -> new Counter()).record(nanos);
+    }
+
+    @Override
+    public void onCacheLookup(@NotNull InjectionCache cache, @NotNull Class<?> type, boolean hit) {
+        caches.get(cache)[hit ? 0 : 1].increment();
+    }
+
+    /**
+     * @param limit the maximum number of entries
+     * @return the property keys with the highest total injection time, slowest first
+     */
+    public @Unmodifiable @NotNull List<Timing> slowestKeys(int limit) {
+        return slowest(keys, limit);
+    }
+
+    /**
+     * @param limit the maximum number of entries
+     * @return the injected classes with the highest total injection time, slowest first
+     */
+    public @Unmodifiable @NotNull List<Timing> slowestClasses(int limit) {
+        synchronized (classes) {
+            return slowest(classes, limit);
+        }
+    }
+
+    /**
+     * @param phase the phase
+     * @return the aggregated time spent in the phase across all fields
+     */
+    public @NotNull Timing phase(@NotNull InjectionPhase phase) {
+        return phases.get(phase).toTiming(phase.name());
+    }
+
+    /**
+     * @param cache the cache
+     * @return the number of lookups in the cache that used a cached entry
+     */
+    public long cacheHits(@NotNull InjectionCache cache) {
+        return caches.get(cache)[0].sum();
+    }
+
+    /**
+     * @param cache the cache
+     * @return the number of lookups in the cache that had to compute the entry
+     */
+    public long cacheMisses(@NotNull InjectionCache cache) {
+        return caches.get(cache)[1].sum();
+    }
+
+    /**
+     * Clears all collected statistics.
+     */
+    public void reset() {
+        keys.clear();
+        classes.clear();
+        phases.values().forEach(Counter::reset);
+        caches.values().forEach(counters -> {
+            counters[0].reset();
+            counters[1].reset();
+        });
+    }
+
+    /**
+     * Prints the time per phase, the cache hit rates and the slowest keys and classes.
+     *
+     * @param out the stream to print to
+     * @param limit the maximum number of keys and classes to print
+     */
+    public void printReport(@NotNull PrintStream out, int limit) {
+        out.println("Injection phases:");
+        for (final InjectionPhase phase : InjectionPhase.values()) {
+            print(out, phase(phase));
+        }
+        out.println("Injection caches:");
+        for (final InjectionCache cache : InjectionCache.values()) {
+            out.printf("  %-14s hits=%d misses=%d%n", cache, cacheHits(cache), cacheMisses(cache));
+        }
+        out.println("Slowest keys:");
+        slowestKeys(limit).forEach(timing -> print(out, timing));
+        out.println("Slowest classes:");
+        slowestClasses(limit).forEach(timing -> print(out, timing));
+    }
+
+    private static void print(@NotNull PrintStream out, @NotNull Timing timing) {
+        out.printf("  %12.3f ms total %10.3f ms max %8d x  %s%n",
+                timing.totalNanos() / 1e6, timing.maxNanos() / 1e6, timing.count(), timing.name());
+    }
+
+    private static <K> @NotNull List<Timing> slowest(@NotNull Map<K, Counter> counters, int limit) {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().toTiming(entry.getKey() instanceof Class<?> type ? type.getName() : entry.getKey().toString()))
+                .sorted(Comparator.comparingLong(Timing::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Aggregated timing of a key, class or phase.
+     *
+     * @param name the property key, class name or phase name
+     * @param count the number of recorded timings
+     * @param totalNanos the sum of the recorded timings
+     * @param maxNanos the largest recorded timing
+     */
+    public record Timing(@NotNull String name, long count, long totalNanos, long maxNanos) {
+    }
+
+    private static final class Counter {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        void record(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        void reset() {
+            count.reset();
+            total.reset();
+            max.reset();
+        }
+
+        @NotNull Timing toTiming(@NotNull String name) {
+            return new Timing(name, count.sum(), total.sum(), max.get());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.annotation.InjectConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * ConstructorMeta
+ * <p>
+ * A cached descriptor of the constructor used to create an immutable config object: the
+ * canonical constructor of a record, or the constructor annotated with {@link InjectConstructor}.
+ * <p>
+ * The constructor is held as a single {@link MethodHandle} spreading an argument array, so
+ * the object is created in one call once every argument has been converted, and its fields
+ * can be {@code final}.
+ */
+public final class ConstructorMeta {
+
+    /**
+     * Lookup used to create the constructor handle.
+     */
+    private static final MethodHandles.Lookup LOOKUP = lookup();
+
+    /**
+     * Class created by the constructor.
+     */
+    private final Class<?> type;
+
+    /**
+     * Metadata of the constructor parameters, in declaration order.
+     */
+    private final List<ParameterMeta> parameters;
+
+    /**
+     * Constructor adapted to {@code (Object[]) -> Object}.
+     */
+    private final MethodHandle constructor;
+
+    private ConstructorMeta(Class<?> type, Constructor<?> constructor, List<ParameterMeta> parameters) throws IllegalAccessException {
+        this.type = type;
+        this.parameters = parameters;
+
+        constructor.setAccessible(true);
+        this.constructor = LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, parameters.size())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    /**
+     * Resolves the injected constructor of a class.
+     *
+     * @param type the class
+     * @return the constructor metadata, or {@code null} if the class is neither a record nor
+     *         declares an {@link InjectConstructor} constructor
+     * @throws IllegalStateException if more than one constructor is annotated
+     * @throws RuntimeException if the constructor cannot be accessed
+     */
+    public static @Nullable ConstructorMeta of(@NotNull Class<?> type) {
+        try {
+
+            if (type.isRecord()) {
+                final RecordComponent[] components = type.getRecordComponents();
+                final Class<?>[] types = new Class<?>[components.length];
+                final ParameterMeta[] parameters = new ParameterMeta[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+                    parameters[i] = new ParameterMeta(components[i]);
+                }
+                return new ConstructorMeta(type, type.getDeclaredConstructor(types), List.of(parameters));
+            }
+
+            Constructor<?> annotated = null;
+            for (final Constructor<?> candidate : type.getDeclaredConstructors()) {
+                if (candidate.isAnnotationPresent(InjectConstructor.class)) {
+                    if (annotated != null) {
+                        throw new IllegalStateException("more than one @InjectConstructor constructor in " + type.getName());
+                    }
+                    annotated = candidate;
+                }
+            }
+            if (annotated == null) {
+                return null;
+            }
+
+            final Parameter[] declared = annotated.getParameters();
+            final ParameterMeta[] parameters = new ParameterMeta[declared.length];
+            for (int i = 0; i < declared.length; i++) {
+                parameters[i] = new ParameterMeta(declared[i]);
+            }
+            return new ConstructorMeta(type, annotated, List.of(parameters));
+
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(
+                    "Failed to initialize ConstructorMeta for: "
+                            + type.getName(),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Creates an instance with a single invocation of the constructor handle.
+     *
+     * @param arguments the converted arguments, one per parameter
+     * @return the new instance
+     */
+    public Object newInstance(Object[] arguments) {
+        try {
+            return (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public @Unmodifiable List<ParameterMeta> getParameters() {
+        return parameters;
+    }
+}
@@ -4,10 +4,10 @@ import com.habbashx.annotation.*;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Type;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -19,9 +19,13 @@ import static java.lang.invoke.MethodHandles.lookup;
  * This class stores all precomputed metadata required to perform fast field injection
  * without repeated reflection overhead.
  * <p>
- * It is immutable after construction and safe for concurrent use.
+ * Its reflective state is immutable after construction and it is safe for concurrent use;
+ * only the bound converter and decryptor instances are set after construction.
+ * <p>
+ * Instances are shared process-wide by all {@code PropertyInjector}s and hold nothing
+ * specific to a property source.
  */
-public final class FieldMeta {
+public final class FieldMeta extends InjectionPoint {
 
     /**
      * Lookup used to create MethodHandle accessors.
@@ -48,51 +52,6 @@ public final class FieldMeta {
      */
     private final boolean isStatic;
 
-    /**
-     * Raw field type.
-     */
-    private final Class<?> fieldType;
-
-    /**
-     * Generic type (used for lists / parameterized types).
-     */
-    private final Type genericType;
-
-    /**
-     * Injects simple property value.
-     */
-    private final InjectProperty injectProperty;
-
-    /**
-     * Injects nested object using prefix.
-     */
-    private final InjectPrefix injectPrefix;
-
-    /**
-     * Injects list values.
-     */
-    private final InjectList injectList;
-
-    /**
-     * Default fallback value if property is missing.
-     */
-    private final DefaultValue defaultValue;
-
-    /**
-     * Marks field as required.
-     */
-    private final Required required;
-
-    /**
-     * Custom converter for value transformation.
-     */
-    private final UseConverter useConverter;
-
-    /**
-     * Decryption rule for encrypted values.
-     */
-    private final DecryptWith decryptWith;
-
     /**
      * Cached constructor for the field's declared type (used for nested
      * {@code @InjectPrefix} objects). Lazily resolved and cached so it is not
@@ -101,15 +60,27 @@ public final class FieldMeta {
     private volatile Constructor<?> cachedConstructor;
 
     /**
-     * Creates a cached metadata wrapper for a field.
+     * Creates a cached metadata wrapper for a field, reading its plan from its annotations.
      *
      * All reflection operations are performed once:
      * - Field is made accessible
      * - MethodHandles are created
-     * - Annotations are cached
+     * - Annotation values are cached
      * - Type metadata is stored
      */
     public FieldMeta(Field field) {
+        this(field, FieldPlan.of(field));
+    }
+
+    /**
+     * Creates a cached metadata wrapper for a field from an already known plan,
+     * without reading the annotations of the field.
+     *
+     * @param field the field
+     * @param plan the plan of the field, e.g. loaded from a {@link PlanIndex}
+     */
+    public FieldMeta(Field field, FieldPlan plan) {
+        super(field.getDeclaringClass(), field.getType(), field.getGenericType(), plan);
 
         try {
 
@@ -121,19 +92,6 @@ public final class FieldMeta {
 
             this.isStatic = Modifier.isStatic(field.getModifiers());
 
-            this.fieldType = field.getType();
-            this.genericType = field.getGenericType();
-
-            this.injectProperty = field.getAnnotation(InjectProperty.class);
-            this.injectPrefix = field.getAnnotation(InjectPrefix.class);
-            this.injectList = field.getAnnotation(InjectList.class);
-
-            this.defaultValue = field.getAnnotation(DefaultValue.class);
-            this.required = field.getAnnotation(Required.class);
-
-            this.useConverter = field.getAnnotation(UseConverter.class);
-            this.decryptWith = field.getAnnotation(DecryptWith.class);
-
         } catch (Exception e) {
             throw new RuntimeException(
                     "Failed to initialize FieldMeta for: "
@@ -178,39 +136,45 @@ public final class FieldMeta {
     }
 
     public Class<?> getFieldType() {
-        return fieldType;
+        return getType();
     }
 
-    public Type getGenericType() {
-        return genericType;
+    @Override
+    protected AnnotatedElement getAnnotatedElement() {
+        return field;
     }
 
+    /*
+     * The annotation getters below read the annotation from the field on every call.
+     * The injection path uses the plain values of InjectionPoint instead.
+     */
+
     public InjectProperty getInjectProperty() {
-        return injectProperty;
+        return field.getAnnotation(InjectProperty.class);
     }
 
     public InjectPrefix getInjectPrefix() {
-        return injectPrefix;
+        return field.getAnnotation(InjectPrefix.class);
     }
 
     public InjectList getInjectList() {
-        return injectList;
+        return field.getAnnotation(InjectList.class);
     }
 
     public DefaultValue getDefaultValue() {
-        return defaultValue;
+        return field.getAnnotation(DefaultValue.class);
     }
 
     public Required getRequired() {
-        return required;
+        return field.getAnnotation(Required.class);
     }
 
     public UseConverter getUseConverter() {
-        return useConverter;
+        return field.getAnnotation(UseConverter.class);
     }
 
     public DecryptWith getDecryptWith() {
-        return decryptWith;
+        return field.getAnnotation(DecryptWith.class);
     }
 
     /**
@@ -232,8 +196,8 @@ public final class FieldMeta {
                         paramTypes[i] = arguments[i] == null ? Object.class : arguments[i].getClass();
                     }
                     ctor = arguments.length == 0
-                            ? fieldType.getDeclaredConstructor()
-                            : fieldType.getDeclaredConstructor(paramTypes);
+                            ? getType().getDeclaredConstructor()
+                            : getType().getDeclaredConstructor(paramTypes);
                     ctor.setAccessible(true);
                     cachedConstructor = ctor;
                 }
@@ -241,4 +205,4 @@ public final class FieldMeta {
         }
         return ctor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.annotation.DecryptWith;
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.NotBlank;
+import com.habbashx.annotation.Pattern;
+import com.habbashx.annotation.Range;
+import com.habbashx.annotation.Required;
+import com.habbashx.annotation.Size;
+import com.habbashx.annotation.UseConverter;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+
+/**
+ * Injection plan of a single field, constructor parameter or record component: the values
+ * of its injection annotations as plain strings and flags.
+ *
+ * <p>Plans are what {@link FieldMeta} is built from and what a {@link PlanIndex} persists,
+ * so a field described by an index entry can be injected without reading its annotations.</p>
+ *
+ * @param name the field name
+ * @param propertyKey the {@code @InjectProperty} key, or {@code null}
+ * @param prefix the {@code @InjectPrefix} prefix, or {@code null}
+ * @param listKey the {@code @InjectList} key, or {@code null}
+ * @param defaultValue the {@code @DefaultValue} value, or {@code null}
+ * @param required whether the field is {@code @Required}
+ * @param converterType the binary name of the {@code @UseConverter} class, or {@code null}
+ * @param decryptorType the binary name of the {@code @DecryptWith} class, or {@code null}
+ * @param constrained whether the field carries constraint annotations
+ */
+public record FieldPlan(
+        @NotNull String name,
+        @Nullable String propertyKey,
+        @Nullable String prefix,
+        @Nullable String listKey,
+        @Nullable String defaultValue,
+        boolean required,
+        @Nullable String converterType,
+        @Nullable String decryptorType,
+        boolean constrained
+) {
+
+    /**
+     * Reads the plan of a field from its annotations.
+     *
+     * @param field the field
+     * @return the plan of the field
+     */
+    @Contract("_ -> new")
+    public static @NotNull FieldPlan of(@NotNull Field field) {
+        return of(field, field.getName());
+    }
+
+    /**
+     * Reads the plan of a field, constructor parameter or record component from its annotations.
+     *
+     * @param element the annotated element
+     * @param name the name reported for the element
+     * @return the plan of the element
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull FieldPlan of(@NotNull AnnotatedElement element, @NotNull String name) {
+
+        final InjectProperty injectProperty = element.getAnnotation(InjectProperty.class);
+        final InjectPrefix injectPrefix = element.getAnnotation(InjectPrefix.class);
+        final InjectList injectList = element.getAnnotation(InjectList.class);
+        final DefaultValue defaultValue = element.getAnnotation(DefaultValue.class);
+        final UseConverter useConverter = element.getAnnotation(UseConverter.class);
+        final DecryptWith decryptWith = element.getAnnotation(DecryptWith.class);
+
+        return new FieldPlan(
+                name,
+                injectProperty == null ? null : injectProperty.value(),
+                injectPrefix == null ? null : injectPrefix.value(),
+                injectList == null ? null : injectList.value(),
+                defaultValue == null ? null : defaultValue.value(),
+                element.isAnnotationPresent(Required.class),
+                useConverter == null ? null : useConverter.value().getName(),
+                decryptWith == null ? null : decryptWith.value().getName(),
+                element.isAnnotationPresent(NotBlank.class)
+                        || element.isAnnotationPresent(Size.class)
+                        || element.isAnnotationPresent(Range.class)
+                        || element.isAnnotationPresent(Pattern.class)
+        );
+    }
+
+    /**
+     * @return {@code true} if the field is injected as a property, a nested object or a list
+     */
+    public boolean isInjectable() {
+        return propertyKey != null || prefix != null || listKey != null;
+    }
+}
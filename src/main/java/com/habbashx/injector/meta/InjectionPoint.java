@@ -0,0 +1,366 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.converter.PropertyConverter;
+import com.habbashx.converter.registry.PropertyConverterRegistry;
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.decryptor.Secret;
+import com.habbashx.decryptor.registry.PropertyDecryptorRegistry;
+import com.habbashx.injector.Lazy;
+import com.habbashx.validation.Constraint;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * InjectionPoint
+ * <p>
+ * Cached metadata shared by everything a property value is injected into: a field
+ * ({@link FieldMeta}), a constructor parameter ({@link ParameterMeta}) or a method of a
+ * constant config interface ({@link MethodMeta}).
+ * <p>
+ * Holds the plan of the element, its resolved types, its compiled constraints and the
+ * converter and decryptor instances bound to it per registry. Immutable after construction
+ * apart from those bindings, and safe for concurrent use.
+ */
+public abstract class InjectionPoint {
+
+    /**
+     * Class declaring the field, constructor or method.
+     */
+    private final Class<?> declaringClass;
+
+    /**
+     * Raw declared type.
+     */
+    private final Class<?> type;
+
+    /**
+     * Generic type (used for lists / parameterized types).
+     */
+    private final Type genericType;
+
+    /**
+     * True if the element is a {@link Secret} handle that is decrypted on first access.
+     */
+    private final boolean secret;
+
+    /**
+     * True if the element is a {@link Lazy} or {@link Supplier} handle that is converted on first access.
+     */
+    private final boolean lazy;
+
+    /**
+     * Type the raw value is converted into: the declared type, or the type argument
+     * of a {@link Secret}, {@link Lazy} or {@link Supplier} element.
+     */
+    private final Class<?> valueType;
+
+    /**
+     * Value used when the property is absent and has no default: {@code null}, or the zero
+     * value of a primitive type.
+     */
+    private final Object missingValue;
+
+    /**
+     * Annotation values of the element as plain strings and flags, read from the annotations
+     * or from a {@link PlanIndex}.
+     */
+    private final FieldPlan plan;
+
+    /**
+     * Custom converter class declared by {@code @UseConverter}, or {@code null}.
+     */
+    private final Class<? extends PropertyConverter<?>> converterType;
+
+    /**
+     * Decryptor class declared by {@code @DecryptWith}, or {@code null}.
+     */
+    private final Class<? extends PropertyDecryptor> decryptorType;
+
+    /**
+     * Constraints compiled from {@code @Range}, {@code @Size}, {@code @Pattern} and
+     * {@code @NotBlank}, checked against the converted value during injection.
+     * Compiled on first use for constrained elements, so building the metadata from a plan
+     * reads no annotations.
+     */
+    private volatile Constraint[] constraints;
+
+    /**
+     * Violation reported when the property is absent and has no default, compiled together
+     * with {@link #constraints}; {@code null} if an absent value is valid.
+     */
+    private volatile String missingViolation;
+
+    /**
+     * Converter instances bound for the {@code @UseConverter} annotation, one per registry
+     * they came from. Replaced as a whole on every binding.
+     */
+    private volatile Binding[] converters = NO_BINDINGS;
+
+    /**
+     * Decryptor instances bound for the {@code @DecryptWith} annotation, one per registry
+     * they came from. Replaced as a whole on every binding.
+     */
+    private volatile Binding[] decryptors = NO_BINDINGS;
+
+    private static final Binding[] NO_BINDINGS = new Binding[0];
+
+    @SuppressWarnings("unchecked")
+    InjectionPoint(Class<?> declaringClass, Class<?> type, Type genericType, FieldPlan plan) {
+
+        this.declaringClass = declaringClass;
+        this.type = type;
+        this.genericType = genericType;
+
+        this.secret = type == Secret.class;
+        this.lazy = type == Lazy.class || type == Supplier.class;
+        this.valueType = secret || lazy ? typeArgument(genericType) : type;
+        this.missingValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+
+        this.plan = plan;
+
+        try {
+
+            final ClassLoader loader = declaringClass.getClassLoader();
+            this.converterType = plan.converterType() == null
+                    ? null
+                    : (Class<? extends PropertyConverter<?>>) Class.forName(plan.converterType(), false, loader);
+            this.decryptorType = plan.decryptorType() == null
+                    ? null
+                    : Class.forName(plan.decryptorType(), false, loader).asSubclass(PropertyDecryptor.class);
+
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(
+                    "Failed to initialize " + getClass().getSimpleName() + " for: "
+                            + plan.name(),
+                    e
+            );
+        }
+
+        this.constraints = plan.constrained() ? null : Constraint.NONE;
+    }
+
+    /**
+     * @return the element the annotations are read from
+     */
+    protected abstract AnnotatedElement getAnnotatedElement();
+
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * @return the name of the field, parameter, record component or method
+     */
+    public String getName() {
+        return plan.name();
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    public boolean isSecret() {
+        return secret;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return {@code true} if the element receives a handle resolved on first access
+     *         instead of the converted value
+     */
+    public boolean isDeferred() {
+        return secret || lazy;
+    }
+
+    public Class<?> getValueType() {
+        return valueType;
+    }
+
+    /**
+     * @return the value used for an absent property without a default value
+     */
+    public Object getMissingValue() {
+        return missingValue;
+    }
+
+    public FieldPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return the {@code @InjectProperty} key, or {@code null}
+     */
+    public String getPropertyKey() {
+        return plan.propertyKey();
+    }
+
+    /**
+     * @return the {@code @InjectPrefix} prefix, or {@code null}
+     */
+    public String getPrefix() {
+        return plan.prefix();
+    }
+
+    /**
+     * @return the {@code @InjectList} key, or {@code null}
+     */
+    public String getListKey() {
+        return plan.listKey();
+    }
+
+    /**
+     * @return the {@code @DefaultValue} value, or {@code null}
+     */
+    public String getDefaultRawValue() {
+        return plan.defaultValue();
+    }
+
+    public boolean isRequired() {
+        return plan.required();
+    }
+
+    /**
+     * @return the {@code @UseConverter} class, or {@code null}
+     */
+    public Class<? extends PropertyConverter<?>> getConverterType() {
+        return converterType;
+    }
+
+    /**
+     * @return the {@code @DecryptWith} class, or {@code null}
+     */
+    public Class<? extends PropertyDecryptor> getDecryptorType() {
+        return decryptorType;
+    }
+
+    public Constraint[] getConstraints() {
+        Constraint[] compiled = constraints;
+        if (compiled == null) {
+            final AnnotatedElement element = getAnnotatedElement();
+            compiled = Constraint.compile(element);
+            // published before the constraints, which guard it
+            missingViolation = Constraint.checkMissing(element);
+            constraints = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * @return the violation of an absent property without a default value, or {@code null}
+     *         if the element may be left unset
+     * @see Constraint#checkMissing(AnnotatedElement)
+     */
+    public String getMissingViolation() {
+        getConstraints();
+        return missingViolation;
+    }
+
+    /**
+     * Metadata is shared by all injectors, each with its own registries, so a bound
+     * converter is only returned to the registry it was bound from.
+     *
+     * @param registry the registry of the calling injector
+     * @return the bound converter, or {@code null} if none is bound from {@code registry}
+     */
+    public PropertyConverter<?> getConverter(PropertyConverterRegistry registry) {
+        return (PropertyConverter<?>) find(converters, registry);
+    }
+
+    /**
+     * Binds the converter instance used for this element by injectors with the given registry,
+     * so that injection calls it directly instead of looking it up. Every registry keeps its
+     * own binding; the first binding per registry wins.
+     *
+     * @param registry the registry the converter was taken from
+     * @param converter the converter for the {@code @UseConverter} type of this element
+     */
+    public void bindConverter(PropertyConverterRegistry registry, PropertyConverter<?> converter) {
+        synchronized (this) {
+            converters = bind(converters, registry, converter);
+        }
+    }
+
+    /**
+     * @param registry the registry of the calling injector
+     * @return the bound decryptor, or {@code null} if none is bound from {@code registry}
+     * @see #getConverter(PropertyConverterRegistry)
+     */
+    public PropertyDecryptor getDecryptor(PropertyDecryptorRegistry registry) {
+        return (PropertyDecryptor) find(decryptors, registry);
+    }
+
+    /**
+     * Binds the decryptor instance used for this element by injectors with the given registry.
+     *
+     * @param registry the registry the decryptor was taken from
+     * @param decryptor the decryptor for the {@code @DecryptWith} type of this element
+     * @see #bindConverter(PropertyConverterRegistry, PropertyConverter)
+     */
+    public void bindDecryptor(PropertyDecryptorRegistry registry, PropertyDecryptor decryptor) {
+        synchronized (this) {
+            decryptors = bind(decryptors, registry, decryptor);
+        }
+    }
+
+    private static Object find(Binding[] bindings, Object registry) {
+        for (final Binding binding : bindings) {
+            if (binding.registry().get() == registry) {
+                return binding.instance();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the bindings with one for {@code registry} added, unless it already has one,
+     *         and without the bindings of collected registries
+     */
+    private static Binding[] bind(Binding[] bindings, Object registry, Object instance) {
+        final List<Binding> bound = new ArrayList<>(bindings.length + 1);
+        for (final Binding binding : bindings) {
+            final Object owner = binding.registry().get();
+            if (owner == registry) {
+                return bindings;
+            }
+            if (owner != null) {
+                bound.add(binding);
+            }
+        }
+        bound.add(new Binding(new WeakReference<>(registry), instance));
+        return bound.toArray(Binding[]::new);
+    }
+
+    /**
+     * Returns the first type argument of a parameterized wrapper type, defaulting to
+     * {@code String} for raw or wildcard declarations.
+     */
+    private static Class<?> typeArgument(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> argument) {
+            return argument;
+        }
+        return String.class;
+    }
+
+    /**
+     * An instance bound to this element, with the registry it belongs to. The registry is held
+     * weakly, so metadata shared by all injectors does not keep discarded injectors' registries,
+     * or their instances, alive.
+     */
+    private record Binding(WeakReference<Object> registry, Object instance) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.habbashx.injector.meta;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+
+/**
+ * MethodMeta
+ * <p>
+ * A cached descriptor for a single accessor method of a constant config interface. The
+ * property value is converted into the return type of the method.
+ */
+public final class MethodMeta extends InjectionPoint {
+
+    /**
+     * Accessor method the annotations are read from.
+     */
+    private final Method method;
+
+    /**
+     * Creates the metadata of an interface accessor method.
+     *
+     * @param method a method without parameters
+     */
+    public MethodMeta(@NotNull Method method) {
+        super(method.getDeclaringClass(), method.getReturnType(), method.getGenericReturnType(), FieldPlan.of(method, method.getName()));
+        this.method = method;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    protected AnnotatedElement getAnnotatedElement() {
+        return method;
+    }
+}
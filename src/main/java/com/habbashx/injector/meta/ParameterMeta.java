@@ -0,0 +1,53 @@
+package com.habbashx.injector.meta;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+
+/**
+ * ParameterMeta
+ * <p>
+ * A cached descriptor for a single parameter of an injected constructor: a component of a
+ * record's canonical constructor, or a parameter of an {@code @InjectConstructor} constructor.
+ * <p>
+ * The annotations are read from the record component or the parameter once, when the
+ * {@link ConstructorMeta} of the class is built.
+ */
+public final class ParameterMeta extends InjectionPoint {
+
+    /**
+     * Record component or parameter the annotations are read from.
+     */
+    private final AnnotatedElement element;
+
+    /**
+     * Creates the metadata of a record component.
+     *
+     * @param component the record component
+     */
+    public ParameterMeta(@NotNull RecordComponent component) {
+        this(component.getDeclaringRecord(), component.getType(), component.getGenericType(), component, component.getName());
+    }
+
+    /**
+     * Creates the metadata of a constructor parameter.
+     *
+     * @param parameter the parameter; its name is only meaningful when compiled with {@code -parameters}
+     */
+    public ParameterMeta(@NotNull Parameter parameter) {
+        this(parameter.getDeclaringExecutable().getDeclaringClass(), parameter.getType(), parameter.getParameterizedType(), parameter, parameter.getName());
+    }
+
+    private ParameterMeta(Class<?> declaringClass, Class<?> type, Type genericType, AnnotatedElement element, String name) {
+        super(declaringClass, type, genericType, FieldPlan.of(element, name));
+        this.element = element;
+    }
+
+    @Override
+    protected AnnotatedElement getAnnotatedElement() {
+        return element;
+    }
+}
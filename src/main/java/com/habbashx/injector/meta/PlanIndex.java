@@ -0,0 +1,275 @@
+package com.habbashx.injector.meta;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent index of class injection plans, used to skip annotation scanning on later starts.
+ *
+ * <p>Each entry holds the {@link FieldPlan}s of the injectable fields of one class, together
+ * with the build stamp of the class: the location it was loaded from, and the modification
+ * time and size of its class file, or of the whole jar for classes loaded from a jar.
+ * {@link #plansFor(Class)} only returns plans whose stamp is unchanged, so a stale index
+ * degrades to a normal scan. Checking a stamp reads file attributes only, never the class
+ * file itself, and the stamp of a jar is read once per index.</p>
+ *
+ * <p>The file is a versioned binary format written with {@link DataOutputStream}. An index
+ * written by another format version, or one that cannot be read, is treated as empty.</p>
+ */
+public final class PlanIndex {
+
+    /**
+     * "PPIX"
+     */
+    private static final int MAGIC = 0x50504958;
+
+    private static final int VERSION = 2;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Code sources classes were loaded from, resolved once per location. A jar does not change
+     * under the classes already loaded from it, so its stamp is read once as well.
+     */
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+
+    /**
+     * Reads an index file.
+     *
+     * @param path the index file
+     * @return the index, or an empty index if the file is missing, corrupt or of another version
+     */
+    public static @NotNull PlanIndex read(@NotNull Path path) {
+
+        final PlanIndex index = new PlanIndex();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+                return index;
+            }
+
+            final int classCount = in.readInt();
+            for (int i = 0; i < classCount; i++) {
+                final String className = in.readUTF();
+                final Stamp stamp = new Stamp(in.readUTF(), in.readLong(), in.readLong());
+                final int fieldCount = in.readInt();
+                final List<FieldPlan> plans = new ArrayList<>(fieldCount);
+                for (int j = 0; j < fieldCount; j++) {
+                    plans.add(new FieldPlan(
+                            in.readUTF(),
+                            readString(in),
+                            readString(in),
+                            readString(in),
+                            readString(in),
+                            in.readBoolean(),
+                            readString(in),
+                            readString(in),
+                            in.readBoolean()
+                    ));
+                }
+                index.entries.put(className, new Entry(stamp, List.copyOf(plans)));
+            }
+        } catch (NoSuchFileException e) {
+            return index;
+        } catch (IOException | RuntimeException e) {
+            index.entries.clear();
+        }
+        return index;
+    }
+
+    /**
+     * Writes the index to a file, replacing it atomically where the file system allows.
+     * The temporary file written first is deleted if writing fails.
+     *
+     * @param path the index file
+     * @throws RuntimeException if the file cannot be written
+     */
+    public void write(@NotNull Path path) {
+        Path temporary = null;
+        try {
+            final Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+
+                final List<Map.Entry<String, Entry>> snapshot = List.copyOf(entries.entrySet());
+                out.writeInt(snapshot.size());
+                for (final Map.Entry<String, Entry> entry : snapshot) {
+                    final Stamp stamp = entry.getValue().stamp();
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(stamp.location());
+                    out.writeLong(stamp.modified());
+                    out.writeLong(stamp.size());
+                    out.writeInt(entry.getValue().plans().size());
+                    for (final FieldPlan plan : entry.getValue().plans()) {
+                        out.writeUTF(plan.name());
+                        writeString(out, plan.propertyKey());
+                        writeString(out, plan.prefix());
+                        writeString(out, plan.listKey());
+                        writeString(out, plan.defaultValue());
+                        out.writeBoolean(plan.required());
+                        writeString(out, plan.converterType());
+                        writeString(out, plan.decryptorType());
+                        out.writeBoolean(plan.constrained());
+                    }
+                }
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the plans recorded for a class if its build stamp is unchanged.
+     *
+     * @param type the class
+     * @return the plans of the injectable fields of {@code type}, or {@code null} if the class
+     *         is not in the index or was rebuilt or moved since the index was written
+     */
+    public @Nullable @Unmodifiable List<FieldPlan> plansFor(@NotNull Class<?> type) {
+        final Entry entry = entries.get(type.getName());
+        if (entry == null || !entry.stamp().equals(stampOf(type))) {
+            return null;
+        }
+        return entry.plans();
+    }
+
+    /**
+     * Records the plans of a class. Classes that are not loaded from a file, such as
+     * generated classes, are not recorded.
+     *
+     * @param type the class
+     * @param plans the plans of its injectable fields
+     */
+    public void put(@NotNull Class<?> type, @NotNull List<FieldPlan> plans) {
+        final Stamp stamp = stampOf(type);
+        if (stamp != null) {
+            entries.put(type.getName(), new Entry(stamp, List.copyOf(plans)));
+        }
+    }
+
+    /**
+     * @return the number of classes in the index
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Reads the build stamp of a class from the attributes of its class file, or of the jar
+     * it was loaded from.
+     *
+     * @return the stamp, or {@code null} if the class was not loaded from a local file
+     */
+    private @Nullable Stamp stampOf(@NotNull Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        final URL url = source == null ? null : source.getLocation();
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        final Location location = locations.computeIfAbsent(url.toString(), name -> Location.of(name, url));
+        if (location.directory() == null) {
+            return location.jar();
+        }
+        return stamp(location.name(), location.directory().resolve(type.getName().replace('.', '/') + ".class"));
+    }
+
+    private static @Nullable Stamp stamp(@NotNull String location, @NotNull Path file) {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new Stamp(location, attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable String readString(@NotNull DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a nullable string as its UTF-8 length and bytes, which, unlike
+     * {@link DataOutputStream#writeUTF(String)}, has no 64 KB limit for long default values.
+     */
+    private static void writeString(@NotNull DataOutputStream out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Build stamp of a class.
+     *
+     * @param location the code source the class was loaded from
+     * @param modified the modification time of the class file or jar, in milliseconds
+     * @param size the size of the class file or jar
+     */
+    private record Stamp(String location, long modified, long size) {
+    }
+
+    private record Entry(Stamp stamp, List<FieldPlan> plans) {
+    }
+
+    /**
+     * A resolved code source: a class directory, or the stamp of a jar.
+     *
+     * @param name the code source URL
+     * @param directory the class directory, or {@code null} for a jar
+     * @param jar the stamp of the jar, or {@code null} for a directory or an unreadable location
+     */
+    private record Location(String name, Path directory, Stamp jar) {
+
+        private static @NotNull Location of(@NotNull String name, @NotNull URL url) {
+            try {
+                final Path path = Path.of(url.toURI());
+                return Files.isDirectory(path) ? new Location(name, path, null) : new Location(name, null, stamp(name, path));
+            } catch (URISyntaxException | RuntimeException e) {
+                return new Location(name, null, null);
+            }
+        }
+    }
+}
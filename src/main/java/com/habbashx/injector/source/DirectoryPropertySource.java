@@ -0,0 +1,275 @@
+package com.habbashx.injector.source;
+
+import com.habbashx.loader.PropertiesReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * Implementation of {@link PropertySource} that merges every {@code .properties} fragment of a
+ * directory whose file name matches a glob.
+ *
+ * <p>
+ * The fragments are read concurrently, on virtual threads when the runtime provides them and on a
+ * small pool of daemon threads otherwise, and merged in file name order: a key defined in several
+ * fragments takes the value of the last one, whatever order the reads complete in.
+ * </p>
+ *
+ * <p>
+ * {@link #reload()} only reads fragments whose modification time or size changed, and only
+ * parses those whose content hash changed as well; unchanged fragments reuse their parsed
+ * entries. Added and deleted fragments are picked up.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ *     PropertySource source = new DirectoryPropertySource(Path.of("conf.d"), "*.properties");
+ *     String value = source.get("app.name");
+ * </pre>
+ *
+ * <p>Thread-safety: the merged properties are published atomically, so readers never observe
+ * a partially reloaded directory. Reloads are serialized.</p>
+ */
+public class DirectoryPropertySource implements PropertySource {
+
+    /**
+     * Threads used to read fragments when virtual threads are not available.
+     */
+    private static final int MAX_PLATFORM_THREADS = 16;
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} before Java 21.
+     */
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutor();
+
+    private final Path directory;
+
+    private final String glob;
+
+    /**
+     * State of every fragment as of the last load, by path. Guarded by {@code this}.
+     */
+    private Map<Path, Fragment> fragments = Map.of();
+
+    /**
+     * Fragments in merge order as of the last load.
+     */
+    private volatile List<Path> files = List.of();
+
+    /**
+     * Merged key-value pairs of all fragments.
+     */
+    private volatile Properties properties;
+
+    /**
+     * Number of fragments parsed since creation.
+     */
+    private final AtomicInteger parses = new AtomicInteger();
+
+    /**
+     * Loads every fragment of {@code directory} whose file name matches {@code glob}.
+     *
+     * @param directory the directory; subdirectories are not searched
+     * @param glob the file name pattern, e.g. {@code "*.properties"}
+     * @throws RuntimeException if the directory or a fragment cannot be read
+     */
+    public DirectoryPropertySource(@NotNull Path directory, @NotNull String glob) {
+        this.directory = directory;
+        this.glob = glob;
+        reload();
+    }
+
+    /**
+     * Lists the directory again and re-reads the fragments that changed.
+     *
+     * @throws RuntimeException if the directory or a fragment cannot be read
+     */
+    @Override
+    public synchronized void reload() {
+        final List<Path> paths = list();
+        final List<Future<Fragment>> reads = new ArrayList<>(paths.size());
+        final ExecutorService executor = newExecutor(paths.size());
+        try {
+            for (final Path path : paths) {
+                final Fragment previous = fragments.get(path);
+                reads.add(executor.submit(() -> Fragment.read(path, previous, parses)));
+            }
+
+            final Map<Path, Fragment> loaded = new HashMap<>(Math.max(16, (int) (paths.size() / 0.75f) + 1));
+            final Properties merged = new Properties();
+            for (int i = 0; i < paths.size(); i++) {
+                final Fragment fragment = reads.get(i).get();
+                loaded.put(paths.get(i), fragment);
+                merged.putAll(fragment.entries);
+            }
+            fragments = loaded;
+            files = List.copyOf(paths);
+            properties = merged;
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the regular files matching the glob, sorted by name
+     */
+    private List<Path> list() {
+        final List<Path> paths = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (final Path path : stream) {
+                if (Files.isRegularFile(path)) {
+                    paths.add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    private static ExecutorService newExecutor(int tasks) {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, Math.min(tasks, MAX_PLATFORM_THREADS)), runnable -> {
+            final Thread thread = new Thread(runnable, "directory-property-source");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle virtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves a property value by its key.
+     *
+     * @param key the property key
+     * @return the value of the last fragment defining it, or {@code null} if no fragment does
+     */
+    @Override
+    public String get(String key) {
+        return properties.getProperty(key);
+    }
+
+    /**
+     * Returns the merged properties of all fragments.
+     *
+     * <p>Note: Modifying the returned object will affect the internal state until the next reload.</p>
+     *
+     * @return the merged properties
+     */
+    @Override
+    public Properties getAll() {
+        return properties;
+    }
+
+    /**
+     * @return the directory this source reads from
+     */
+    public @NotNull Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the fragments as of the last load, in merge order
+     */
+    public @NotNull @Unmodifiable List<Path> getFiles() {
+        return files;
+    }
+
+    /**
+     * @return the number of fragments parsed since creation; unchanged fragments are not parsed again
+     */
+    int getParseCount() {
+        return parses.get();
+    }
+
+    /**
+     * A parsed fragment with the attributes used to detect changes.
+     */
+    private static final class Fragment {
+
+        private final FileTime lastModified;
+
+        private final long size;
+
+        private final long hash;
+
+        private final Map<String, String> entries;
+
+        private Fragment(FileTime lastModified, long size, long hash, Map<String, String> entries) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        /**
+         * Reads a fragment, reusing {@code previous} when the file did not change.
+         */
+        static Fragment read(Path path, Fragment previous, AtomicInteger parses) throws IOException {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (previous != null && previous.size == attributes.size()
+                    && previous.lastModified.equals(attributes.lastModifiedTime())) {
+                return previous;
+            }
+
+            final byte[] bytes = Files.readAllBytes(path);
+            final CRC32C crc = new CRC32C();
+            crc.update(bytes);
+            final long hash = crc.getValue();
+            if (previous != null && previous.hash == hash && previous.size == bytes.length) {
+                return new Fragment(attributes.lastModifiedTime(), bytes.length, hash, previous.entries);
+            }
+
+            parses.incrementAndGet();
+            final Map<String, String> entries = new HashMap<>();
+            try (final PropertiesReader reader = new PropertiesReader(ByteBuffer.wrap(bytes), StandardCharsets.ISO_8859_1)) {
+                reader.forEach(entries::put);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return new Fragment(attributes.lastModifiedTime(), bytes.length, hash, entries);
+        }
+    }
+}
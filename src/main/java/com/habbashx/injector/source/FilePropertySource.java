@@ -20,14 +20,21 @@ import java.util.Properties;
  * </pre>
  *
  * <p>Thread-safety: This implementation is effectively read-only after construction,
- * assuming the underlying {@link Properties} object is not modified externally.</p>
+ * assuming the underlying {@link Properties} object is not modified externally.
+ * {@link #reload()} reads the file into a new {@link Properties} instance and publishes
+ * it atomically, so readers never observe a partially loaded file.</p>
  */
 public class FilePropertySource implements PropertySource {
 
+    /**
+     * The properties file this source reads from.
+     */
+    private final File file;
+
     /**
      * Internal storage for loaded key-value pairs from the properties file.
      */
-    private final Properties properties = new Properties();
+    private volatile Properties properties;
 
     /**
      * Loads properties from the specified file into memory.
@@ -39,13 +46,30 @@ public class FilePropertySource implements PropertySource {
      * @throws RuntimeException if the file cannot be read or an I/O error occurs
      */
     public FilePropertySource(File file) {
+        this.file = file;
+        this.properties = load(file);
+    }
+
+    /**
+     * Reads the file again and replaces the loaded properties.
+     *
+     * @throws RuntimeException if the file cannot be read or an I/O error occurs
+     */
+    @Override
+    public void reload() {
+        properties = load(file);
+    }
+
+    private static Properties load(File file) {
 
+        final Properties loaded = new Properties();
         try (final InputStream stream = new FileInputStream(file)){
 
-            properties.load(stream);
+            loaded.load(stream);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        return loaded;
     }
 
     /**
@@ -44,4 +44,15 @@ public interface PropertySource {
      */
     Properties getAll();
 
+    /**
+     * Reloads the properties from the underlying storage.
+     *
+     * <p>
+     * Sources that cannot change, or that always read through to their storage, keep the
+     * default implementation, which does nothing.
+     * </p>
+     */
+    default void reload() {
+    }
+
 }
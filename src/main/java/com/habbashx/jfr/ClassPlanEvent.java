@@ -0,0 +1,32 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyInjector} the first time it scans a class or loads it from a plan index, while building the
+ * field metadata that every later injection of the class reuses.
+ */
+@Name("com.habbashx.ClassPlan")
+@Label("Class Plan")
+@Category({"Property Parser", "Injection"})
+@Description("Scanning a class by reflection and building its cached field metadata.")
+@Threshold("0 ms")
+@StackTrace(false)
+public final class ClassPlanEvent extends Event {
+
+    @Label("Type")
+    public Class<?> type;
+
+    @Label("Field Count")
+    public int fieldCount;
+
+    @Label("Indexed")
+    @Description("Whether the metadata was built from a plan index instead of scanning annotations")
+    public boolean indexed;
+}
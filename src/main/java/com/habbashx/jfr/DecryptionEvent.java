@@ -0,0 +1,31 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyInjector} around every call to a {@code PropertyDecryptor},
+ * eager, deferred or in the parallel decryption phase.
+ */
+@Name("com.habbashx.Decryption")
+@Label("Decryption")
+@Category({"Property Parser", "Injection"})
+@Description("Decrypting a property value with the decryptor declared by @DecryptWith.")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class DecryptionEvent extends Event {
+
+    @Label("Declaring Class")
+    public Class<?> declaringClass;
+
+    @Label("Field")
+    public String field;
+
+    @Label("Decryptor")
+    public Class<?> decryptor;
+}
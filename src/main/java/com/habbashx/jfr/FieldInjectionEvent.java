@@ -0,0 +1,38 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyInjector} for each field whose injection, from placeholder resolution
+ * to setting the field, takes longer than the threshold. The raw and converted values are never recorded.
+ */
+@Name("com.habbashx.FieldInjection")
+@Label("Field Injection")
+@Category({"Property Parser", "Injection"})
+@Description("Injecting a single property into a field, from resolution to setting the field.")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class FieldInjectionEvent extends Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Declaring Class")
+    public Class<?> declaringClass;
+
+    @Label("Field")
+    public String field;
+
+    @Label("Value Type")
+    public Class<?> valueType;
+
+    @Label("Deferred")
+    @Description("Whether a Lazy, Supplier or Secret handle was injected instead of the converted value")
+    public boolean deferred;
+}
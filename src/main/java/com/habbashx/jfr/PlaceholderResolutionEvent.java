@@ -0,0 +1,29 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PlaceholderResolver} for values containing at least one {@code ${...}} placeholder.
+ * Only counts are recorded, as resolved values may contain secrets.
+ */
+@Name("com.habbashx.PlaceholderResolution")
+@Label("Placeholder Resolution")
+@Category({"Property Parser", "Resolution"})
+@Description("Replacing ${...} placeholders in a property value.")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class PlaceholderResolutionEvent extends Event {
+
+    @Label("Placeholders")
+    public int placeholders;
+
+    @Label("Unresolved")
+    @Description("Placeholders left in place because no property, system property or environment variable defines them")
+    public int unresolved;
+}
@@ -0,0 +1,27 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyManager.loadProperties()}.
+ */
+@Name("com.habbashx.PropertyLoad")
+@Label("Property Load")
+@Category({"Property Parser", "Persistence"})
+@Description("Loading a properties file into a PropertyManager.")
+@Threshold("0 ms")
+@StackTrace(false)
+public final class PropertyLoadEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Key Count")
+    public int keyCount;
+}
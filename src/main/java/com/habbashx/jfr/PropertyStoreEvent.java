@@ -0,0 +1,27 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyManager.storeProperties(String)}.
+ */
+@Name("com.habbashx.PropertyStore")
+@Label("Property Store")
+@Category({"Property Parser", "Persistence"})
+@Description("Writing the properties of a PropertyManager to its file.")
+@Threshold("0 ms")
+@StackTrace(false)
+public final class PropertyStoreEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Key Count")
+    public int keyCount;
+}
@@ -0,0 +1,28 @@
+package com.habbashx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@code PropertyInjector.reload()}, covering the reload of the property source and
+ * the reset of the deferred handles.
+ */
+@Name("com.habbashx.Reload")
+@Label("Reload")
+@Category({"Property Parser", "Injection"})
+@Description("Reloading the property source of a PropertyInjector and resetting its deferred handles.")
+@Threshold("0 ms")
+@StackTrace(false)
+public final class ReloadEvent extends Event {
+
+    @Label("Property Source")
+    public Class<?> source;
+
+    @Label("Reset Handles")
+    public int resetHandles;
+}
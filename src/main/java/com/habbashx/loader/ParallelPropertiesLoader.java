@@ -0,0 +1,280 @@
+package com.habbashx.loader;
+
+import com.habbashx.property.PropertiesStore;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Loads a large {@code .properties} file on a fork/join pool.
+ *
+ * <p>
+ * The file is cut into chunks of roughly equal size, each ending at a line terminator that
+ * closes a logical line: a {@code \n} whose line does not end with an odd number of backslashes,
+ * so a chunk never ends inside a continuation. The chunks are memory-mapped and parsed by
+ * {@link PropertiesReader}s in parallel, and their entries are merged into the store in file
+ * order, so a key that occurs more than once keeps its last value, as with
+ * {@link java.util.Properties#load(java.io.InputStream)}.
+ * </p>
+ *
+ * <pre>{@code
+ * new ParallelPropertiesLoader().load(Path.of("export.properties"), propertiesStore);
+ * }</pre>
+ *
+ * <p>
+ * Only the parsing is parallel. The merge into the store is sequential and runs inside
+ * {@link PropertiesStore#replaceAll(java.util.function.Consumer)}, which holds the store lock for
+ * the whole merge: writers to the store block until every entry has been merged, while readers keep
+ * seeing the previous snapshot. The lock is not held while the chunks are parsed.
+ * </p>
+ *
+ * <p>
+ * Files smaller than {@link #MIN_CHUNK_SIZE} are parsed as a single chunk. The charset must encode
+ * {@code \n}, {@code \r} and {@code \\} as the single ASCII bytes, as ISO-8859-1 and UTF-8 do.
+ * </p>
+ */
+public final class ParallelPropertiesLoader {
+
+    /**
+     * Smallest chunk worth a task of its own.
+     */
+    public static final int MIN_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Number of chunks per worker, so that uneven chunks still keep every worker busy.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    private final Charset charset;
+
+    private final int minChunkSize;
+
+    /**
+     * Creates a loader of ISO-8859-1 files running on the common fork-join pool.
+     */
+    public ParallelPropertiesLoader() {
+        this(ForkJoinPool.commonPool(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param pool the pool the chunks are parsed on
+     * @param charset the encoding of the files
+     */
+    public ParallelPropertiesLoader(@NotNull ForkJoinPool pool, @NotNull Charset charset) {
+        this(pool, charset, MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a loader with a smaller chunk size, so that tests can place chunk boundaries anywhere.
+     *
+     * @param minChunkSize the smallest chunk worth a task of its own, in bytes
+     */
+    ParallelPropertiesLoader(@NotNull ForkJoinPool pool, @NotNull Charset charset, int minChunkSize) {
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("minChunkSize must be positive: " + minChunkSize);
+        }
+        this.pool = pool;
+        this.charset = charset;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Replaces the content of a store with the entries of a file. The file is parsed before the
+     * store is locked; the store lock is then held while all entries are merged, blocking writers.
+     *
+     * @param path the file
+     * @param store the store
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains a malformed {@code \\uXXXX} escape
+     * @see PropertiesStore#replaceAll(java.util.function.Consumer)
+     */
+    public void load(@NotNull Path path, @NotNull PropertiesStore store) {
+        final Chunk[] chunks = parse(path);
+        store.replaceAll(sink -> {
+            for (final Chunk chunk : chunks) {
+                chunk.forEach(sink::accept);
+            }
+        });
+    }
+
+    /**
+     * Parses a file and hands its entries to a visitor, in file order.
+     *
+     * @param path the file
+     * @param visitor receives the entries, including repeated keys, on the calling thread
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    public void forEach(@NotNull Path path, @NotNull PropertyVisitor visitor) {
+        for (final Chunk chunk : parse(path)) {
+            chunk.forEach(visitor);
+        }
+    }
+
+    private Chunk[] parse(Path path) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long[] bounds = split(channel);
+            final Chunk[] chunks = new Chunk[bounds.length - 1];
+            pool.invoke(new ParseTask(channel, bounds, chunks, 0, chunks.length));
+            return chunks;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Computes the chunk boundaries: {@code bounds[i]} to {@code bounds[i + 1]} is chunk {@code i}.
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long target = Math.max(minChunkSize, size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD) + 1);
+
+        final List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+        long start = 0;
+        while (size - start > target) {
+            final long end = nextLineBoundary(channel, start + target, size, buffer);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Logical line longer than 2 GiB at offset " + start);
+            }
+            bounds.add(end);
+            start = end;
+        }
+        if (start < size) {
+            bounds.add(size);
+        }
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * @return the offset just after the first {@code \n} at or after {@code from} that ends a
+     * logical line, or {@code size} if there is none
+     */
+    private static long nextLineBoundary(FileChannel channel, long from, long size, ByteBuffer buffer) throws IOException {
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n' && trailingBackslashes(channel, position + i) % 2 == 0) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Counts the backslashes ending the line terminated at {@code newline}, looking past a
+     * {@code \r} of a {@code \r\n} terminator.
+     */
+    private static int trailingBackslashes(FileChannel channel, long newline) throws IOException {
+        final ByteBuffer one = ByteBuffer.allocate(1);
+        long position = newline - 1;
+        if (position >= 0 && readByte(channel, position, one) == '\r') {
+            position--;
+        }
+        int count = 0;
+        while (position >= 0 && readByte(channel, position, one) == '\\') {
+            count++;
+            position--;
+        }
+        return count;
+    }
+
+    private static byte readByte(FileChannel channel, long position, ByteBuffer one) throws IOException {
+        one.clear();
+        channel.read(one, position);
+        return one.get(0);
+    }
+
+    /**
+     * Parses a range of chunks, splitting it in halves until a single chunk is left.
+     */
+    private final class ParseTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = -6950432585133781924L;
+
+        private final FileChannel channel;
+
+        private final long[] bounds;
+
+        private final Chunk[] chunks;
+
+        private final int from;
+
+        private final int to;
+
+        ParseTask(FileChannel channel, long[] bounds, Chunk[] chunks, int from, int to) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ParseTask(channel, bounds, chunks, from, middle),
+                        new ParseTask(channel, bounds, chunks, middle, to));
+            } else if (to > from) {
+                try {
+                    final long start = bounds[from];
+                    final ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, bounds[from + 1] - start);
+                    final Chunk chunk = new Chunk();
+                    new PropertiesReader(bytes, charset).forEach(chunk);
+                    chunks[from] = chunk;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Entries of one chunk in file order, as alternating keys and values.
+     */
+    private static final class Chunk implements PropertyVisitor {
+
+        private String[] entries = new String[64];
+
+        private int size;
+
+        @Override
+        public void visit(String key, String value) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = key;
+            entries[size++] = value;
+        }
+
+        void forEach(PropertyVisitor visitor) {
+            for (int i = 0; i < size; i += 2) {
+                visitor.visit(entries[i], entries[i + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.habbashx.loader;
+
+import com.habbashx.property.PropertiesStore;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Incremental parser of the {@code .properties} format, reading from a channel with bounded memory.
+ *
+ * <p>
+ * Unlike {@link java.util.Properties#load(java.io.InputStream)}, nothing is collected: entries
+ * are handed to a {@link PropertyVisitor} or exposed as a {@link Stream} as soon as they are
+ * parsed, so memory use is a fixed read buffer plus the longest logical line, whatever the size
+ * of the file. The syntax is the one of {@code Properties.load}: {@code #} and {@code !} comments,
+ * {@code =}, {@code :} or whitespace separators, backslash line continuations, and the
+ * {@code \t \n \r \f \\uXXXX} escapes.
+ * </p>
+ *
+ * <pre>{@code
+ * try (Stream<Map.Entry<String, String>> entries = PropertiesReader.stream(path)) {
+ *     entries.filter(e -> e.getKey().startsWith("export.")).forEach(...);
+ * }
+ *
+ * PropertiesReader.load(path, propertiesStore);
+ * }</pre>
+ *
+ * <p>Not thread-safe; a reader is confined to one thread.</p>
+ */
+public final class PropertiesReader implements Closeable {
+
+    /**
+     * Size of the byte buffer the channel is read into.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Channel the bytes are read from, or {@code null} if all bytes are already in {@link #bytes}.
+     */
+    private final ReadableByteChannel channel;
+
+    private final CharsetDecoder decoder;
+
+    private final ByteBuffer bytes;
+
+    private final CharBuffer chars = CharBuffer.allocate(8 * 1024).flip();
+
+    /**
+     * Current logical line, with continuations joined. Grows to the longest line.
+     */
+    private char[] line = new char[256];
+
+    /**
+     * Scratch buffer for unescaping keys and values.
+     */
+    private char[] converted = new char[256];
+
+    private boolean endOfInput;
+
+    private boolean finished;
+
+    /**
+     * Creates a reader of an ISO-8859-1 channel, the encoding of {@code Properties.load(InputStream)}.
+     *
+     * @param channel the channel; closed by {@link #close()}
+     */
+    public PropertiesReader(@NotNull ReadableByteChannel channel) {
+        this(channel, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param channel the channel; closed by {@link #close()}
+     * @param charset the encoding of the channel
+     */
+    public PropertiesReader(@NotNull ReadableByteChannel channel, @NotNull Charset charset) {
+        this.channel = channel;
+        this.decoder = decoder(charset);
+        this.bytes = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    }
+
+    /**
+     * Creates a reader of bytes that are already in memory, e.g. a region of a mapped file.
+     *
+     * @param bytes the bytes between position and limit are parsed
+     * @param charset the encoding of the bytes
+     */
+    public PropertiesReader(@NotNull ByteBuffer bytes, @NotNull Charset charset) {
+        this.channel = null;
+        this.decoder = decoder(charset);
+        this.bytes = bytes;
+        this.endOfInput = true;
+    }
+
+    /**
+     * Opens a reader of an ISO-8859-1 file.
+     *
+     * @param path the file
+     * @return the reader
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    @Contract("_ -> new")
+    public static @NotNull PropertiesReader open(@NotNull Path path) {
+        try {
+            return new PropertiesReader(FileChannel.open(path, StandardOpenOption.READ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Streams the entries of an ISO-8859-1 file lazily. The file is closed when the stream is closed.
+     *
+     * @param path the file
+     * @return the entries in file order, including repeated keys
+     */
+    public static @NotNull Stream<Map.Entry<String, String>> stream(@NotNull Path path) {
+        return open(path).entries();
+    }
+
+    /**
+     * Replaces the content of a store with the entries of an ISO-8859-1 file, feeding them into
+     * the store as they are parsed, without an intermediate {@link java.util.Properties}.
+     *
+     * @param path the file
+     * @param store the store
+     * @throws UncheckedIOException if the file cannot be read
+     * @see PropertiesStore#replaceAll(Consumer)
+     */
+    public static void load(@NotNull Path path, @NotNull PropertiesStore store) {
+        try (final PropertiesReader reader = open(path)) {
+            store.replaceAll(sink -> reader.forEach(sink::accept));
+        }
+    }
+
+    /**
+     * Parses the next entry and hands it to the visitor.
+     *
+     * @param visitor receives the entry
+     * @return {@code false} if the end of the input was reached and no entry was visited
+     * @throws UncheckedIOException if the channel cannot be read
+     * @throws IllegalArgumentException if the input contains a malformed {@code \\uXXXX} escape
+     */
+    public boolean next(@NotNull PropertyVisitor visitor) {
+        try {
+            final int limit = readLine();
+            if (limit < 0) {
+                return false;
+            }
+            visit(line, limit, visitor);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses every remaining entry and hands it to the visitor.
+     *
+     * @param visitor receives the entries, in file order
+     * @throws UncheckedIOException if the channel cannot be read
+     */
+    public void forEach(@NotNull PropertyVisitor visitor) {
+        while (next(visitor)) {
+            // visits one entry per call
+        }
+    }
+
+    /**
+     * Exposes the remaining entries as a sequential, lazily parsed stream. Closing the stream
+     * closes this reader.
+     *
+     * @return the entries in file order, including repeated keys
+     */
+    public @NotNull Stream<Map.Entry<String, String>> entries() {
+        final Spliterator<Map.Entry<String, String>> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Map.Entry<String, String>> action) {
+                return next((key, value) -> action.accept(Map.entry(key, value)));
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Splits a logical line into key and value, as {@code Properties.load} does, and visits them.
+     */
+    private void visit(char[] line, int limit, PropertyVisitor visitor) {
+        int keyLength = 0;
+        int valueStart = limit;
+        boolean hasSeparator = false;
+        boolean precedingBackslash = false;
+
+        while (keyLength < limit) {
+            final char c = line[keyLength];
+            if ((c == '=' || c == ':') && !precedingBackslash) {
+                valueStart = keyLength + 1;
+                hasSeparator = true;
+                break;
+            } else if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+                valueStart = keyLength + 1;
+                break;
+            }
+            precedingBackslash = c == '\\' && !precedingBackslash;
+            keyLength++;
+        }
+        while (valueStart < limit) {
+            final char c = line[valueStart];
+            if (c != ' ' && c != '\t' && c != '\f') {
+                if (!hasSeparator && (c == '=' || c == ':')) {
+                    hasSeparator = true;
+                } else {
+                    break;
+                }
+            }
+            valueStart++;
+        }
+        visitor.visit(unescape(line, 0, keyLength), unescape(line, valueStart, limit - valueStart));
+    }
+
+    /**
+     * Reads the next logical line into {@link #line}, skipping blank lines and comments and
+     * joining continuation lines, exactly as {@code Properties.load} does.
+     *
+     * @return the length of the line, or {@code -1} at the end of the input
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean skipWhitespace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+
+        while (true) {
+            if (!chars.hasRemaining() && !fill()) {
+                if (length == 0) {
+                    return -1;
+                }
+                return precedingBackslash ? length - 1 : length;
+            }
+            final char c = chars.get();
+
+            if (skipWhitespace) {
+                if (c == ' ' || c == '\t' || c == '\f') {
+                    continue;
+                }
+                if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+            if (length == 0 && (c == '#' || c == '!')) {
+                if (!skipComment()) {
+                    return -1;
+                }
+                skipWhitespace = true;
+                continue;
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+            } else if (length == 0) {
+                skipWhitespace = true;
+            } else if (!chars.hasRemaining() && !fill()) {
+                return precedingBackslash ? length - 1 : length;
+            } else if (precedingBackslash) {
+                length--;
+                skipWhitespace = true;
+                appendedLineBegin = true;
+                precedingBackslash = false;
+                if (c == '\r' && chars.get(chars.position()) == '\n') {
+                    chars.get();
+                }
+            } else {
+                return length;
+            }
+        }
+    }
+
+    /**
+     * Consumes the rest of a comment line, up to and including its line terminator.
+     *
+     * @return {@code false} if the input ended inside the comment
+     */
+    private boolean skipComment() throws IOException {
+        while (true) {
+            while (chars.hasRemaining()) {
+                final char c = chars.get();
+                if (c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Refills {@link #chars} from the byte buffer and the channel.
+     *
+     * @return {@code false} if the input is exhausted
+     */
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (!finished && chars.position() == 0) {
+            final CoderResult result = decoder.decode(bytes, chars, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (chars.position() > 0) {
+                break;
+            }
+            if (endOfInput) {
+                decoder.flush(chars);
+                finished = true;
+                break;
+            }
+            bytes.compact();
+            final int read = channel.read(bytes);
+            bytes.flip();
+            if (read < 0) {
+                endOfInput = true;
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    /**
+     * Processes the escapes of a key or value, as {@code Properties.load} does.
+     */
+    private String unescape(char[] in, int offset, int length) {
+        final int end = offset + length;
+        int escape = offset;
+        while (escape < end && in[escape] != '\\') {
+            escape++;
+        }
+        if (escape == end) {
+            return new String(in, offset, length);
+        }
+
+        if (converted.length < length) {
+            converted = new char[Math.max(length, converted.length * 2)];
+        }
+        final char[] out = converted;
+        int outLength = escape - offset;
+        System.arraycopy(in, offset, out, 0, outLength);
+
+        int i = escape;
+        while (i < end) {
+            char c = in[i++];
+            if (c == '\\' && i < end) {
+                c = in[i++];
+                if (c == 'u') {
+                    if (i + 4 > end) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int j = 0; j < 4; j++) {
+                        final int digit = Character.digit(in[i++], 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    out[outLength++] = (char) value;
+                    continue;
+                }
+                c = switch (c) {
+                    case 't' -> '\t';
+                    case 'r' -> '\r';
+                    case 'n' -> '\n';
+                    case 'f' -> '\f';
+                    default -> c;
+                };
+            }
+            out[outLength++] = c;
+        }
+        return new String(out, 0, outLength);
+    }
+
+    private static CharsetDecoder decoder(Charset charset) {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.habbashx.loader;
+
+/**
+ * Receives the entries of a properties file one at a time, as they are parsed.
+ *
+ * @see PropertiesReader#forEach(PropertyVisitor)
+ */
+@FunctionalInterface
+public interface PropertyVisitor {
+
+    /**
+     * Called for every entry, in file order. A key occurring more than once is visited once per
+     * occurrence; the last occurrence is the one {@link java.util.Properties} would keep.
+     *
+     * @param key the unescaped key
+     * @param value the unescaped value
+     */
+    void visit(String key, String value);
+}
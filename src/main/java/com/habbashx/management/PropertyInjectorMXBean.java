@@ -0,0 +1,33 @@
+package com.habbashx.management;
+
+/**
+ * Management interface of a {@link com.habbashx.injector.PropertyInjector}, registered through
+ * {@link PropertyParserMBeans#register(String, com.habbashx.injector.PropertyInjector)}.
+ */
+public interface PropertyInjectorMXBean {
+
+    long getInjectionCount();
+
+    long getInjectedFieldCount();
+
+    long getFailedInjectionCount();
+
+    /**
+     * @return the number of classes whose field metadata is cached, shared by all injectors
+     */
+    int getCachedClassCount();
+
+    /**
+     * @return the number of live {@code Lazy}, {@code Supplier} and {@code Secret} handles
+     */
+    int getDeferredHandleCount();
+
+    boolean isParallelDecryption();
+
+    void setParallelDecryption(boolean parallelDecryption);
+
+    /**
+     * Reloads the property source and resets all deferred handles.
+     */
+    void reload();
+}
@@ -0,0 +1,57 @@
+package com.habbashx.management;
+
+/**
+ * Management interface of a {@link com.habbashx.manager.PropertyManager}, registered through
+ * {@link PropertyParserMBeans#register(com.habbashx.manager.PropertyManager)}.
+ */
+public interface PropertyManagerMXBean {
+
+    /**
+     * @return the path of the managed properties file
+     */
+    String getFile();
+
+    /**
+     * @return the number of keys in the properties store
+     */
+    int getKeyCount();
+
+    /**
+     * @return the estimated heap retained by the loaded keys and values, in bytes
+     */
+    long getEstimatedBytes();
+
+    long getLoadCount();
+
+    /**
+     * @return the average duration of a load, in milliseconds
+     */
+    double getAverageLoadMillis();
+
+    long getStoreCount();
+
+    /**
+     * @return the average duration of a store, in milliseconds
+     */
+    double getAverageStoreMillis();
+
+    /**
+     * @return {@code true} if the store has changes that have not been written to the file
+     */
+    boolean isDirty();
+
+    /**
+     * @return the time of the last load as an ISO-8601 instant
+     */
+    String getLastReloadTime();
+
+    /**
+     * Reloads the properties file into the store.
+     */
+    void reload();
+
+    /**
+     * Writes the store to the properties file.
+     */
+    void flush();
+}
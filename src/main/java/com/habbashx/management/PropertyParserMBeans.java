@@ -0,0 +1,205 @@
+package com.habbashx.management;
+
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.manager.PropertyManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+
+/**
+ * Registers optional MBeans for {@link PropertyManager} and {@link PropertyInjector} instances
+ * on the platform {@link MBeanServer}, under the {@code com.habbashx} domain.
+ *
+ * <pre>{@code
+ * ObjectName name = PropertyParserMBeans.register(propertyManager);
+ * ...
+ * PropertyParserMBeans.unregister(name);
+ * }</pre>
+ *
+ * <p>The MBeans read the counters the manager and injector maintain anyway, so registering them
+ * adds no cost to loading, storing or injection.</p>
+ */
+public final class PropertyParserMBeans {
+
+    private static final String DOMAIN = "com.habbashx";
+
+    private PropertyParserMBeans() {
+    }
+
+    /**
+     * Registers an MBean named {@code com.habbashx:type=PropertyManager,name="<file>"}.
+     *
+     * @param propertyManager the manager to expose
+     * @return the name the MBean was registered under
+     * @throws RuntimeException if the MBean cannot be registered, e.g. because the name is taken
+     */
+    public static @NotNull ObjectName register(@NotNull PropertyManager propertyManager) {
+        return register(name("PropertyManager", propertyManager.getFile().getPath()), new ManagerMXBean(propertyManager));
+    }
+
+    /**
+     * Registers an MBean named {@code com.habbashx:type=PropertyInjector,name="<name>"}.
+     *
+     * @param name the name identifying the injector
+     * @param propertyInjector the injector to expose
+     * @return the name the MBean was registered under
+     * @throws RuntimeException if the MBean cannot be registered, e.g. because the name is taken
+     */
+    public static @NotNull ObjectName register(@NotNull String name, @NotNull PropertyInjector propertyInjector) {
+        return register(name("PropertyInjector", name), new InjectorMXBean(propertyInjector));
+    }
+
+    /**
+     * Unregisters an MBean registered by this class. Does nothing if it is not registered.
+     *
+     * @param name the name returned on registration
+     */
+    public static void unregister(@NotNull ObjectName name) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static @NotNull ObjectName register(@NotNull ObjectName name, @NotNull Object mbean) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+            return name;
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static @NotNull ObjectName name(@NotNull String type, @NotNull String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0.0 : totalNanos / 1e6 / count;
+    }
+
+    private static final class ManagerMXBean implements PropertyManagerMXBean {
+
+        private final PropertyManager propertyManager;
+
+        private ManagerMXBean(PropertyManager propertyManager) {
+            this.propertyManager = propertyManager;
+        }
+
+        @Override
+        public String getFile() {
+            return propertyManager.getFile().getPath();
+        }
+
+        @Override
+        public int getKeyCount() {
+            return propertyManager.getPropertiesStore().getPropertyElements().size();
+        }
+
+        @Override
+        public long getEstimatedBytes() {
+            return propertyManager.getEstimatedBytes();
+        }
+
+        @Override
+        public long getLoadCount() {
+            return propertyManager.getLoadCount();
+        }
+
+        @Override
+        public double getAverageLoadMillis() {
+            return averageMillis(propertyManager.getLoadNanos(), propertyManager.getLoadCount());
+        }
+
+        @Override
+        public long getStoreCount() {
+            return propertyManager.getStoreCount();
+        }
+
+        @Override
+        public double getAverageStoreMillis() {
+            return averageMillis(propertyManager.getStoreNanos(), propertyManager.getStoreCount());
+        }
+
+        @Override
+        public boolean isDirty() {
+            return propertyManager.isDirty();
+        }
+
+        @Override
+        public String getLastReloadTime() {
+            return Instant.ofEpochMilli(propertyManager.getLastLoadTime()).toString();
+        }
+
+        @Override
+        public void reload() {
+            propertyManager.loadProperties();
+        }
+
+        @Override
+        public void flush() {
+            propertyManager.store();
+        }
+    }
+
+    private static final class InjectorMXBean implements PropertyInjectorMXBean {
+
+        private final PropertyInjector propertyInjector;
+
+        private InjectorMXBean(PropertyInjector propertyInjector) {
+            this.propertyInjector = propertyInjector;
+        }
+
+        @Override
+        public long getInjectionCount() {
+            return propertyInjector.getInjectionCount();
+        }
+
+        @Override
+        public long getInjectedFieldCount() {
+            return propertyInjector.getInjectedFieldCount();
+        }
+
+        @Override
+        public long getFailedInjectionCount() {
+            return propertyInjector.getFailedInjectionCount();
+        }
+
+        @Override
+        public int getCachedClassCount() {
+            return propertyInjector.getCachedClassCount();
+        }
+
+        @Override
+        public int getDeferredHandleCount() {
+            return propertyInjector.getDeferredHandleCount();
+        }
+
+        @Override
+        public boolean isParallelDecryption() {
+            return propertyInjector.isParallelDecryption();
+        }
+
+        @Override
+        public void setParallelDecryption(boolean parallelDecryption) {
+            propertyInjector.setParallelDecryption(parallelDecryption);
+        }
+
+        @Override
+        public void reload() {
+            propertyInjector.reload();
+        }
+    }
+}
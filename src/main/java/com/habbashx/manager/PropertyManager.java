@@ -1,17 +1,22 @@
 package com.habbashx.manager;
 
+import com.habbashx.jfr.PropertyLoadEvent;
+import com.habbashx.jfr.PropertyStoreEvent;
+import com.habbashx.loader.PropertiesReader;
 import com.habbashx.property.PropertiesStore;
+import com.habbashx.property.PropertyChange;
+import com.habbashx.property.PropertyChangePublisher;
 import com.habbashx.property.PropertyElement;
-import com.habbashx.property.PropertyValue;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import java.util.Properties;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class manages loading, storing, and retrieving properties from a file using
@@ -40,7 +45,27 @@ public class PropertyManager {
      */
     private final PropertiesStore propertiesStore;
     private final File file;
-    private final Properties properties = new Properties();
+
+    /**
+     * Rough per-entry overhead of a loaded property (map node, element, value and the two
+     * String headers), added to the character data by {@link #getEstimatedBytes()}.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder storeCount = new LongAdder();
+    private final LongAdder storeNanos = new LongAdder();
+
+    /**
+     * Wall-clock time of the last successful {@link #loadProperties()}, in epoch milliseconds.
+     */
+    private volatile long lastLoadTime;
+
+    /**
+     * {@link PropertiesStore#getModificationCount()} as of the last load or {@link #store()}.
+     */
+    private volatile long cleanModificationCount;
 
 
     public PropertyManager(String targetFile) {
@@ -59,31 +84,19 @@ public class PropertyManager {
 
 
     /**
-     * Persists the current property values from the {@code PropertiesStore} into the internal
-     * {@code Properties} object and subsequently saves them to the corresponding file.
-     *
-     * This method iterates over all {@code PropertyElement} instances in the {@code PropertiesStore},
-     * retrieves their raw values through their respective keys, and sets these values in
-     * the internal {@code Properties} object. The persisted properties are then written
-     * to disk using {@link #storeProperties()}.
-     *
-     * Steps performed:
-     * 1. Iterates over all {@code PropertyElement} entries in the {@code PropertiesStore}.
-     * 2. Updates the internal {@code Properties} object with the key-value pairs, where the
-     *    key is the property key and the value is the raw value of the property.
-     * 3. Calls {@link #storeProperties()} to write the updated properties to disk.
+     * Persists the current property values of the {@code PropertiesStore} to the corresponding
+     * file through {@link #storeProperties()}, and marks the store as clean.
      *
      * Throws a runtime exception if an error occurs during the disk storage process.
      */
     public void store() {
-        for (PropertyElement element : propertiesStore.getPropertyElements().values()) {
-            properties.setProperty(element.getKey(),element.getPropertyValue().getRawValue());
-        }
+        final long modificationCount = propertiesStore.getModificationCount();
         storeProperties();
+        cleanModificationCount = modificationCount;
     }
 
     /**
-     * Saves the current properties from the internal {@code Properties} object
+     * Saves the current properties of the {@code PropertiesStore}
      * to the associated file without adding any comments.
      *
      * This method delegates the actual storage process to the overloaded
@@ -101,7 +114,7 @@ public class PropertyManager {
     /**
      * Saves the current properties to the specified file along with optional comments.
      *
-     * This method writes the properties contained in the internal {@code Properties} object
+     * This method writes the raw values contained in the {@code PropertiesStore}
      * to the file provided via the {@code file} attribute. An optional comment can be
      * included at the top of the file to describe the properties being stored.
      *
@@ -110,11 +123,26 @@ public class PropertyManager {
      * @throws RuntimeException if an {@code IOException} occurs during the saving process
      */
     public void storeProperties(String comments) {
+        final long start = System.nanoTime();
+        final PropertyStoreEvent event = new PropertyStoreEvent();
+        event.begin();
+        final Properties properties = new Properties();
+        for (final PropertyElement element : propertiesStore.snapshot().getPropertyElements().values()) {
+            properties.setProperty(element.getKey(), element.getPropertyValue().getRawValue());
+        }
         try (final OutputStream outputStream = new FileOutputStream(file)) {
             properties.store(outputStream,comments);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = file.getPath();
+            event.keyCount = properties.size();
+            event.commit();
+        }
+        storeNanos.add(System.nanoTime() - start);
+        storeCount.increment();
     }
 
     /**
@@ -123,9 +151,10 @@ public class PropertyManager {
      * parses the properties, and updates the `propertiesStore` with the loaded key-value pairs.
      *
      * The method performs the following actions:
-     * - Clears the existing property elements in the `propertiesStore`.
-     * - Reads key-value pairs from the properties file and converts them into `PropertyValue` and `PropertyElement` objects.
-     * - Populates the `propertiesStore` with these `PropertyElement` objects.
+     * - Parses key-value pairs from the properties file incrementally with a {@link PropertiesReader}.
+     * - Feeds them straight into the `propertiesStore` through `PropertiesStore.replaceAll`, so the
+     *   file is never held in memory twice, and publishes only the added, changed and removed keys
+     *   to change subscribers.
      *
      * If an I/O error occurs while reading the properties file, a `RuntimeException` is thrown.
      *
@@ -133,19 +162,43 @@ public class PropertyManager {
      * - RuntimeException if an IOException is encountered while reading the properties file.
      */
     public void loadProperties() {
-        try (final InputStream inputStream = new FileInputStream(file)) {
-            properties.load(inputStream);
+        final long start = System.nanoTime();
+        final PropertyLoadEvent event = new PropertyLoadEvent();
+        event.begin();
+        try {
+            PropertiesReader.load(file.toPath(), propertiesStore);
+        } catch (UncheckedIOException e){
+            throw new RuntimeException(e.getCause());
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = file.getPath();
+            event.keyCount = propertiesStore.getPropertyElements().size();
+            event.commit();
+        }
+        cleanModificationCount = propertiesStore.getModificationCount();
+        lastLoadTime = System.currentTimeMillis();
+        loadNanos.add(System.nanoTime() - start);
+        loadCount.increment();
+    }
 
-            propertiesStore.getPropertyElements().clear();
+    /**
+     * Returns the publisher of the changes of the managed store. A reload publishes only the keys
+     * that were added, changed or removed, as one batch.
+     *
+     * @return the change publisher
+     * @see PropertiesStore#getChangePublisher()
+     */
+    public PropertyChangePublisher getChangePublisher() {
+        return propertiesStore.getChangePublisher();
+    }
 
-            for (final String key : properties.stringPropertyNames()) {
-                final String rawValue = properties.getProperty(key);
-                final PropertyValue value = new PropertyValue(rawValue);
-                propertiesStore.addProperty(key, value);
-            }
-        } catch (IOException e){
-            throw new RuntimeException(e);
-        }
+    /**
+     * @param prefix the key prefix
+     * @return a publisher of the changes of every key starting with {@code prefix}
+     */
+    public Flow.Publisher<PropertyChange> changes(String prefix) {
+        return propertiesStore.getChangePublisher().forPrefix(prefix);
     }
 
     /**
@@ -156,4 +209,72 @@ public class PropertyManager {
     public PropertiesStore getPropertiesStore() {
         return propertiesStore;
     }
+
+    /**
+     * @return the file this manager loads from and stores to
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return the number of completed {@link #loadProperties()} calls, including the initial load
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * @return the total time spent in completed {@link #loadProperties()} calls, in nanoseconds
+     */
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    /**
+     * @return the number of completed writes to the file
+     */
+    public long getStoreCount() {
+        return storeCount.sum();
+    }
+
+    /**
+     * @return the total time spent writing the file, in nanoseconds
+     */
+    public long getStoreNanos() {
+        return storeNanos.sum();
+    }
+
+    /**
+     * @return the time of the last completed {@link #loadProperties()}, in epoch milliseconds
+     */
+    public long getLastLoadTime() {
+        return lastLoadTime;
+    }
+
+    /**
+     * Returns whether the {@code PropertiesStore} was modified through its API since it was
+     * last loaded or persisted with {@link #store()}.
+     *
+     * @return {@code true} if there are changes that have not been stored
+     */
+    public boolean isDirty() {
+        return propertiesStore.getModificationCount() != cleanModificationCount;
+    }
+
+    /**
+     * Estimates the heap retained by the loaded properties: the characters of every key and
+     * raw value plus a fixed per-entry overhead. Walks the whole store, so it is meant for
+     * monitoring rather than for hot paths.
+     *
+     * @return the estimated retained size in bytes
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (final PropertyElement element : propertiesStore.snapshot().getPropertyElements().values()) {
+            final String rawValue = element.getPropertyValue().getRawValue();
+            bytes += ENTRY_OVERHEAD_BYTES + element.getKey().length() + (rawValue == null ? 0 : rawValue.length());
+        }
+        return bytes;
+    }
 }
\ No newline at end of file
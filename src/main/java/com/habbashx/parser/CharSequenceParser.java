@@ -0,0 +1,399 @@
+package com.habbashx.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * The {@code CharSequenceParser} class provides allocation-free parsers for numbers,
+ * durations, data sizes and percentages that operate directly on a range of a
+ * {@link CharSequence}.
+ *
+ * Because every method takes a {@code start}/{@code end} range, callers can parse
+ * values that are backed by a larger buffer (for example a {@code CharBuffer} over a
+ * memory-mapped file) without creating an intermediate {@code String}. Leading and
+ * trailing whitespace inside the range is ignored.
+ *
+ * Only the failure paths allocate: a {@code NumberFormatException} or
+ * {@code IllegalArgumentException} is thrown with the offending text in its message.
+ */
+public final class CharSequenceParser {
+
+    /**
+     * Powers of ten that are exactly representable as {@code double}.
+     */
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Largest mantissa that is exactly representable as {@code double}.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final long KB = 1000L;
+    private static final long KIB = 1024L;
+
+    private CharSequenceParser() {
+    }
+
+    /**
+     * Parses a signed decimal {@code long} from the given range.
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the range does not contain a valid {@code long}
+     */
+    public static long parseLong(@NotNull CharSequence value, int start, int end) {
+        start = skipLeadingWhitespace(value, start, end);
+        end = skipTrailingWhitespace(value, start, end);
+
+        if (start == end) {
+            throw numberFormat(value, start, end);
+        }
+
+        final char first = value.charAt(start);
+        final boolean negative = first == '-';
+        int index = negative || first == '+' ? start + 1 : start;
+
+        if (index == end) {
+            throw numberFormat(value, start, end);
+        }
+
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / 10;
+        long result = 0;
+
+        // accumulate negatively so that Long.MIN_VALUE can be represented
+        while (index < end) {
+            final int digit = digit(value.charAt(index++));
+            if (digit < 0 || result < multiplicationLimit) {
+                throw numberFormat(value, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormat(value, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a signed decimal {@code int} from the given range.
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the range does not contain a valid {@code int}
+     */
+    public static int parseInt(@NotNull CharSequence value, int start, int end) {
+        final long result = parseLong(value, start, end);
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw numberFormat(value, start, end);
+        }
+        return (int) result;
+    }
+
+    /**
+     * Parses a signed decimal number with an optional fraction (for example {@code -12.75})
+     * from the given range.
+     *
+     * <p>Values with up to 15 significant digits are converted without allocation and are
+     * correctly rounded. Longer values, or values using an exponent, fall back to
+     * {@link Double#parseDouble(String)}.</p>
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the range does not contain a valid number
+     */
+    public static double parseDouble(@NotNull CharSequence value, int start, int end) {
+        start = skipLeadingWhitespace(value, start, end);
+        end = skipTrailingWhitespace(value, start, end);
+
+        if (start == end) {
+            throw numberFormat(value, start, end);
+        }
+
+        final char first = value.charAt(start);
+        final boolean negative = first == '-';
+        int index = negative || first == '+' ? start + 1 : start;
+
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+
+        for (; index < end; index++) {
+            final char c = value.charAt(index);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            final int digit = digit(c);
+            if (digit < 0 || mantissa >= MAX_EXACT_MANTISSA / 10) {
+                // exponent, overlong mantissa or malformed input: let the JDK decide
+                return Double.parseDouble(value.subSequence(start, end).toString());
+            }
+            mantissa = mantissa * 10 + digit;
+            digits++;
+            if (fraction) {
+                scale++;
+            }
+        }
+
+        if (digits == 0) {
+            throw numberFormat(value, start, end);
+        }
+        if (scale >= POW10.length) {
+            // more fraction digits than exact powers of ten, e.g. leading zeros: let the JDK decide
+            return Double.parseDouble(value.subSequence(start, end).toString());
+        }
+
+        final double result = mantissa / POW10[scale];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a duration from the given range.
+     *
+     * <p>Accepted forms are a number followed by an optional unit, e.g. {@code 250ms},
+     * {@code 1.5s} or {@code 10 m}, and ISO-8601 durations such as {@code PT5S}. Supported
+     * units are {@code ns}, {@code us}/{@code µs}, {@code ms}, {@code s}, {@code m},
+     * {@code h} and {@code d}; units are case-insensitive and a bare number is
+     * interpreted as milliseconds.</p>
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the parsed duration
+     * @throws IllegalArgumentException if the range does not contain a valid duration
+     */
+    public static @NotNull Duration parseDuration(@NotNull CharSequence value, int start, int end) {
+        start = skipLeadingWhitespace(value, start, end);
+        end = skipTrailingWhitespace(value, start, end);
+
+        final int signOffset = start < end && value.charAt(start) == '-' ? 1 : 0;
+        if (start + signOffset < end && (value.charAt(start + signOffset) | 0x20) == 'p') {
+            return Duration.parse(value.subSequence(start, end));
+        }
+
+        final int unitStart = numberEnd(value, start, end);
+        final long unitNanos = durationUnitNanos(value, skipLeadingWhitespace(value, unitStart, end), end);
+        if (unitNanos < 0) {
+            throw new IllegalArgumentException("invalid duration unit: " + value.subSequence(start, end));
+        }
+        return Duration.ofNanos(scaleAmount(value, start, unitStart, unitNanos));
+    }
+
+    /**
+     * Parses a data size in bytes from the given range.
+     *
+     * <p>Accepted forms are a number followed by an optional unit, e.g. {@code 512},
+     * {@code 64MiB}, {@code 1.5 GB} or {@code 16k}. Units are case-insensitive:
+     * {@code B} is bytes, {@code KB}/{@code MB}/{@code GB}/{@code TB}/{@code PB} are decimal
+     * (powers of 1000), {@code KiB}/{@code MiB}/{@code GiB}/{@code TiB}/{@code PiB} and the
+     * single letters {@code K}/{@code M}/{@code G}/{@code T}/{@code P} are binary (powers of 1024).</p>
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the size in bytes
+     * @throws IllegalArgumentException if the range does not contain a valid data size
+     */
+    public static long parseDataSize(@NotNull CharSequence value, int start, int end) {
+        start = skipLeadingWhitespace(value, start, end);
+        end = skipTrailingWhitespace(value, start, end);
+
+        final int unitStart = numberEnd(value, start, end);
+        final long unitBytes = dataSizeUnitBytes(value, skipLeadingWhitespace(value, unitStart, end), end);
+        if (unitBytes < 0) {
+            throw new IllegalArgumentException("invalid data size unit: " + value.subSequence(start, end));
+        }
+        return scaleAmount(value, start, unitStart, unitBytes);
+    }
+
+    /**
+     * Parses a percentage from the given range and returns it as a fraction.
+     *
+     * <p>{@code 50%} and {@code 0.5} both yield {@code 0.5}: a value with a trailing
+     * {@code %} is divided by one hundred, a value without one is taken as a fraction.</p>
+     *
+     * @param value the characters to parse
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the fraction
+     * @throws NumberFormatException if the range does not contain a valid percentage
+     */
+    public static double parsePercentage(@NotNull CharSequence value, int start, int end) {
+        start = skipLeadingWhitespace(value, start, end);
+        end = skipTrailingWhitespace(value, start, end);
+
+        if (end > start && value.charAt(end - 1) == '%') {
+            return parseDouble(value, start, end - 1) / 100d;
+        }
+        return parseDouble(value, start, end);
+    }
+
+    /**
+     * Multiplies the number in {@code [start, numberEnd)} by {@code unit}, keeping full
+     * precision for the integer part and truncating the fraction to whole units of one.
+     */
+    private static long scaleAmount(@NotNull CharSequence value, int start, int numberEnd, long unit) {
+        int dot = numberEnd;
+        for (int i = start; i < numberEnd; i++) {
+            if (value.charAt(i) == '.') {
+                dot = i;
+                break;
+            }
+        }
+
+        final boolean negative = start < dot && value.charAt(start) == '-';
+        final boolean signOnly = dot == start || (dot == start + 1 && (negative || value.charAt(start) == '+'));
+        try {
+            final long whole = signOnly ? 0L : Math.multiplyExact(parseLong(value, start, dot), unit);
+            if (dot == numberEnd) {
+                return whole;
+            }
+
+            // every character is validated; digits beyond the precision of the unit are dropped
+            final long maxDivisor = Long.MAX_VALUE / 10 / unit;
+            long fraction = 0;
+            long divisor = 1;
+            for (int i = dot + 1; i < numberEnd; i++) {
+                final int digit = digit(value.charAt(i));
+                if (digit < 0) {
+                    throw numberFormat(value, start, numberEnd);
+                }
+                if (divisor <= maxDivisor) {
+                    fraction = fraction * 10 + digit;
+                    divisor *= 10;
+                }
+            }
+            final long fractionUnits = fraction * unit / divisor;
+            return Math.addExact(whole, negative ? -fractionUnits : fractionUnits);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("value out of range: " + value.subSequence(start, numberEnd), e);
+        }
+    }
+
+    private static long durationUnitNanos(@NotNull CharSequence value, int start, int end) {
+        switch (end - start) {
+            case 0:
+                return 1_000_000L;
+            case 1: {
+                switch (value.charAt(start) | 0x20) {
+                    case 's': return 1_000_000_000L;
+                    case 'm': return 60_000_000_000L;
+                    case 'h': return 3_600_000_000_000L;
+                    case 'd': return 86_400_000_000_000L;
+                    default: return -1;
+                }
+            }
+            case 2: {
+                final char first = value.charAt(start);
+                if ((value.charAt(start + 1) | 0x20) != 's') {
+                    return -1;
+                }
+                if (first == 'µ' || first == 'μ') {
+                    return 1_000L;
+                }
+                switch (first | 0x20) {
+                    case 'n': return 1L;
+                    case 'u': return 1_000L;
+                    case 'm': return 1_000_000L;
+                    default: return -1;
+                }
+            }
+            default:
+                return -1;
+        }
+    }
+
+    private static long dataSizeUnitBytes(@NotNull CharSequence value, int start, int end) {
+        final int length = end - start;
+        if (length == 0) {
+            return 1L;
+        }
+        final int prefix = value.charAt(start) | 0x20;
+        if (length == 1 && prefix == 'b') {
+            return 1L;
+        }
+
+        final int exponent;
+        switch (prefix) {
+            case 'k': exponent = 1; break;
+            case 'm': exponent = 2; break;
+            case 'g': exponent = 3; break;
+            case 't': exponent = 4; break;
+            case 'p': exponent = 5; break;
+            default: return -1;
+        }
+
+        if (length == 1) {
+            return power(KIB, exponent);
+        }
+        if (length == 2 && (value.charAt(start + 1) | 0x20) == 'b') {
+            return power(KB, exponent);
+        }
+        if (length == 3 && (value.charAt(start + 1) | 0x20) == 'i' && (value.charAt(start + 2) | 0x20) == 'b') {
+            return power(KIB, exponent);
+        }
+        return -1;
+    }
+
+    private static long power(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index just past the leading signed decimal number of the range.
+     */
+    private static int numberEnd(@NotNull CharSequence value, int start, int end) {
+        int index = start;
+        if (index < end && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            index++;
+        }
+        boolean digits = false;
+        while (index < end && (digit(value.charAt(index)) >= 0 || value.charAt(index) == '.')) {
+            digits |= value.charAt(index) != '.';
+            index++;
+        }
+        if (!digits) {
+            throw numberFormat(value, start, end);
+        }
+        return index;
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static int skipLeadingWhitespace(@NotNull CharSequence value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipTrailingWhitespace(@NotNull CharSequence value, int start, int end) {
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static @NotNull NumberFormatException numberFormat(@NotNull CharSequence value, int start, int end) {
+        return new NumberFormatException("invalid number: \"" + value.subSequence(start, end) + "\"");
+    }
+}
@@ -0,0 +1,223 @@
+package com.habbashx.parser.factory;
+
+import com.habbashx.annotation.EnumAlias;
+import com.habbashx.exception.InvalidEnumerationValueException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Precomputed, case-insensitive lookup table for the constants of a single enum type.
+ *
+ * <p>
+ * The table is built once per enum type (see {@link ParserFactory}) and holds every
+ * constant name together with the aliases declared through {@link EnumAlias}. It uses
+ * open addressing over a power-of-two array sized to keep the load factor at or below
+ * one half, so a lookup is a hash over the input characters followed by a short probe.
+ * </p>
+ *
+ * <p>
+ * Lookups operate on {@link CharSequence} ranges, ignore surrounding whitespace and never
+ * allocate. A miss returns {@code null}; only {@link #parse(String)} turns it into an
+ * {@code InvalidEnumerationValueException}. When two names differ only by case, an exact
+ * match is preferred over a case-insensitive one.
+ * </p>
+ *
+ * @param <E> the enum type
+ */
+final class EnumLookup<E extends Enum<E>> implements ValueParser<E> {
+
+    /**
+     * Results of comparing a table key with a candidate value.
+     */
+    private static final int MISMATCH = 0;
+    private static final int IGNORE_CASE = 1;
+    private static final int EXACT = 2;
+
+    private final Class<E> type;
+
+    /**
+     * Names (constant names and aliases) in their declared spelling, indexed by slot.
+     */
+    private final String[] keys;
+
+    /**
+     * Constant resolved for the name stored at the same slot in {@link #keys}.
+     */
+    private final Object[] constants;
+
+    private final int mask;
+
+    /**
+     * Comma separated list of accepted names, computed once for error messages.
+     */
+    private final String acceptedNames;
+
+    private EnumLookup(Class<E> type, @NotNull List<String> names, @NotNull List<E> values) {
+        this.type = type;
+
+        int capacity = 2;
+        while (capacity < names.size() * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.constants = new Object[capacity];
+        this.mask = capacity - 1;
+
+        final StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < names.size(); i++) {
+            insert(names.get(i), values.get(i));
+            joiner.add(names.get(i));
+        }
+        this.acceptedNames = joiner.toString();
+    }
+
+    /**
+     * Builds the lookup table for the given enum type.
+     *
+     * @param type the enum type
+     * @param <E> the enum type
+     * @return the lookup table
+     * @throws IllegalStateException if an alias matches, ignoring case, the name or an alias of another constant
+     */
+    @Contract("_ -> new")
+    static <E extends Enum<E>> @NotNull EnumLookup<E> of(@NotNull Class<E> type) {
+        final E[] values = type.getEnumConstants();
+        final List<String> names = new ArrayList<>(values.length);
+        final List<E> constants = new ArrayList<>(values.length);
+
+        for (final E constant : values) {
+            names.add(constant.name());
+            constants.add(constant);
+        }
+
+        for (final E constant : values) {
+            final EnumAlias alias = aliasOf(type, constant);
+            if (alias == null) {
+                continue;
+            }
+            for (final String name : alias.value()) {
+                boolean known = false;
+                for (int i = 0; i < names.size(); i++) {
+                    if (!names.get(i).equalsIgnoreCase(name)) {
+                        continue;
+                    }
+                    if (constants.get(i) != constant) {
+                        throw new IllegalStateException("alias '" + name + "' of " + type.getName() + "." + constant.name()
+                                + " already names " + constants.get(i).name() + " (as '" + names.get(i) + "')");
+                    }
+                    known = true;
+                }
+                if (!known) {
+                    names.add(name);
+                    constants.add(constant);
+                }
+            }
+        }
+        return new EnumLookup<>(type, names, constants);
+    }
+
+    private static @Nullable EnumAlias aliasOf(@NotNull Class<?> type, @NotNull Enum<?> constant) {
+        try {
+            return type.getDeclaredField(constant.name()).getAnnotation(EnumAlias.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private void insert(@NotNull String name, Object constant) {
+        int slot = hash(name, 0, name.length()) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = name;
+        constants[slot] = constant;
+    }
+
+    /**
+     * Resolves the constant named by the given range of characters.
+     *
+     * @param value the characters to look up
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return the matching constant, or {@code null} if no constant or alias matches
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable E find(@NotNull CharSequence value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        Object match = null;
+        int slot = hash(value, start, end) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            final int comparison = compare(key, value, start, end);
+            if (comparison == EXACT) {
+                return (E) constants[slot];
+            }
+            if (comparison == IGNORE_CASE && match == null) {
+                match = constants[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return (E) match;
+    }
+
+    /**
+     * Parses the value into a constant of the enum type.
+     *
+     * @param value the raw value
+     * @return the matching constant
+     * @throws InvalidEnumerationValueException if no constant or alias matches
+     */
+    @Override
+    public E parse(String value) {
+        final E constant = find(value, 0, value.length());
+        if (constant == null) {
+            throw new InvalidEnumerationValueException("invalid value '" + value + "' for enum " + type.getName()
+                    + ", expected one of [" + acceptedNames + "]");
+        }
+        return constant;
+    }
+
+    private static int compare(@NotNull String key, @NotNull CharSequence value, int start, int end) {
+        if (key.length() != end - start) {
+            return MISMATCH;
+        }
+        int result = EXACT;
+        for (int i = 0; i < key.length(); i++) {
+            final char expected = key.charAt(i);
+            final char actual = value.charAt(start + i);
+            if (expected != actual) {
+                if (fold(expected) != fold(actual)) {
+                    return MISMATCH;
+                }
+                result = IGNORE_CASE;
+            }
+        }
+        return result;
+    }
+
+    private static int hash(@NotNull CharSequence value, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Case folding compatible with {@link String#equalsIgnoreCase(String)}.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
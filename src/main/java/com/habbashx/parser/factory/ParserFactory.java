@@ -1,76 +1,107 @@
 package com.habbashx.parser.factory;
 
 import com.habbashx.exception.UnSupportedTypeException;
+import com.habbashx.parser.CharSequenceParser;
 import com.habbashx.parser.ObjectParser;
+import com.habbashx.unit.DataSize;
+import com.habbashx.unit.Percentage;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory responsible for parsing string values into strongly typed Java objects.
  *
  * <p>
- * This class provides a centralized registry of primitive and common type parsers,
- * along with fallback strategies for enums, constructors, and object parsing.
+ * The parsing strategy for every target type is resolved exactly once, on first use,
+ * and cached in a {@link ClassValue}. Subsequent calls for the same type invoke the
+ * cached {@link ValueParser} directly without any further lookups or reflection.
  * </p>
  *
  * <p>
- * Supported parsing strategies (in order):
+ * Supported parsing strategies (in resolution order):
  * </p>
  * <ol>
- *     <li>Pre-registered primitive/wrapper parsers</li>
- *     <li>Enum resolution via {@link Enum#valueOf(Class, String)}</li>
- *     <li>String constructor-based instantiation</li>
- *     <li>Fallback object parsing via {@code ObjectParser}</li>
+ *     <li>Registered parsers (built-in primitives/wrappers, {@code Duration}, {@code DataSize}, {@code Percentage}
+ *     and parsers added through {@link #register(Class, ValueParser)})</li>
+ *     <li>Enum resolution through a case-insensitive lookup table built once per enum type, including {@code EnumAlias} names</li>
+ *     <li>Static {@code valueOf}, {@code of} or {@code parse} factory methods accepting a single {@code String}/{@code CharSequence},
+ *     or a {@code String} followed by {@code String...} such as {@code Path.of}; interfaces are probed as well</li>
+ *     <li>Public constructor accepting a single {@code String}</li>
+ *     <li>Fallback object parsing via {@code ObjectParser} for {@link Serializable}, interface and other non-final types</li>
  * </ol>
  *
  * <p>
- * If none of the strategies succeed, an {@code UnSupportedTypeException} is thrown.
+ * If none of the strategies apply, the type is cached as unsupported and every parse
+ * attempt throws an {@code UnSupportedTypeException} without repeating the resolution.
+ * A value that a supported strategy rejects is a parse failure, not an unsupported type:
+ * the exception of the strategy itself is rethrown (e.g. {@code NumberFormatException} or
+ * {@code DateTimeParseException}), with checked exceptions wrapped in an
+ * {@code IllegalArgumentException}.
  * </p>
  */
 public class ParserFactory {
 
     /**
-     * Registry of type-specific parsers for fast conversion.
+     * Lookup used to turn resolved factory methods and constructors into MethodHandles.
      */
-    private static final Map<Class<?>, ValueParser<?>> REGISTRY = new HashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     /**
-     * Cache of resolved single-{@code String}-arg constructors, keyed by target type.
-     * Avoids re-resolving (and re-throwing NoSuchMethodException) on every
-     * fallback parse call for the same unregistered type.
+     * Names of static factory methods probed during strategy resolution, in priority order.
      */
-    private static final Map<Class<?>, Constructor<?>> STRING_CTOR_CACHE = new ConcurrentHashMap<>();
+    private static final String[] FACTORY_METHOD_NAMES = {"valueOf", "of", "parse"};
 
     /**
-     * Sentinel stored in {@link #STRING_CTOR_CACHE} to mark a type as having
-     * no {@code String} constructor, so we don't repeatedly attempt (and fail)
-     * the reflective lookup for it.
+     * Common shape every resolved MethodHandle is adapted to before being wrapped in a parser.
      */
-    private static final Constructor<?> NO_STRING_CTOR;
+    private static final MethodType PARSER_TYPE = MethodType.methodType(Object.class, String.class);
 
-    static {
-        try {
-            NO_STRING_CTOR = ParserFactory.class.getDeclaredConstructor();
-        } catch (NoSuchMethodException e) {
-            throw new ExceptionInInitializerError(e);
+    /**
+     * Registry of type-specific parsers for fast conversion.
+     */
+    private static final Map<Class<?>, ValueParser<?>> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * Per-type strategy cache. Each entry is computed once from {@link #resolveStrategy(Class)}
+     * and lives alongside the class itself, so it never pins a class loader.
+     */
+    private static final ClassValue<ValueParser<?>> STRATEGIES = new ClassValue<>() {
+        @Override
+        protected ValueParser<?> computeValue(Class<?> type) {
+            return resolveStrategy(type);
         }
-    }
+    };
 
     static {
         REGISTRY.put(int.class, Integer::parseInt);
         REGISTRY.put(Integer.class, Integer::parseInt);
         REGISTRY.put(short.class, Short::parseShort);
         REGISTRY.put(Short.class, Short::parseShort);
+        REGISTRY.put(byte.class, Byte::parseByte);
+        REGISTRY.put(Byte.class, Byte::parseByte);
         REGISTRY.put(long.class, Long::parseLong);
         REGISTRY.put(Long.class, Long::parseLong);
+        REGISTRY.put(float.class, Float::parseFloat);
+        REGISTRY.put(Float.class, Float::parseFloat);
+        REGISTRY.put(double.class, Double::parseDouble);
+        REGISTRY.put(Double.class, Double::parseDouble);
         REGISTRY.put(char.class, v -> v.charAt(0));
         REGISTRY.put(Character.class, v -> v.charAt(0));
         REGISTRY.put(boolean.class, Boolean::parseBoolean);
@@ -79,60 +110,200 @@ public class ParserFactory {
         REGISTRY.put(String.class, v -> v);
         REGISTRY.put(BigDecimal.class, BigDecimal::new);
         REGISTRY.put(BigInteger.class, BigInteger::new);
+        REGISTRY.put(UUID.class, UUID::fromString);
 
         REGISTRY.put(LocalDateTime.class, LocalDateTime::parse);
         REGISTRY.put(LocalDate.class, LocalDate::parse);
+
+        REGISTRY.put(Duration.class, v -> CharSequenceParser.parseDuration(v, 0, v.length()));
+        REGISTRY.put(DataSize.class, DataSize::parse);
+        REGISTRY.put(Percentage.class, Percentage::parse);
+    }
+
+    /**
+     * Registers a custom parser for the given type, replacing any previously
+     * registered or resolved strategy for it.
+     *
+     * @param type the target class type
+     * @param parser the parser to use for {@code type}
+     * @param <T> the target type
+     */
+    public static <T> void register(@NotNull Class<T> type, @NotNull ValueParser<? extends T> parser) {
+        REGISTRY.put(type, parser);
+        STRATEGIES.remove(type);
+    }
+
+    /**
+     * Removes a custom parser previously registered for the given type. The strategy
+     * for the type is resolved again on its next use.
+     *
+     * @param type the target class type
+     */
+    public static void unregister(@NotNull Class<?> type) {
+        REGISTRY.remove(type);
+        STRATEGIES.remove(type);
+    }
+
+    /**
+     * Returns whether a parsing strategy exists for the given type.
+     *
+     * @param type the target class type
+     * @return {@code true} if values can be parsed into {@code type}
+     */
+    public static boolean isSupported(@NotNull Class<?> type) {
+        return !(STRATEGIES.get(type) instanceof UnsupportedParser);
+    }
+
+    /**
+     * Returns the resolved parser for the given type.
+     *
+     * @param type the target class type
+     * @param <T> the target type
+     * @return the cached parser for {@code type}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull ValueParser<T> parserFor(@NotNull Class<T> type) {
+        return (ValueParser<T>) STRATEGIES.get(type);
     }
 
     /**
      * Parses a string value into the specified target type.
      *
      * <p>
-     * The method first checks the internal registry of parsers. If no parser is found,
-     * it attempts enum conversion, then string constructor instantiation,
-     * and finally a fallback object parser.
+     * The strategy for {@code type} is looked up from the per-type cache and invoked
+     * directly. It is resolved on the first call for a given type only.
      * </p>
      *
      * @param type the target class type
      * @param value the raw string value to parse
      * @param <T> the target type
      * @return parsed instance of type {@code T}
-     * @throws UnSupportedTypeException if no parsing strategy succeeds
+     * @throws UnSupportedTypeException if no parsing strategy exists for the type
+     * @throws IllegalArgumentException if the strategy rejects the value; the concrete type is the
+     *                                  one thrown by the strategy, e.g. {@code NumberFormatException}
      */
-    @SuppressWarnings({"unchecked","rawtypes"})
+    @SuppressWarnings("unchecked")
     public static <T> T parse(Class<T> type, String value) {
-        ValueParser<T> parser = (ValueParser<T>) REGISTRY.get(type);
-        if (parser != null) {
-            return parser.parse(value);
+        return (T) STRATEGIES.get(type).parse(value);
+    }
+
+    /**
+     * Resolves the parsing strategy for a type. Called once per type by {@link #STRATEGIES}.
+     */
+    private static @NotNull ValueParser<?> resolveStrategy(@NotNull Class<?> type) {
+
+        final ValueParser<?> registered = REGISTRY.get(type);
+        if (registered != null) {
+            return registered;
         }
 
         if (type.isEnum()) {
-            return (T) Enum.valueOf((Class<? extends Enum>) type, value);
+            return enumParser(type);
         }
 
-        final Constructor<?> ctor = STRING_CTOR_CACHE.computeIfAbsent(type, t -> {
-            try {
-                final Constructor<?> c = t.getConstructor(String.class);
-                c.setAccessible(true);
-                return c;
-            } catch (NoSuchMethodException e) {
-                return NO_STRING_CTOR; // sentinel: no such constructor, cached to avoid retrying
+        if (type.isPrimitive() || type.isArray()) {
+            return new UnsupportedParser(type);
+        }
+
+        final MethodHandle factory = findFactoryMethod(type);
+        if (factory != null) {
+            return handleParser(type, factory);
+        }
+
+        final MethodHandle constructor = findStringConstructor(type);
+        if (constructor != null) {
+            return handleParser(type, constructor);
+        }
+
+        if (Serializable.class.isAssignableFrom(type) || !Modifier.isFinal(type.getModifiers())) {
+            return value -> {
+                final @Nullable Object result = ObjectParser.parseObject(value);
+                if (type.isInstance(result)) {
+                    return result;
+                }
+                throw new UnSupportedTypeException("Cannot parse value to type: " + type.getName());
+            };
+        }
+
+        return new UnsupportedParser(type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull ValueParser<?> enumParser(@NotNull Class<?> type) {
+        return EnumLookup.of((Class<? extends Enum>) type);
+    }
+
+    private static @Nullable MethodHandle findFactoryMethod(@NotNull Class<?> type) {
+        for (final String name : FACTORY_METHOD_NAMES) {
+            for (final Class<?> parameterType : new Class<?>[]{String.class, CharSequence.class}) {
+                final MethodHandle handle = factoryHandle(type, name, parameterType);
+                if (handle != null) {
+                    return handle;
+                }
             }
-        });
+            final MethodHandle varargs = factoryHandle(type, name, String.class, String[].class);
+            if (varargs != null) {
+                return MethodHandles.insertArguments(varargs, 1, (Object) new String[0]);
+            }
+        }
+        return null;
+    }
 
-        if (ctor != NO_STRING_CTOR) {
-            try {
-                return (T) ctor.newInstance(value);
-            } catch (Exception ignored) {
-                // fall through to ObjectParser below
+    private static @Nullable MethodHandle factoryHandle(@NotNull Class<?> type, @NotNull String name, Class<?>... parameterTypes) {
+        try {
+            final Method method = type.getMethod(name, parameterTypes);
+            if (Modifier.isStatic(method.getModifiers()) && type.isAssignableFrom(method.getReturnType())) {
+                method.trySetAccessible();
+                return LOOKUP.unreflect(method);
             }
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ignored) {
+            // try the next candidate
         }
+        return null;
+    }
+
+    private static @Nullable MethodHandle findStringConstructor(@NotNull Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            final Constructor<?> constructor = type.getConstructor(String.class);
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ignored) {
+            return null;
+        }
+    }
 
-        final @Nullable Object result = ObjectParser.parseObject(value);
-        if (type.isInstance(result)) {
-            return type.cast(result);
+    @Contract(pure = true)
+    private static @NotNull ValueParser<?> handleParser(@NotNull Class<?> type, @NotNull MethodHandle handle) {
+        final MethodHandle adapted = handle.asType(PARSER_TYPE);
+        return value -> {
+            try {
+                return (Object) adapted.invokeExact(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Cannot parse value to type: " + type.getName(), e);
+            }
+        };
+    }
+
+    /**
+     * Cached strategy for types that cannot be parsed. Throws on every use without
+     * repeating the strategy resolution.
+     */
+    private static final class UnsupportedParser implements ValueParser<Object> {
+
+        private final String typeName;
+
+        private UnsupportedParser(@NotNull Class<?> type) {
+            this.typeName = type.getName();
         }
 
-        throw new UnSupportedTypeException("Cannot parse value to type: " + type.getName());
+        @Override
+        public Object parse(String value) {
+            throw new UnSupportedTypeException("Cannot parse value to type: " + typeName);
+        }
     }
-}
\ No newline at end of file
+}
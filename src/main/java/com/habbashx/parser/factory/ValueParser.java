@@ -1,5 +1,24 @@
 package com.habbashx.parser.factory;
 
-interface ValueParser<T> {
+/**
+ * Strategy that converts a raw string value into an instance of {@code T}.
+ *
+ * <p>
+ * Instances are resolved once per target type by {@link ParserFactory} and then
+ * invoked directly for every subsequent parse of that type. Custom parsers can be
+ * registered at runtime through {@link ParserFactory#register(Class, ValueParser)}.
+ * </p>
+ *
+ * @param <T> the type produced by this parser
+ */
+@FunctionalInterface
+public interface ValueParser<T> {
+
+    /**
+     * Parses the raw value into an instance of {@code T}.
+     *
+     * @param value the raw string value
+     * @return the parsed value
+     */
     T parse(String value);
 }
@@ -0,0 +1,514 @@
+package com.habbashx.property;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash map that shares its structure with the maps it is derived from: a hash array
+ * mapped trie of 32-way nodes. {@link #with} and {@link #without} copy only the nodes on the path
+ * to one key, at most seven for any size, so a single change to a snapshot of any size costs
+ * about the same.
+ *
+ * Many changes are applied through an {@link Editor}, which copies a shared node once and then
+ * changes it in place, so filling a map through one editor costs about as much as filling a
+ * {@link java.util.HashMap}. A map built by an editor never changes afterwards.
+ *
+ * Keys and values must not be {@code null}. The map is unmodifiable: the mutators of the
+ * {@link Map} interface throw {@link UnsupportedOperationException}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private static final int BITS = 5;
+
+    /**
+     * Nodes on the deepest path: seven levels of 5 hash bits each, then a collision node.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    private final Node root;
+
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @return the empty map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> @NotNull PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * @param key the key
+     * @param value the value
+     * @return a map with the key mapped to the value, or this map if it already was
+     */
+    @NotNull PersistentMap<K, V> with(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(value);
+        final boolean[] added = new boolean[1];
+        final Node next = (root == null ? BitmapNode.EMPTY : root).put(null, 0, hash(key), key, value, added);
+        return next == root ? this : new PersistentMap<>(next, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * @param key the key
+     * @return a map without the key, or this map if it did not contain it
+     */
+    @NotNull PersistentMap<K, V> without(@NotNull Object key) {
+        if (root == null) {
+            return this;
+        }
+        final Node next = root.remove(null, 0, hash(key), key, new boolean[1]);
+        return next == root ? this : next == null ? empty() : new PersistentMap<>(next, size - 1);
+    }
+
+    /**
+     * @return an editor starting from the content of this map, which it leaves unchanged
+     */
+    @NotNull Editor<K, V> edit() {
+        return new Editor<>(root, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return key == null || root == null ? null : (V) root.find(0, hash(key), key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static int hash(Object key) {
+        final int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int position(int hash, int shift) {
+        return (hash >>> shift) & 31;
+    }
+
+    /**
+     * Applies many changes to a map, changing the nodes it copied in place. The editor must not
+     * be used after {@link #build()}.
+     */
+    static final class Editor<K, V> {
+
+        /**
+         * Marks the nodes created by this editor, which it may change in place; {@code null} once built.
+         */
+        private Object edit = new Object();
+
+        private Node root;
+
+        private int size;
+
+        private final boolean[] changed = new boolean[1];
+
+        private Editor(Node root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable V get(@NotNull Object key) {
+            return root == null ? null : (V) root.find(0, hash(key), key);
+        }
+
+        void put(@NotNull K key, @NotNull V value) {
+            Objects.requireNonNull(value);
+            changed[0] = false;
+            root = (root == null ? BitmapNode.EMPTY : root).put(edit(), 0, hash(key), key, value, changed);
+            if (changed[0]) {
+                size++;
+            }
+        }
+
+        void remove(@NotNull Object key) {
+            if (root == null) {
+                return;
+            }
+            changed[0] = false;
+            root = root.remove(edit(), 0, hash(key), key, changed);
+            if (changed[0]) {
+                size--;
+            }
+        }
+
+        /**
+         * @return the edited map
+         */
+        @NotNull PersistentMap<K, V> build() {
+            edit();
+            edit = null;
+            return root == null ? empty() : new PersistentMap<>(root, size);
+        }
+
+        private Object edit() {
+            if (edit == null) {
+                throw new IllegalStateException("the map of this editor has been built");
+            }
+            return edit;
+        }
+    }
+
+    private abstract static class Node {
+
+        /**
+         * The editor that created this node and may change it in place, or {@code null}.
+         */
+        final Object edit;
+
+        /**
+         * Alternating keys and values; a {@code null} key marks a value that is a child node.
+         */
+        Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        /**
+         * @return the value of the key, or {@code null}
+         */
+        abstract Object find(int shift, int hash, Object key);
+
+        /**
+         * @param added set if the key was not in the node before
+         * @return the node with the key mapped to the value, this node if it already was
+         */
+        abstract Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @param removed set if the key was in the node
+         * @return the node without the key, this node if it was absent, {@code null} if it is empty
+         */
+        abstract Node remove(Object edit, int shift, int hash, Object key, boolean[] removed);
+
+        boolean editable(Object edit) {
+            return edit != null && edit == this.edit;
+        }
+    }
+
+    /**
+     * A node indexing up to 32 entries or children by 5 bits of the hash.
+     */
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        int bitmap;
+
+        BitmapNode(Object edit, int bitmap, Object[] array) {
+            super(edit, array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            final int bit = 1 << position(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            final int i = index(bit);
+            final Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Override
+        Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            final int bit = 1 << position(hash, shift);
+            final int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                final Object[] grown = new Object[array.length + 2];
+                System.arraycopy(array, 0, grown, 0, i);
+                grown[i] = key;
+                grown[i + 1] = value;
+                System.arraycopy(array, i, grown, i + 2, array.length - i);
+                added[0] = true;
+                return replace(edit, bitmap | bit, grown);
+            }
+            final Object k = array[i];
+            final Object v = array[i + 1];
+            if (k == null) {
+                final Node child = ((Node) v).put(edit, shift + BITS, hash, key, value, added);
+                return child == v ? this : set(edit, i, null, child);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : set(edit, i, k, value);
+            }
+            added[0] = true;
+            return set(edit, i, null, merge(edit, shift + BITS, hash(k), k, v, hash, key, value));
+        }
+
+        @Override
+        Node remove(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            final int bit = 1 << position(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int i = index(bit);
+            final Object k = array[i];
+            if (k == null) {
+                final Node child = ((Node) array[i + 1]).remove(edit, shift + BITS, hash, key, removed);
+                if (child == array[i + 1]) {
+                    return this;
+                }
+                if (child != null) {
+                    return set(edit, i, null, child);
+                }
+            } else if (key.equals(k)) {
+                removed[0] = true;
+            } else {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, i);
+            System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+            return replace(edit, bitmap ^ bit, shrunk);
+        }
+
+        private BitmapNode set(Object edit, int i, Object key, Object value) {
+            if (editable(edit)) {
+                array[i] = key;
+                array[i + 1] = value;
+                return this;
+            }
+            final Object[] copy = array.clone();
+            copy[i] = key;
+            copy[i + 1] = value;
+            return new BitmapNode(edit, bitmap, copy);
+        }
+
+        private BitmapNode replace(Object edit, int bitmap, Object[] array) {
+            if (editable(edit)) {
+                this.bitmap = bitmap;
+                this.array = array;
+                return this;
+            }
+            return new BitmapNode(edit, bitmap, array);
+        }
+
+        /**
+         * Creates the node holding two entries whose hashes were equal up to {@code shift}.
+         */
+        private static Node merge(Object edit, int shift, int hash1, Object key1, Object value1,
+                                  int hash2, Object key2, Object value2) {
+            if (hash1 == hash2) {
+                return new CollisionNode(edit, hash1, new Object[]{key1, value1, key2, value2});
+            }
+            final int position1 = position(hash1, shift);
+            final int position2 = position(hash2, shift);
+            if (position1 == position2) {
+                return new BitmapNode(edit, 1 << position1,
+                        new Object[]{null, merge(edit, shift + BITS, hash1, key1, value1, hash2, key2, value2)});
+            }
+            final Object[] array = position1 < position2
+                    ? new Object[]{key1, value1, key2, value2}
+                    : new Object[]{key2, value2, key1, value1};
+            return new BitmapNode(edit, (1 << position1) | (1 << position2), array);
+        }
+    }
+
+    /**
+     * A node holding the entries of keys with the same full hash.
+     */
+    private static final class CollisionNode extends Node {
+
+        final int hash;
+
+        CollisionNode(Object edit, int hash, Object[] array) {
+            super(edit, array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            final int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node put(Object edit, int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(edit, 1 << position(this.hash, shift), new Object[]{null, this})
+                        .put(edit, shift, hash, key, value, added);
+            }
+            final int i = indexOf(key);
+            final Object[] copy;
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                copy = editable(edit) ? array : array.clone();
+                copy[i + 1] = value;
+            } else {
+                copy = Arrays.copyOf(array, array.length + 2);
+                copy[array.length] = key;
+                copy[array.length + 1] = value;
+                added[0] = true;
+            }
+            return replace(edit, copy);
+        }
+
+        @Override
+        Node remove(Object edit, int shift, int hash, Object key, boolean[] removed) {
+            final int i = hash == this.hash ? indexOf(key) : -1;
+            if (i < 0) {
+                return this;
+            }
+            removed[0] = true;
+            if (array.length == 2) {
+                return null;
+            }
+            final Object[] shrunk = new Object[array.length - 2];
+            System.arraycopy(array, 0, shrunk, 0, i);
+            System.arraycopy(array, i + 2, shrunk, i, array.length - i - 2);
+            return replace(edit, shrunk);
+        }
+
+        private CollisionNode replace(Object edit, Object[] array) {
+            if (editable(edit)) {
+                this.array = array;
+                return this;
+            }
+            return new CollisionNode(edit, hash, array);
+        }
+    }
+
+    /**
+     * Walks the trie depth first, keeping the arrays of the nodes on the current path.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+
+        private final int[] positions = new int[MAX_DEPTH];
+
+        private int depth = -1;
+
+        private Object nextKey;
+
+        private Object nextValue;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                push(root);
+            }
+            advance();
+        }
+
+        private void push(Node node) {
+            arrays[++depth] = node.array;
+            positions[depth] = 0;
+        }
+
+        private void advance() {
+            nextKey = null;
+            while (depth >= 0) {
+                final Object[] array = arrays[depth];
+                final int position = positions[depth];
+                if (position == array.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                if (array[position] == null) {
+                    push((Node) array[position + 1]);
+                } else {
+                    nextKey = array[position];
+                    nextValue = array[position + 1];
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, V> entry = new SimpleImmutableEntry<>((K) nextKey, (V) nextValue);
+            advance();
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.habbashx.property;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable view of the content of a {@link PropertiesStore} at one generation.
+ *
+ * <p>
+ * A store never changes a published snapshot: every change builds the next snapshot and
+ * publishes it with a single volatile write, so a reader holding a snapshot sees a consistent
+ * set of properties for as long as it keeps it, without any locking.
+ * </p>
+ *
+ * <pre>{@code
+ * PropertiesSnapshot snapshot = propertiesStore.snapshot();
+ * String url = snapshot.getRawValue("db.url");
+ * String user = snapshot.getRawValue("db.user"); // same generation as url
+ * }</pre>
+ *
+ * Parsed values of {@link PropertyKey}s are cached per snapshot; the cache is filled lazily and
+ * carried over to the next snapshot for properties that did not change.
+ *
+ * The elements and values of a snapshot are read-only and reject their setters. A converted value
+ * or a parsed value that is itself mutable (e.g. a list) is shared as is and must not be modified.
+ */
+public final class PropertiesSnapshot {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Cached in a slot for a property that does not exist.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Shares its structure with the elements of the previous and the next snapshots.
+     */
+    private final PersistentMap<String, PropertyElement> propertyElements;
+
+    private final long generation;
+
+    /**
+     * Slot assignments of the store, shared by all its snapshots.
+     */
+    private final SlotTable table;
+
+    /**
+     * Parsed values of {@link PropertyKey}s by slot index; {@code null} entries are not cached yet.
+     * Replaced by a larger copy when a key beyond its length is cached.
+     * Elements are written with release and read with acquire semantics.
+     */
+    private volatile Object[] slots;
+
+    /**
+     * @param propertyElements the elements
+     * @param generation the generation of this snapshot
+     * @param table the slot table of the store
+     * @param slots the initial slot cache, which becomes owned by this snapshot, or {@code null}
+     */
+    PropertiesSnapshot(PersistentMap<String, PropertyElement> propertyElements, long generation, SlotTable table, Object[] slots) {
+        this.propertyElements = propertyElements;
+        this.generation = generation;
+        this.table = table;
+        this.slots = slots;
+    }
+
+    /**
+     * Creates the empty snapshot of generation 0 of a new store.
+     */
+    static @NotNull PropertiesSnapshot empty() {
+        return new PropertiesSnapshot(PersistentMap.empty(), 0, new SlotTable(), null);
+    }
+
+    /**
+     * Creates the snapshot following this one.
+     *
+     * @param propertyElements the elements
+     * @param slots the initial slot cache, which becomes owned by the next snapshot, or {@code null}
+     * @return the next snapshot of the store
+     */
+    @NotNull PropertiesSnapshot next(PersistentMap<String, PropertyElement> propertyElements, Object[] slots) {
+        return new PropertiesSnapshot(propertyElements, generation + 1, table, slots);
+    }
+
+    /**
+     * @return the number of changes made to the store before this snapshot was published
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @param key the property name
+     * @return the element of the property, or {@code null} if it does not exist
+     */
+    public @Nullable PropertyElement getPropertyElement(String key) {
+        return propertyElements.get(key);
+    }
+
+    /**
+     * @param key the property name
+     * @return the raw value of the property, or {@code null} if it does not exist
+     */
+    public @Nullable String getRawValue(String key) {
+        final PropertyElement propertyElement = propertyElements.get(key);
+        return propertyElement == null ? null : propertyElement.getPropertyValue().getRawValue();
+    }
+
+    /**
+     * Returns the parsed value of a typed key. The first lookup in this snapshot parses the raw
+     * value and caches it in the slot of the key; later lookups are a single array load.
+     *
+     * @param key the typed key
+     * @param <T> the type of the value
+     * @return the parsed value, or {@code null} if the property does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NotNull PropertyKey<T> key) {
+        final Object[] values = slots;
+        final int slot = key.slotIn(table);
+        if (values != null && slot >= 0 && slot < values.length) {
+            final Object cached = SLOTS.getAcquire(values, slot);
+            if (cached != null) {
+                return cached == NULL ? null : (T) cached;
+            }
+        }
+        final String rawValue = getRawValue(key.getName());
+        final T value = rawValue == null ? null : key.parse(rawValue);
+        if (slot >= 0) {
+            cache(slot, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the parsed value of a typed key, or the default value if the property does not exist.
+     *
+     * @param key the typed key
+     * @param defaultValue the value returned for an absent property
+     * @param <T> the type of the value
+     * @return the parsed value, or {@code defaultValue}
+     */
+    public <T> T get(@NotNull PropertyKey<T> key, T defaultValue) {
+        final T value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return the number of properties
+     */
+    public int size() {
+        return propertyElements.size();
+    }
+
+    /**
+     * @return the elements of this snapshot by property name
+     */
+    public @NotNull @Unmodifiable Map<String, PropertyElement> getPropertyElements() {
+        return propertyElements;
+    }
+
+    /**
+     * @return the elements of this snapshot, from which the store derives the next snapshot
+     */
+    @NotNull PersistentMap<String, PropertyElement> elements() {
+        return propertyElements;
+    }
+
+    /**
+     * @return the number of keys holding a slot in the store of this snapshot
+     */
+    int slotCount() {
+        return table.size();
+    }
+
+    /**
+     * Caches the parsed value of a typed key in this snapshot.
+     */
+    void cache(@NotNull PropertyKey<?> key, Object value) {
+        final int slot = key.slotIn(table);
+        if (slot >= 0) {
+            cache(slot, value);
+        }
+    }
+
+    private synchronized void cache(int slot, Object value) {
+        Object[] values = slots;
+        if (values == null || slot >= values.length) {
+            values = values == null
+                    ? new Object[Math.max(16, slot + 1)]
+                    : Arrays.copyOf(values, Math.min(Math.max(values.length * 2, slot + 1), SlotTable.MAX_SLOTS));
+            slots = values;
+        }
+        SLOTS.setRelease(values, slot, value == null ? NULL : value);
+    }
+
+    /**
+     * Copies the slot cache for the next snapshot, dropping the values of the given properties.
+     * The copy is bounded by the number of keys used on the store.
+     *
+     * @param changed the names of the changed properties
+     * @return the copied cache, or {@code null} if nothing is cached
+     */
+    synchronized Object[] slotsWithout(String... changed) {
+        final Object[] values = slots;
+        if (values == null) {
+            return null;
+        }
+        final Object[] copy = values.clone();
+        table.clear(copy, changed);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertiesSnapshot{" +
+                "generation=" + generation +
+                ", propertyElements=" + propertyElements +
+                '}';
+    }
+}
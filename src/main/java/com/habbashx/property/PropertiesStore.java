@@ -1,11 +1,27 @@
 package com.habbashx.property;
 
+import com.habbashx.validation.PropertyValidator;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * A class that manages a collection of properties, represented as key-value pairs. Each property is
@@ -13,6 +29,24 @@ import java.util.Map;
  * This class provides various utility methods for adding, retrieving, updating, and removing properties
  * and for handling their raw and converted values.
  *
+ * The content of the store is an immutable {@link PropertiesSnapshot}. Every change builds the next
+ * snapshot, tagged with the next generation, and publishes it with a single volatile write, so reads
+ * never lock and never observe a half-applied change; {@link #snapshot()} pins the current content
+ * for reading several keys consistently. Changes are serialized. Snapshots share their structure,
+ * so a change copies only the few nodes on the path to its key, whatever the size of the store;
+ * make related changes at once through {@link #update} to publish them as one generation.
+ *
+ * Elements and values held by the store are read-only, as snapshots share them: their deprecated
+ * setters and {@link PropertyElement#addValidator} leave them unchanged and forward the change to
+ * this store, which publishes new ones. A value passed to the store is copied, so changing it
+ * afterwards does not affect the store.
+ *
+ * Values can also be read through typed {@link PropertyKey} handles, which cache the parsed value
+ * in an array slot per key; slots are assigned per store, to at most 1024 keys.
+ *
+ * Changes made through this store's API are published to the subscribers of
+ * {@link #getChangePublisher()}; without subscribers no changes are computed.
+ *
  * This class is serializable to allow its state to be persisted and restored.
  */
 public class PropertiesStore implements Serializable {
@@ -21,16 +55,22 @@ public class PropertiesStore implements Serializable {
     private static final long serialVersionUID = 1554786141346401493L;
 
     /**
-     * A map that stores property elements, where the key is a unique identifier
-     * (String) and the value is a {@link PropertyElement} object. Each
-     * {@link PropertyElement} represents a property with its associated raw and
-     * converted values, along with optional validations.
-     *
-     * This map serves as the core storage structure for managing property data
-     * and provides efficient retrieval and manipulation of property-related
-     * information within the containing class.
+     * Keeps the serialized form of earlier versions: the map of property elements.
+     */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("propertyElements", Map.class)
+    };
+
+    /**
+     * The current content of the store. Replaced, never modified, by every change.
+     */
+    private transient volatile PropertiesSnapshot snapshot = PropertiesSnapshot.empty();
+
+    /**
+     * Publisher of the changes of this store, created on first use.
      */
-    private final Map<String, PropertyElement> propertyElements = new HashMap<>();
+    private transient volatile PropertyChangePublisher changePublisher;
 
     /**
      * Adds a property to the store, associating the specified key with the given property value.
@@ -39,19 +79,209 @@ public class PropertiesStore implements Serializable {
      * @param propertyValue an instance of {@code PropertyValue} containing the raw and converted values of the property to store
      */
     public void addProperty(String key, PropertyValue propertyValue) {
-        PropertyElement propertyElement = new PropertyElement(key, propertyValue);
-        propertyElements.put(key, propertyElement);
+        update(builder -> builder.addProperty(key, propertyValue));
     }
 
+    /**
+     * Applies several changes at once. The changes made through the builder are published as a
+     * single snapshot, one generation later, and to the subscribers of {@link #getChangePublisher()}
+     * as a single batch. Nodes copied from the previous snapshot are copied once per call and then
+     * changed in place, so add, update or remove many properties through one {@code update}:
+     *
+     * <pre>{@code
+     * propertiesStore.update(builder -> {
+     *     builder.addProperty("db.url", new PropertyValue(url));
+     *     builder.removeProperty("db.legacy");
+     * });
+     * }</pre>
+     *
+     * <p>If {@code changes} throws, the store is left unchanged and nothing is published. The
+     * builder cannot be used after {@code changes} returns.</p>
+     *
+     * @param changes applies the changes to the given builder
+     */
+    public synchronized void update(@NotNull Consumer<? super Builder> changes) {
+        final PropertiesSnapshot previous = snapshot;
+        final Builder builder = new Builder(this, previous.elements());
+        try {
+            changes.accept(builder);
+        } finally {
+            builder.closed = true;
+        }
+        if (builder.originals.isEmpty()) {
+            return;
+        }
+        final PersistentMap<String, PropertyElement> elements = builder.elements.build();
+        final PropertiesSnapshot next = previous.next(elements,
+                previous.slotsWithout(builder.originals.keySet().toArray(String[]::new)));
+        builder.cacheTypedValues(elements, next);
+        snapshot = next;
+
+        if (isObserved()) {
+            final List<PropertyChange> changed = new ArrayList<>(builder.originals.size());
+            for (final Map.Entry<String, PropertyElement> original : builder.originals.entrySet()) {
+                final String oldValue = rawValueOf(original.getValue());
+                final String newValue = rawValueOf(elements.get(original.getKey()));
+                if (!Objects.equals(oldValue, newValue)) {
+                    changed.add(new PropertyChange(original.getKey(), oldValue, newValue));
+                }
+            }
+            changePublisher.publish(changed);
+        }
+    }
+
+    private static String rawValueOf(PropertyElement element) {
+        return element == null ? null : element.getPropertyValue().getRawValue();
+    }
+
+    /**
+     * Replaces the whole content of the store with the given raw values, e.g. after a reload.
+     * Subscribers of {@link #getChangePublisher()} receive only the keys that were added, changed
+     * or removed, as a single batch.
+     *
+     * @param rawValues the new raw values by key
+     */
+    public void replaceAll(@NotNull Map<String, String> rawValues) {
+        replaceAll(sink -> rawValues.forEach(sink));
+    }
+
+    /**
+     * Replaces the whole content of the store with the entries pushed by a loader, e.g. a
+     * {@link com.habbashx.loader.PropertiesReader}. Entries go straight into the next snapshot as
+     * they are produced, so a large file is never held twice; a key pushed more than once keeps its
+     * last value. Readers keep seeing the previous snapshot until the loader returns, and then the
+     * complete new one. Subscribers of {@link #getChangePublisher()} receive only the keys that were
+     * added, changed or removed, as a single batch.
+     *
+     * <p>The store lock is held while the loader runs, so other writers block until it returns;
+     * parse expensive input before calling this method where possible.</p>
+     *
+     * <p>If the loader throws, the store is left unchanged and nothing is published.</p>
+     *
+     * @param loader pushes the new raw values into the given sink
+     */
+    public synchronized void replaceAll(@NotNull Consumer<? super BiConsumer<String, String>> loader) {
+        final PropertiesSnapshot previous = snapshot;
+        final PersistentMap.Editor<String, PropertyElement> editor = PersistentMap.<String, PropertyElement>empty().edit();
+        loader.accept((BiConsumer<String, String>) (key, rawValue) ->
+                editor.put(key, PropertyElement.owned(this, key, PropertyValue.owned(this, key, rawValue, null))));
+        final PersistentMap<String, PropertyElement> propertyElements = editor.build();
+        snapshot = previous.next(propertyElements, null);
+
+        if (isObserved()) {
+            final Map<String, PropertyElement> removed = new HashMap<>(previous.getPropertyElements());
+            final List<PropertyChange> changes = new ArrayList<>();
+            for (final PropertyElement element : propertyElements.values()) {
+                final PropertyElement old = removed.remove(element.getKey());
+                final String oldValue = old == null ? null : old.getPropertyValue().getRawValue();
+                final String newValue = element.getPropertyValue().getRawValue();
+                if (!Objects.equals(newValue, oldValue)) {
+                    changes.add(new PropertyChange(element.getKey(), oldValue, newValue));
+                }
+            }
+            for (final PropertyElement element : removed.values()) {
+                changes.add(new PropertyChange(element.getKey(), element.getPropertyValue().getRawValue(), null));
+            }
+            changePublisher.publish(changes);
+        }
+    }
+
+    /**
+     * Returns the current content of the store. The snapshot never changes; later changes to the
+     * store publish new snapshots.
+     *
+     * @return the current snapshot
+     */
+    public @NotNull PropertiesSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the publisher of the changes made through this store's API, creating it on first use.
+     * Subscribe to it directly, or to {@link PropertyChangePublisher#forKey(String)} /
+     * {@link PropertyChangePublisher#forPrefix(String)} to filter.
+     *
+     * @return the change publisher of this store
+     */
+    public @NotNull PropertyChangePublisher getChangePublisher() {
+        PropertyChangePublisher publisher = changePublisher;
+        if (publisher == null) {
+            synchronized (this) {
+                publisher = changePublisher;
+                if (publisher == null) {
+                    publisher = new PropertyChangePublisher();
+                    changePublisher = publisher;
+                }
+            }
+        }
+        return publisher;
+    }
+
+    private boolean isObserved() {
+        final PropertyChangePublisher publisher = changePublisher;
+        return publisher != null && publisher.hasSubscribers();
+    }
+
+    /**
+     * Returns the parsed value of a typed key. The first lookup parses the raw value and caches
+     * it in the slot of the key; later lookups are a single array load until the property is
+     * changed through this store.
+     *
+     * @param key the typed key
+     * @param <T> the type of the value
+     * @return the parsed value, or {@code null} if the property does not exist
+     * @see PropertiesSnapshot#get(PropertyKey)
+     */
+    public <T> T get(@NotNull PropertyKey<T> key) {
+        return snapshot.get(key);
+    }
+
+    /**
+     * Returns the parsed value of a typed key, or the default value if the property does not exist.
+     *
+     * @param key the typed key
+     * @param defaultValue the value returned for an absent property
+     * @param <T> the type of the value
+     * @return the parsed value, or {@code defaultValue}
+     */
+    public <T> T get(@NotNull PropertyKey<T> key, T defaultValue) {
+        return snapshot.get(key, defaultValue);
+    }
+
+    /**
+     * Sets the value of a typed key. The raw value becomes {@code String.valueOf(value)}, and the
+     * value itself is stored in the slot of the key, so the next lookup does not parse it.
+     * The property is added if it does not exist.
+     *
+     * @param key the typed key
+     * @param value the new value
+     * @param <T> the type of the value
+     */
+    public <T> void set(@NotNull PropertyKey<T> key, @NotNull T value) {
+        update(builder -> builder.set(key, value));
+    }
+
+    /**
+     * Adds a validator to the element of a property, publishing a new snapshot. The elements of a
+     * store are read-only, so this replaces {@link PropertyElement#addValidator} for them.
+     * If no property exists for the key, the method does nothing.
+     *
+     * @param key the unique identifier of the property
+     * @param propertyValidator the validator to add
+     */
+    public void addValidator(String key, @NotNull PropertyValidator propertyValidator) {
+        update(builder -> builder.addValidator(key, propertyValidator));
+    }
 
     /**
      * Retrieves the {@code PropertyElement} associated with the given key.
+     * The element is read-only; change it through this store.
      *
      * @param key the unique identifier for the property element to retrieve
      * @return the {@code PropertyElement} associated with the given key, or {@code null} if not found
      */
     public PropertyElement getPropertyElement(String key) {
-        return propertyElements.get(key);
+        return snapshot.getPropertyElement(key);
     }
 
     /**
@@ -62,11 +292,7 @@ public class PropertiesStore implements Serializable {
      * @return the raw value of the property as a {@code String}, or {@code null} if no property exists for the given key
      */
     public String getRawValue(String key) {
-        final PropertyElement propertyElement = propertyElements.get(key);
-        if (propertyElement != null) {
-            return propertyElement.getPropertyValue().getRawValue();
-        }
-        return null;
+        return snapshot.getRawValue(key);
     }
 
     /**
@@ -77,7 +303,7 @@ public class PropertiesStore implements Serializable {
      * @return the converted value of the property as an {@code Object}, or {@code null} if no property exists for the given key
      */
     public Object getConvertedValue(String key) {
-        final PropertyElement propertyElement = propertyElements.get(key);
+        final PropertyElement propertyElement = snapshot.getPropertyElement(key);
         if (propertyElement != null) {
             return propertyElement.getPropertyValue().getConvertedValue();
         }
@@ -95,7 +321,7 @@ public class PropertiesStore implements Serializable {
      *         or {@code null} if the property associated with the given key does not exist
      */
     public <T> T getConvertedValue(String key, Class<T> type) {
-        final PropertyElement propertyElement = propertyElements.get(key);
+        final PropertyElement propertyElement = snapshot.getPropertyElement(key);
         if (propertyElement != null) {
             final Object convertedValue = propertyElement.getPropertyValue().getConvertedValue();
             return type.cast(convertedValue);  // Safely cast to the requested type
@@ -195,10 +421,7 @@ public class PropertiesStore implements Serializable {
      * @param newRawValue the new raw value to set for the property
      */
     public void updateRawValue(String key, String newRawValue) {
-        final PropertyElement propertyElement = propertyElements.get(key);
-        if (propertyElement != null) {
-            propertyElement.getPropertyValue().setRawValue(newRawValue);
-        }
+        update(builder -> builder.updateRawValue(key, newRawValue));
     }
 
     /**
@@ -209,10 +432,7 @@ public class PropertiesStore implements Serializable {
      * @param newConvertedValue the new converted value to set for the property
      */
     public void updateConvertedValue(String key, Object newConvertedValue) {
-        final PropertyElement propertyElement = propertyElements.get(key);
-        if (propertyElement != null) {
-            propertyElement.getPropertyValue().setConvertedValue(newConvertedValue);
-        }
+        update(builder -> builder.updateConvertedValue(key, newConvertedValue));
     }
 
     /**
@@ -221,18 +441,70 @@ public class PropertiesStore implements Serializable {
      * @param key the unique identifier for the property to be removed; must not be null
      */
     public void removeProperty(String key) {
-        propertyElements.remove(key);
+        update(builder -> builder.removeProperty(key));
+    }
+
+    /**
+     * Removes every property from the store and drops all cached typed values.
+     */
+    public synchronized void clear() {
+        final PropertiesSnapshot previous = snapshot;
+        snapshot = previous.next(PersistentMap.empty(), null);
+        if (isObserved()) {
+            final List<PropertyChange> changes = new ArrayList<>(previous.size());
+            for (final PropertyElement element : previous.getPropertyElements().values()) {
+                changes.add(new PropertyChange(element.getKey(), element.getPropertyValue().getRawValue(), null));
+            }
+            changePublisher.publish(changes);
+        }
+    }
+
+    /**
+     * Returns the number of modifications made through {@link #addProperty}, {@link #updateRawValue},
+     * {@link #updateConvertedValue}, {@link #removeProperty}, {@link #set}, {@link #addValidator},
+     * {@link #clear} and {@link #replaceAll}, which is the generation of the current {@link #snapshot()}.
+     * An {@link #update} counts once, however many changes it makes.
+     *
+     * @return the modification count of this store
+     */
+    public long getModificationCount() {
+        return snapshot.getGeneration();
     }
 
     /**
      * Retrieves a map of all property elements stored in the property store.
      * The map associates unique string keys with their corresponding {@code PropertyElement} objects.
      *
-     * @return a map containing the property elements, where the keys are unique {@code String} identifiers
-     *         and the values are {@code PropertyElement} objects
+     * The map is a live view: every read sees the current snapshot, and an iteration sees the
+     * snapshot current when it started. Read {@code snapshot().getPropertyElements()} instead to see
+     * several keys at one generation. As in earlier versions, {@code put}, {@code remove},
+     * {@code clear} and {@code Entry.setValue} on the view change the store; each is published as
+     * a change of its own. Prefer the methods of the store, or {@link #update} for many changes.
+     *
+     * @return a view of the property elements of the store, where the keys are unique {@code String}
+     *         identifiers and the values are read-only {@code PropertyElement} objects
      */
     public Map<String, PropertyElement> getPropertyElements() {
-        return propertyElements;
+        return new PropertyElementsView();
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("propertyElements", new HashMap<>(snapshot.getPropertyElements()));
+        out.writeFields();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final Map<String, PropertyElement> propertyElements = (Map<String, PropertyElement>) fields.get("propertyElements", null);
+        final PersistentMap.Editor<String, PropertyElement> owned = PersistentMap.<String, PropertyElement>empty().edit();
+        if (propertyElements != null) {
+            propertyElements.forEach((key, element) -> owned.put(key, element.ownedBy(this, key)));
+        }
+        snapshot = new PropertiesSnapshot(owned.build(), 0, new SlotTable(), null);
     }
 
     /**
@@ -244,7 +516,249 @@ public class PropertiesStore implements Serializable {
     @Override
     public String toString() {
         return "PropertiesStore{" +
-                "propertyElements=" + propertyElements +
+                "propertyElements=" + snapshot.getPropertyElements() +
                 '}';
     }
-}
\ No newline at end of file
+
+    /**
+     * The view returned by {@link #getPropertyElements()}: reads the current snapshot and forwards
+     * changes to the store.
+     */
+    private final class PropertyElementsView extends AbstractMap<String, PropertyElement> {
+
+        @Override
+        public PropertyElement get(Object key) {
+            return snapshot.getPropertyElements().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return snapshot.getPropertyElements().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return snapshot.size();
+        }
+
+        @Override
+        public PropertyElement put(String key, @NotNull PropertyElement element) {
+            final PropertyElement[] previous = new PropertyElement[1];
+            update(builder -> {
+                previous[0] = builder.get(key);
+                builder.putElement(key, element);
+            });
+            return previous[0];
+        }
+
+        @Override
+        public PropertyElement remove(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            final PropertyElement[] previous = new PropertyElement[1];
+            update(builder -> {
+                previous[0] = builder.get(name);
+                builder.removeProperty(name);
+            });
+            return previous[0];
+        }
+
+        @Override
+        public void clear() {
+            PropertiesStore.this.clear();
+        }
+
+        @Override
+        public @NotNull Set<Entry<String, PropertyElement>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Entry<String, PropertyElement>> iterator() {
+                    final Iterator<Entry<String, PropertyElement>> entries = snapshot.getPropertyElements().entrySet().iterator();
+                    return new Iterator<>() {
+                        private String last;
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, PropertyElement> next() {
+                            final Entry<String, PropertyElement> entry = entries.next();
+                            last = entry.getKey();
+                            return new SimpleEntry<>(entry) {
+                                @Override
+                                public PropertyElement setValue(PropertyElement value) {
+                                    put(getKey(), value);
+                                    return super.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            removeProperty(last);
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return snapshot.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Collects the changes of one {@link #update}. Its methods mirror the single-property methods of
+     * the store and see the changes made before them in the same batch.
+     */
+    public static final class Builder {
+
+        private final PropertiesStore store;
+
+        private final PersistentMap<String, PropertyElement> base;
+
+        /**
+         * Editor of {@link #base} applying the changes, created on the first change.
+         */
+        private PersistentMap.Editor<String, PropertyElement> elements;
+
+        /**
+         * Element of every changed property before the batch, or {@code null} if it was absent.
+         */
+        private final Map<String, PropertyElement> originals = new LinkedHashMap<>();
+
+        /**
+         * Values written through {@link #set}, cached in the next snapshot if not overwritten.
+         */
+        private final List<TypedValue> typedValues = new ArrayList<>(1);
+
+        private boolean closed;
+
+        private Builder(PropertiesStore store, PersistentMap<String, PropertyElement> base) {
+            this.store = store;
+            this.base = base;
+        }
+
+        /**
+         * @see PropertiesStore#addProperty(String, PropertyValue)
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder addProperty(String key, PropertyValue propertyValue) {
+            write(key, PropertyElement.owned(store, key, propertyValue));
+            return this;
+        }
+
+        /**
+         * Puts an element with its validators, as {@code getPropertyElements().put} did.
+         */
+        private void putElement(String key, PropertyElement element) {
+            write(key, element.ownedBy(store, key));
+        }
+
+        /**
+         * @see PropertiesStore#updateRawValue(String, String)
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder updateRawValue(String key, String newRawValue) {
+            final PropertyElement current = get(key);
+            if (current != null) {
+                write(key, current.withValue(PropertyValue.owned(store, key, newRawValue, null)));
+            }
+            return this;
+        }
+
+        /**
+         * @see PropertiesStore#updateConvertedValue(String, Object)
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder updateConvertedValue(String key, Object newConvertedValue) {
+            final PropertyElement current = get(key);
+            if (current != null) {
+                write(key, current.withValue(PropertyValue.owned(store, key, current.getPropertyValue().getRawValue(), newConvertedValue)));
+            }
+            return this;
+        }
+
+        /**
+         * @see PropertiesStore#set(PropertyKey, Object)
+         */
+        @Contract("_, _ -> this")
+        public <T> @NotNull Builder set(@NotNull PropertyKey<T> key, @NotNull T value) {
+            final PropertyValue propertyValue = PropertyValue.owned(store, key.getName(), String.valueOf(value), null);
+            final PropertyElement current = get(key.getName());
+            final PropertyElement element = current == null
+                    ? PropertyElement.owned(store, key.getName(), propertyValue)
+                    : current.withValue(propertyValue);
+            write(key.getName(), element);
+            typedValues.add(new TypedValue(key, value, element));
+            return this;
+        }
+
+        /**
+         * @see PropertiesStore#addValidator(String, PropertyValidator)
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder addValidator(String key, @NotNull PropertyValidator propertyValidator) {
+            final PropertyElement current = get(key);
+            if (current != null) {
+                write(key, current.withValidator(propertyValidator));
+            }
+            return this;
+        }
+
+        /**
+         * @see PropertiesStore#removeProperty(String)
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder removeProperty(String key) {
+            if (get(key) != null) {
+                touch(key);
+                elements.remove(key);
+            }
+            return this;
+        }
+
+        private PropertyElement get(String key) {
+            return elements == null ? base.get(key) : elements.get(key);
+        }
+
+        private void write(String key, PropertyElement element) {
+            touch(key);
+            elements.put(key, element);
+        }
+
+        private void touch(String key) {
+            if (closed) {
+                throw new IllegalStateException("the update this builder belongs to has completed");
+            }
+            if (elements == null) {
+                elements = base.edit();
+            }
+            if (!originals.containsKey(key)) {
+                originals.put(key, base.get(key));
+            }
+        }
+
+        /**
+         * Caches the values written through {@link #set} whose element was not replaced afterwards.
+         */
+        private void cacheTypedValues(Map<String, PropertyElement> elements, PropertiesSnapshot next) {
+            for (final TypedValue typedValue : typedValues) {
+                if (elements.get(typedValue.key.getName()) == typedValue.element) {
+                    next.cache(typedValue.key, typedValue.value);
+                }
+            }
+        }
+
+        private record TypedValue(PropertyKey<?> key, Object value, PropertyElement element) {
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.habbashx.property;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A change of a single property, published by a {@link PropertyChangePublisher}.
+ *
+ * Changes are coalesced per subscriber: several changes of one key that were not delivered yet
+ * become one change from the first old value to the last new value, and are dropped if the
+ * value ends up unchanged.
+ *
+ * @param key the property key
+ * @param oldValue the raw value before the change, or {@code null} if the property was added
+ * @param newValue the raw value after the change, or {@code null} if the property was removed
+ */
+public record PropertyChange(@NotNull String key, @Nullable String oldValue, @Nullable String newValue) {
+
+    /**
+     * @return {@code true} if the property did not exist before the change
+     */
+    public boolean isAdded() {
+        return oldValue == null;
+    }
+
+    /**
+     * @return {@code true} if the property no longer exists after the change
+     */
+    public boolean isRemoved() {
+        return newValue == null;
+    }
+}
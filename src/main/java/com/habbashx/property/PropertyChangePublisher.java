@@ -0,0 +1,320 @@
+package com.habbashx.property;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Publishes the changes of a {@link PropertiesStore} as a {@link Flow.Publisher}.
+ *
+ * <p>
+ * Every subscription keeps its undelivered changes in a map keyed by property, so a burst of
+ * changes (e.g. a reload of 100k keys) costs a slow subscriber at most one pending change per
+ * key instead of an unbounded queue: repeated changes of a key are coalesced, and changes that
+ * end up restoring the previous value are dropped. Pending changes are delivered on the executor
+ * in batches of at most {@link #BATCH_SIZE}, never more than the subscriber has requested.
+ * </p>
+ *
+ * <p>
+ * {@link #forKey(String)} and {@link #forPrefix(String)} return publishers that only deliver
+ * changes of matching keys; other changes are never queued for their subscribers.
+ * </p>
+ *
+ * <p>Thread-safe. Each subscriber receives its signals serially, in change order per key.</p>
+ */
+public final class PropertyChangePublisher implements Flow.Publisher<PropertyChange> {
+
+    /**
+     * Maximum number of changes delivered to a subscriber in one drain round.
+     */
+    public static final int BATCH_SIZE = 256;
+
+    private final Executor executor;
+
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a publisher delivering on the common fork-join pool.
+     */
+    public PropertyChangePublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor runs the deliveries to subscribers
+     */
+    public PropertyChangePublisher(@NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super PropertyChange> subscriber) {
+        subscribe(subscriber, key -> true);
+    }
+
+    /**
+     * @param key the property key
+     * @return a publisher of the changes of a single key
+     */
+    @Contract(pure = true)
+    public @NotNull Flow.Publisher<PropertyChange> forKey(@NotNull String key) {
+        return subscriber -> subscribe(subscriber, key::equals);
+    }
+
+    /**
+     * @param prefix the key prefix, e.g. {@code "database."}
+     * @return a publisher of the changes of every key starting with {@code prefix}
+     */
+    @Contract(pure = true)
+    public @NotNull Flow.Publisher<PropertyChange> forPrefix(@NotNull String prefix) {
+        return subscriber -> subscribe(subscriber, key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Subscribes with a key filter; only changes of accepted keys are queued for the subscriber.
+     * Changes are queued from the moment {@code onSubscribe} returns, so no signal can reach the
+     * subscriber before it.
+     *
+     * @param subscriber the subscriber
+     * @param keyFilter accepts the keys the subscriber is interested in
+     */
+    public void subscribe(@NotNull Flow.Subscriber<? super PropertyChange> subscriber, @NotNull Predicate<String> keyFilter) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        final ChangeSubscription subscription = new ChangeSubscription(subscriber, keyFilter);
+        subscriber.onSubscribe(subscription);
+        if (subscription.cancelled) {
+            return;
+        }
+        subscriptions.add(subscription);
+        if (subscription.cancelled) {
+            // cancelled concurrently, before it was added
+            subscriptions.remove(subscription);
+        } else if (closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * @return {@code true} if any subscriber is subscribed; stores skip computing changes otherwise
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Publishes a single change.
+     *
+     * @param change the change
+     */
+    public void publish(@NotNull PropertyChange change) {
+        publish(List.of(change));
+    }
+
+    /**
+     * Publishes a batch of changes, e.g. the difference of a reload.
+     *
+     * @param changes the changes, in order
+     */
+    public void publish(@NotNull Collection<PropertyChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (final ChangeSubscription subscription : subscriptions) {
+            subscription.offer(changes);
+        }
+    }
+
+    /**
+     * Completes every subscription once its pending changes have been delivered; later
+     * subscribers are completed immediately.
+     */
+    public void close() {
+        closed = true;
+        for (final ChangeSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * State of a single subscriber: its filter, demand and coalesced pending changes.
+     */
+    private final class ChangeSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super PropertyChange> subscriber;
+
+        private final Predicate<String> keyFilter;
+
+        /**
+         * Undelivered changes by key, in first-change order. Guarded by {@code this}.
+         */
+        private final Map<String, PropertyChange> pending = new LinkedHashMap<>();
+
+        /**
+         * Outstanding demand. Guarded by {@code this}.
+         */
+        private long demand;
+
+        /**
+         * Set by {@link PropertyChangePublisher#close()}. Guarded by {@code this}.
+         */
+        private boolean completing;
+
+        /**
+         * Error to signal instead of further changes, e.g. for an invalid request. Guarded by {@code this}.
+         */
+        private Throwable error;
+
+        private volatile boolean cancelled;
+
+        /**
+         * Number of drain requests; a drain runs while it is non-zero so that signals stay serial.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        ChangeSubscription(Flow.Subscriber<? super PropertyChange> subscriber, Predicate<String> keyFilter) {
+            this.subscriber = subscriber;
+            this.keyFilter = keyFilter;
+        }
+
+        void offer(Collection<PropertyChange> changes) {
+            if (cancelled) {
+                return;
+            }
+            boolean queued = false;
+            synchronized (this) {
+                for (final PropertyChange change : changes) {
+                    if (!keyFilter.test(change.key())) {
+                        continue;
+                    }
+                    final PropertyChange previous = pending.get(change.key());
+                    if (previous == null) {
+                        pending.put(change.key(), change);
+                    } else if (Objects.equals(previous.oldValue(), change.newValue())) {
+                        pending.remove(change.key());
+                    } else {
+                        pending.put(change.key(), new PropertyChange(change.key(), previous.oldValue(), change.newValue()));
+                    }
+                    queued = true;
+                }
+            }
+            if (queued) {
+                schedule();
+            }
+        }
+
+        void complete() {
+            synchronized (this) {
+                completing = true;
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("non-positive request: " + n);
+                    }
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            synchronized (this) {
+                pending.clear();
+            }
+        }
+
+        private void schedule() {
+            if (!cancelled && wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Delivers pending changes while there is demand, then the terminal signal if one is due.
+         * Runs only inside {@link #run()}, so signals are serial; none is sent while holding the lock.
+         */
+        private void drain() {
+            while (!cancelled) {
+
+                final PropertyChange[] batch;
+                final Throwable failure;
+                final boolean done;
+                synchronized (this) {
+                    failure = error;
+                    final int size = failure != null ? 0 : (int) Math.min(Math.min(demand, pending.size()), BATCH_SIZE);
+                    done = failure == null && size == 0 && completing && pending.isEmpty();
+                    if (size == 0) {
+                        batch = null;
+                    } else {
+                        batch = new PropertyChange[size];
+                        final Iterator<PropertyChange> iterator = pending.values().iterator();
+                        for (int i = 0; i < size; i++) {
+                            batch[i] = iterator.next();
+                            iterator.remove();
+                        }
+                        demand -= size;
+                    }
+                }
+
+                if (failure != null) {
+                    cancel();
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (batch == null) {
+                    if (done) {
+                        cancel();
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+
+                try {
+                    for (final PropertyChange change : batch) {
+                        subscriber.onNext(change);
+                    }
+                } catch (Throwable e) {
+                    cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a property element characterized by a unique key and a corresponding value.
@@ -18,6 +19,11 @@ import java.util.List;
  * addition of property validators. It provides mechanisms to check the validity of its
  * property value using the registered validators.
  *
+ * Elements held by a {@link PropertiesStore} are read-only: they are shared by its snapshots,
+ * which may be validated in parallel, so the deprecated {@link #addValidator} leaves them unchanged
+ * and forwards to {@link PropertiesStore#addValidator(String, PropertyValidator)} of the store,
+ * which publishes a new element.
+ *
  * Implements Serializable for potential persistence or transport purposes.
  */
 public class PropertyElement implements Serializable {
@@ -54,6 +60,19 @@ public class PropertyElement implements Serializable {
      */
     private final List<PropertyValidator> validators = new ArrayList<>();
 
+    /**
+     * Result of the last run of {@link #validators}, paired with the raw value it was computed for.
+     * The verdict is reused by {@link #isValid()} for as long as the raw value of
+     * {@link #propertyValue} is the same instance, and dropped whenever a validator is added.
+     */
+    private transient volatile Verdict verdict;
+
+    /**
+     * The store holding this read-only element, or {@code null} if the element is not held by a store.
+     * Not serialized: a deserialized store takes ownership of its elements again.
+     */
+    private final transient PropertiesStore store;
+
     /**
      * Constructs a new {@code PropertyElement} instance.
      *
@@ -63,16 +82,78 @@ public class PropertyElement implements Serializable {
     public PropertyElement(String key, PropertyValue propertyValue) {
         this.key = key;
         this.propertyValue = propertyValue;
+        this.store = null;
+    }
 
+    /**
+     * Creates a read-only element owned by a store.
+     */
+    private PropertyElement(PropertiesStore store, String key, PropertyValue propertyValue, List<PropertyValidator> validators) {
+        this.key = key;
+        this.propertyValue = propertyValue.ownedBy(store, key);
+        this.validators.addAll(validators);
+        this.store = store;
+    }
+
+    /**
+     * @param store the store holding the element
+     * @param key the property key
+     * @param propertyValue the value, copied if it is not owned by the store yet
+     * @return a read-only element without validators
+     */
+    static @NotNull PropertyElement owned(PropertiesStore store, String key, PropertyValue propertyValue) {
+        return new PropertyElement(store, key, propertyValue, List.of());
+    }
+
+    /**
+     * @param store the store taking the element
+     * @param key the key of the element in the store
+     * @return this element if it is already owned by the store under the key, otherwise a read-only
+     * copy with the same validators
+     */
+    @NotNull PropertyElement ownedBy(PropertiesStore store, String key) {
+        return this.store == store && Objects.equals(this.key, key) ? this : new PropertyElement(store, key, propertyValue, validators);
     }
 
     /**
-     * Adds a {@code PropertyValidator} to the list of validators.
+     * Creates the next version of this element with a new value, keeping its key and validators.
+     *
+     * @param propertyValue the new value
+     * @return a read-only element
+     */
+    @NotNull PropertyElement withValue(PropertyValue propertyValue) {
+        return new PropertyElement(store, key, propertyValue, validators);
+    }
+
+    /**
+     * Creates the next version of this element with one more validator.
+     *
+     * @param propertyValidator the added validator
+     * @return a read-only element
+     */
+    @NotNull PropertyElement withValidator(@NotNull PropertyValidator propertyValidator) {
+        final PropertyElement element = new PropertyElement(store, key, propertyValue, validators);
+        element.validators.add(propertyValidator);
+        return element;
+    }
+
+    /**
+     * Adds a {@code PropertyValidator} to the list of validators. An element held by a
+     * {@link PropertiesStore} is left unchanged; the call forwards to
+     * {@link PropertiesStore#addValidator(String, PropertyValidator)} of its store, which publishes
+     * a new element.
      *
      * @param propertyValidator the validator to be added
+     * @deprecated add the validators of a store through {@link PropertiesStore#addValidator(String, PropertyValidator)}
      */
+    @Deprecated
     public void addValidator(PropertyValidator propertyValidator) {
+        if (store != null) {
+            store.addValidator(key, propertyValidator);
+            return;
+        }
         validators.add(propertyValidator);
+        verdict = null;
     }
 
     /**
@@ -80,16 +161,29 @@ public class PropertyElement implements Serializable {
      * Each validator is applied sequentially to the raw value of the property,
      * and if any validator fails, the method returns false.
      *
+     * The verdict is cached and only recomputed once the raw value has been
+     * changed through {@link PropertyValue#setRawValue(String)} or a new validator was added;
+     * elements of a store never change, so their verdict is computed once.
+     *
      * @return {@code true} if all validators consider the property value valid;
      *         {@code false} otherwise.
      */
     public boolean isValid() {
+        final String rawValue = propertyValue.getRawValue();
+        final Verdict cached = verdict;
+        if (cached != null && cached.rawValue == rawValue) {
+            return cached.valid;
+        }
+
+        boolean valid = true;
         for (PropertyValidator validator : validators) {
-            if (!validator.isValid(propertyValue.getRawValue())) {
-                return false;
+            if (!validator.isValid(rawValue)) {
+                valid = false;
+                break;
             }
         }
-        return true;
+        verdict = new Verdict(rawValue, valid);
+        return valid;
     }
 
     /**
@@ -149,4 +243,10 @@ public class PropertyElement implements Serializable {
                 ", propertyValue=" + propertyValue +
                 '}';
     }
+
+    /**
+     * Cached validation result for a specific raw value instance.
+     */
+    private record Verdict(String rawValue, boolean valid) {
+    }
 }
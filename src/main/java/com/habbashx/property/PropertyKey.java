@@ -0,0 +1,129 @@
+package com.habbashx.property;
+
+import com.habbashx.parser.factory.ParserFactory;
+import com.habbashx.parser.factory.ValueParser;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodType;
+
+/**
+ * A typed handle to a property, declared once and used for lookups without hashing or parsing.
+ *
+ * <pre>{@code
+ * static final PropertyKey<Integer> POOL = PropertyKey.of("pool.size", int.class);
+ *
+ * int pool = propertiesStore.get(POOL);
+ * }</pre>
+ *
+ * A key receives a dense slot index in every store it is read from. Each {@link PropertiesSnapshot}
+ * of a store keeps the parsed value of each key in an array at that index, so after the first lookup
+ * reading a key is a single array load. The slot is cleared when the property is added, updated or
+ * removed through the store. The key remembers its slot in the store it was last used with, so
+ * alternating one key between stores takes a synchronized lookup per switch.
+ *
+ * Keys are immutable and safe to share; create them once, typically as {@code static final}
+ * constants. A store keeps the slots of the keys used on it for its lifetime, up to
+ * 1024 keys; further keys are parsed on every lookup.
+ *
+ * @param <T> the type of the parsed value
+ */
+public final class PropertyKey<T> {
+
+    private final String name;
+
+    private final Class<T> type;
+
+    /**
+     * Parser of the raw value, or {@code null} to parse through {@link ParserFactory}.
+     */
+    private final ValueParser<? extends T> parser;
+
+    /**
+     * The slot of this key in the table it was last used with.
+     */
+    private volatile SlotRef slotRef;
+
+    private PropertyKey(String name, Class<T> type, ValueParser<? extends T> parser) {
+        this.name = name;
+        this.type = type;
+        this.parser = parser;
+    }
+
+    /**
+     * Creates a key whose raw value is parsed through {@link ParserFactory}. Primitive types are
+     * parsed as their wrapper type.
+     *
+     * @param name the property name
+     * @param type the type of the parsed value
+     * @param <T> the type of the parsed value
+     * @return the key
+     */
+    @Contract("_, _ -> new")
+    public static <T> @NotNull PropertyKey<T> of(@NotNull String name, @NotNull Class<T> type) {
+        return new PropertyKey<>(name, type, null);
+    }
+
+    /**
+     * Creates a key whose raw value is parsed by the given parser.
+     *
+     * @param name the property name
+     * @param type the type of the parsed value
+     * @param parser parses the raw value
+     * @param <T> the type of the parsed value
+     * @return the key
+     */
+    @Contract("_, _, _ -> new")
+    public static <T> @NotNull PropertyKey<T> of(@NotNull String name, @NotNull Class<T> type, @NotNull ValueParser<? extends T> parser) {
+        return new PropertyKey<>(name, type, parser);
+    }
+
+    /**
+     * Parses a raw value of this key.
+     *
+     * @param rawValue the raw value
+     * @return the parsed value
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable T parse(@NotNull String rawValue) {
+        if (parser != null) {
+            return parser.parse(rawValue);
+        }
+        final Class<?> target = type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        return (T) ParserFactory.parse(target, rawValue);
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public @NotNull Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @param table the slot table of a store
+     * @return the index of the slot holding the parsed value in that store, or {@link SlotTable#NO_SLOT}
+     */
+    int slotIn(@NotNull SlotTable table) {
+        final SlotRef ref = slotRef;
+        if (ref != null && ref.table == table) {
+            return ref.slot;
+        }
+        final int slot = table.slotOf(this);
+        slotRef = new SlotRef(table, slot);
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyKey{" +
+                "name='" + name + '\'' +
+                ", type=" + type.getName() +
+                '}';
+    }
+
+    private record SlotRef(SlotTable table, int slot) {
+    }
+}
@@ -9,6 +9,12 @@ import java.util.Objects;
  * This class is designed to handle the underlying representations of a property
  * in its original string format (raw value) and its potentially processed representation (converted value).
  * It also provides functionality for equality comparison and hashing based on the property values.
+ *
+ * Values held by a {@link PropertiesStore} are read-only copies shared by its snapshots: their
+ * deprecated setters leave them unchanged and forward to {@link PropertiesStore#updateRawValue} and
+ * {@link PropertiesStore#updateConvertedValue} of the store instead, which publish a new value.
+ * A mutable converted value (e.g. a list) can still be modified in place and must be treated as
+ * read-only by callers.
  */
 public class PropertyValue implements Serializable {
 
@@ -27,15 +33,75 @@ public class PropertyValue implements Serializable {
      */
     private Object convertedValue;
 
+    /**
+     * The store holding this read-only value, or {@code null} if the value is not held by a store.
+     * Not serialized: a deserialized store takes ownership of its values again.
+     */
+    private final transient PropertiesStore store;
+
+    /**
+     * The key of this value in {@link #store}.
+     */
+    private final transient String key;
+
     public PropertyValue(String rawValue) {
+        this(rawValue, null, null, null);
+    }
+
+    private PropertyValue(String rawValue, Object convertedValue, PropertiesStore store, String key) {
         this.rawValue = rawValue;
+        this.convertedValue = convertedValue;
+        this.store = store;
+        this.key = key;
     }
 
+    /**
+     * @param store the store holding the value
+     * @param key the key of the value in the store
+     * @param rawValue the raw value
+     * @param convertedValue the converted value
+     * @return a read-only value owned by the store
+     */
+    static PropertyValue owned(PropertiesStore store, String key, String rawValue, Object convertedValue) {
+        return new PropertyValue(rawValue, convertedValue, store, key);
+    }
+
+    /**
+     * @return this value if it is already owned by the store under the key, otherwise a read-only copy that is
+     */
+    PropertyValue ownedBy(PropertiesStore store, String key) {
+        return this.store == store && Objects.equals(this.key, key) ? this : owned(store, key, rawValue, convertedValue);
+    }
+
+    /**
+     * Sets the raw value. A value held by a {@link PropertiesStore} is left unchanged; the call
+     * forwards to {@link PropertiesStore#updateRawValue} of its store, which publishes a new value.
+     *
+     * @param rawValue the new raw value
+     * @deprecated change the values of a store through {@link PropertiesStore#updateRawValue}
+     */
+    @Deprecated
     public void setRawValue(String rawValue) {
+        if (store != null) {
+            store.updateRawValue(key, rawValue);
+            return;
+        }
         this.rawValue = rawValue;
     }
 
+    /**
+     * Sets the converted value. A value held by a {@link PropertiesStore} is left unchanged; the call
+     * forwards to {@link PropertiesStore#updateConvertedValue} of its store, which publishes a new value.
+     *
+     * @param convertedValue the new converted value
+     * @deprecated change the values of a store through {@link PropertiesStore#updateConvertedValue}
+     */
+    @Deprecated
     public void setConvertedValue(Object convertedValue) {
+        if (store != null) {
+            store.updateConvertedValue(key, convertedValue);
+            return;
+        }
         this.convertedValue = convertedValue;
     }
 
@@ -0,0 +1,86 @@
+package com.habbashx.property;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Assigns dense slot indexes to the {@link PropertyKey}s read through one {@link PropertiesStore}.
+ * All snapshots of a store share its table, so the slot arrays of a store only grow with the keys
+ * actually used on it, never with the keys of other stores.
+ *
+ * A table holds at most {@link #MAX_SLOTS} keys; keys beyond the limit are not cached and parse their
+ * raw value on every lookup. This bounds the slot arrays, and the copy made by every change, when
+ * keys are created per request or per tenant instead of once.
+ */
+final class SlotTable {
+
+    /**
+     * Maximum number of keys cached per store.
+     */
+    static final int MAX_SLOTS = 1024;
+
+    /**
+     * Returned by {@link #slotOf} once the table is full.
+     */
+    static final int NO_SLOT = -1;
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final Map<PropertyKey<?>, Integer> slots = new IdentityHashMap<>();
+
+    /**
+     * Slots of the keys of each property name, used to clear them when the property changes.
+     */
+    private final Map<String, int[]> slotsByName = new HashMap<>();
+
+    /**
+     * Returns the slot of a key in this table, assigning the next free one on first use.
+     *
+     * @param key the typed key
+     * @return the slot index, or {@link #NO_SLOT} if the table is full
+     */
+    synchronized int slotOf(@NotNull PropertyKey<?> key) {
+        final Integer slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        final int next = slots.size();
+        if (next == MAX_SLOTS) {
+            return NO_SLOT;
+        }
+        slots.put(key, next);
+        slotsByName.merge(key.getName(), new int[]{next}, (existing, added) -> {
+            final int[] merged = Arrays.copyOf(existing, existing.length + 1);
+            merged[existing.length] = next;
+            return merged;
+        });
+        return next;
+    }
+
+    /**
+     * Clears the cached values of every key of the given properties.
+     *
+     * @param values a slot cache of a snapshot of the store of this table
+     * @param names the names of the changed properties
+     */
+    synchronized void clear(Object @NotNull [] values, String @NotNull ... names) {
+        for (final String name : names) {
+            for (final int slot : slotsByName.getOrDefault(name, NO_SLOTS)) {
+                if (slot < values.length) {
+                    values[slot] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of assigned slots
+     */
+    synchronized int size() {
+        return slots.size();
+    }
+}
@@ -1,6 +1,8 @@
 package com.habbashx.resolver;
 
+import com.habbashx.jfr.PlaceholderResolutionEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Properties;
 import java.util.regex.Matcher;
@@ -48,27 +50,47 @@ public final class PlaceholderResolver extends Resolver {
 
         if (value.isEmpty() || value.indexOf("${") == -1) return value;
 
+        final PlaceholderResolutionEvent event = new PlaceholderResolutionEvent();
+        event.begin();
+
         final StringBuilder result = new StringBuilder();
         final Matcher matcher = PATTERN.matcher(value);
 
         int lastEnd = 0;
+        int placeholders = 0;
+        int unresolved = 0;
         while (matcher.find()) {
             result.append(value, lastEnd, matcher.start());
 
             final String key = matcher.group(1);
 
             final String replacement = getReplacement(key, properties);
-
-            result.append(replacement);
+            placeholders++;
+            if (replacement == null) {
+                // keep the placeholder as written, copied straight from the input
+                unresolved++;
+                result.append(value, matcher.start(), matcher.end());
+            } else {
+                result.append(replacement);
+            }
             lastEnd = matcher.end();
         }
 
         result.append(value, lastEnd, value.length());
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.placeholders = placeholders;
+            event.unresolved = unresolved;
+            event.commit();
+        }
         return result.toString();
     }
 
-    private static @NotNull String getReplacement(String key, @NotNull Properties properties) {
+    /**
+     * @return the value of the key, or {@code null} if no source defines it
+     */
+    private static @Nullable String getReplacement(String key, @NotNull Properties properties) {
         String replacement = properties.getProperty(key);
 
         if (replacement != null) {
@@ -81,12 +103,6 @@ public final class PlaceholderResolver extends Resolver {
             return replacement;
         }
 
-        replacement = System.getenv(key);
-
-        if (replacement != null) {
-            return replacement;
-        }
-
-        return "${" + key + "}";
+        return System.getenv(key);
     }
 }
\ No newline at end of file
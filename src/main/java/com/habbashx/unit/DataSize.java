@@ -0,0 +1,98 @@
+package com.habbashx.unit;
+
+import com.habbashx.parser.CharSequenceParser;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Immutable amount of data, stored as a number of bytes.
+ *
+ * Values are usually obtained from configuration strings such as {@code 64MiB},
+ * {@code 1.5GB} or {@code 512} through {@link #parse(CharSequence)}; see
+ * {@link CharSequenceParser#parseDataSize(CharSequence, int, int)} for the accepted units.
+ */
+public final class DataSize implements Comparable<DataSize>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3217364861240861538L;
+
+    private final long bytes;
+
+    private DataSize(long bytes) {
+        this.bytes = bytes;
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull DataSize ofKibibytes(long kibibytes) {
+        return new DataSize(Math.multiplyExact(kibibytes, 1024L));
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull DataSize ofMebibytes(long mebibytes) {
+        return new DataSize(Math.multiplyExact(mebibytes, 1024L * 1024L));
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull DataSize ofGibibytes(long gibibytes) {
+        return new DataSize(Math.multiplyExact(gibibytes, 1024L * 1024L * 1024L));
+    }
+
+    /**
+     * Parses a data size such as {@code 64MiB} or {@code 1.5 GB}.
+     *
+     * @param value the text to parse
+     * @return the parsed data size
+     * @throws IllegalArgumentException if the text is not a valid data size
+     */
+    @Contract("_ -> new")
+    public static @NotNull DataSize parse(@NotNull CharSequence value) {
+        return new DataSize(CharSequenceParser.parseDataSize(value, 0, value.length()));
+    }
+
+    public long toBytes() {
+        return bytes;
+    }
+
+    public long toKibibytes() {
+        return bytes / 1024L;
+    }
+
+    public long toMebibytes() {
+        return bytes / (1024L * 1024L);
+    }
+
+    public long toGibibytes() {
+        return bytes / (1024L * 1024L * 1024L);
+    }
+
+    @Override
+    public int compareTo(@NotNull DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+
+        return bytes == ((DataSize) object).bytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
@@ -0,0 +1,89 @@
+package com.habbashx.unit;
+
+import com.habbashx.parser.CharSequenceParser;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Immutable percentage, stored as a fraction where {@code 1.0} is one hundred percent.
+ *
+ * Values are usually obtained from configuration strings such as {@code 75%} or
+ * {@code 0.75} through {@link #parse(CharSequence)}.
+ */
+public final class Percentage implements Comparable<Percentage>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2093417823741093652L;
+
+    private final double fraction;
+
+    private Percentage(double fraction) {
+        this.fraction = fraction;
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull Percentage ofFraction(double fraction) {
+        return new Percentage(fraction);
+    }
+
+    @Contract("_ -> new")
+    public static @NotNull Percentage ofPercent(double percent) {
+        return new Percentage(percent / 100d);
+    }
+
+    /**
+     * Parses a percentage such as {@code 75%} or a fraction such as {@code 0.75}.
+     *
+     * @param value the text to parse
+     * @return the parsed percentage
+     * @throws NumberFormatException if the text is not a valid percentage
+     */
+    @Contract("_ -> new")
+    public static @NotNull Percentage parse(@NotNull CharSequence value) {
+        return new Percentage(CharSequenceParser.parsePercentage(value, 0, value.length()));
+    }
+
+    public double fraction() {
+        return fraction;
+    }
+
+    public double percent() {
+        return fraction * 100d;
+    }
+
+    /**
+     * Applies this percentage to the given amount.
+     *
+     * @param amount the amount
+     * @return {@code amount * fraction}
+     */
+    public double of(double amount) {
+        return amount * fraction;
+    }
+
+    @Override
+    public int compareTo(@NotNull Percentage other) {
+        return Double.compare(fraction, other.fraction);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+
+        return Double.compare(fraction, ((Percentage) object).fraction) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(fraction);
+    }
+
+    @Override
+    public String toString() {
+        return percent() + "%";
+    }
+}
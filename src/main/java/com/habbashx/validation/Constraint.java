@@ -0,0 +1,147 @@
+package com.habbashx.validation;
+
+import com.habbashx.annotation.NotBlank;
+import com.habbashx.annotation.Pattern;
+import com.habbashx.annotation.Range;
+import com.habbashx.annotation.Size;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled check applied to an already converted value during injection.
+ *
+ * Constraints are compiled once from the constraint annotations of a field by
+ * {@link #compile(AnnotatedElement)} and stored in its metadata, so evaluating them
+ * costs no reflection and no re-parsing of the raw value.
+ */
+@FunctionalInterface
+public interface Constraint {
+
+    /**
+     * An empty set of constraints, shared by all unconstrained fields.
+     */
+    Constraint[] NONE = new Constraint[0];
+
+    /**
+     * Checks the converted value.
+     *
+     * @param value the converted value; never {@code null}
+     * @return a description of the violation, or {@code null} if the value is valid
+     */
+    @Nullable String check(@NotNull Object value);
+
+    /**
+     * Compiles the constraint annotations present on the given element.
+     *
+     * @param element the annotated field or parameter
+     * @return the compiled constraints, or {@link #NONE} if the element is unconstrained
+     */
+    static Constraint @NotNull [] compile(@NotNull AnnotatedElement element) {
+        final List<Constraint> constraints = new ArrayList<>(4);
+
+        final NotBlank notBlank = element.getAnnotation(NotBlank.class);
+        if (notBlank != null) {
+            constraints.add(value -> value instanceof CharSequence sequence && !sequence.toString().isBlank()
+                    ? null
+                    : "must not be blank");
+        }
+
+        final Size size = element.getAnnotation(Size.class);
+        if (size != null) {
+            final int min = size.min();
+            final int max = size.max();
+            constraints.add(value -> {
+                final int length = sizeOf(value);
+                if (length < 0) {
+                    return "size constraint does not apply to " + value.getClass().getName();
+                }
+                return length >= min && length <= max
+                        ? null
+                        : "size must be between " + min + " and " + max + " but was " + length;
+            });
+        }
+
+        final Range range = element.getAnnotation(Range.class);
+        if (range != null) {
+            final long min = range.min();
+            final long max = range.max();
+            constraints.add(value -> {
+                if (!(value instanceof Number number)) {
+                    return "range constraint does not apply to " + value.getClass().getName();
+                }
+                return inRange(number, min, max)
+                        ? null
+                        : "must be between " + min + " and " + max + " but was " + value;
+            });
+        }
+
+        final Pattern pattern = element.getAnnotation(Pattern.class);
+        if (pattern != null) {
+            final java.util.regex.Pattern compiled = java.util.regex.Pattern.compile(pattern.value());
+            constraints.add(value -> value instanceof CharSequence sequence && compiled.matcher(sequence).matches()
+                    ? null
+                    : "must match \"" + compiled.pattern() + "\"");
+        }
+
+        return constraints.isEmpty() ? NONE : constraints.toArray(Constraint[]::new);
+    }
+
+    /**
+     * Checks an absent value against the constraint annotations present on the given element.
+     * {@code @NotBlank} rejects it, and {@code @Size} treats it as empty, so it is rejected
+     * by a positive minimum. {@code @Range} and {@code @Pattern} only apply to present values.
+     *
+     * @param element the annotated field or parameter
+     * @return a description of the violation, or {@code null} if the element may be left unset
+     */
+    static @Nullable String checkMissing(@NotNull AnnotatedElement element) {
+        if (element.isAnnotationPresent(NotBlank.class)) {
+            return "must not be blank";
+        }
+        final Size size = element.getAnnotation(Size.class);
+        if (size != null && size.min() > 0) {
+            return "size must be between " + size.min() + " and " + size.max() + " but was absent";
+        }
+        return null;
+    }
+
+    private static int sizeOf(@NotNull Object value) {
+        if (value instanceof CharSequence sequence) {
+            return sequence.length();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        return -1;
+    }
+
+    private static boolean inRange(@NotNull Number number, long min, long max) {
+        if (number instanceof Double || number instanceof Float) {
+            final double d = number.doubleValue();
+            return d >= min && d <= max;
+        }
+        if (number instanceof BigDecimal decimal) {
+            return decimal.compareTo(BigDecimal.valueOf(min)) >= 0 && decimal.compareTo(BigDecimal.valueOf(max)) <= 0;
+        }
+        if (number instanceof BigInteger integer) {
+            return integer.compareTo(BigInteger.valueOf(min)) >= 0 && integer.compareTo(BigInteger.valueOf(max)) <= 0;
+        }
+        final long l = number.longValue();
+        return l >= min && l <= max;
+    }
+}
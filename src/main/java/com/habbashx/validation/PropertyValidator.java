@@ -2,6 +2,8 @@ package com.habbashx.validation;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.regex.Pattern;
+
 /**
  * A functional interface representing a validation mechanism for properties. It allows defining
  * custom validation logic for string values.
@@ -36,12 +38,23 @@ public interface PropertyValidator {
 
      /**
       * Creates a PropertyValidator that validates if a given String matches the specified regular expression.
+      * The expression is compiled once when the validator is created.
       *
       * @param regex the regular expression the string should match; must not be null
       * @return a PropertyValidator ensuring the value matches the specified regular expression
       */
      static @NotNull PropertyValidator regex(String regex) {
-         return value -> value != null && value.matches(regex);
+         return regex(Pattern.compile(regex));
+     }
+
+     /**
+      * Creates a PropertyValidator that validates if a given String matches the specified precompiled pattern.
+      *
+      * @param pattern the pattern the string should match; must not be null
+      * @return a PropertyValidator ensuring the value matches the specified pattern
+      */
+     static @NotNull PropertyValidator regex(@NotNull Pattern pattern) {
+         return value -> value != null && pattern.matcher(value).matches();
      }
 
      /**
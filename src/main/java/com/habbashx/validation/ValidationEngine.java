@@ -0,0 +1,142 @@
+package com.habbashx.validation;
+
+import com.habbashx.property.PropertiesStore;
+import com.habbashx.property.PropertyElement;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates complete {@link PropertiesStore} instances in one pass.
+ *
+ * <p>
+ * Every key is checked against the validators attached to its {@link PropertyElement}
+ * (whose verdicts are cached until the raw value changes) and against the rules
+ * registered on this engine by key. Regular expressions passed to {@link #pattern(String, String)}
+ * are compiled once at registration time.
+ * </p>
+ *
+ * <p>
+ * Stores with at least {@code parallelThreshold} entries are validated in parallel on
+ * the common fork/join pool; all results are gathered in a single {@link ValidationReport}.
+ * Keys that have a rule but are missing from the store are validated against {@code null}.
+ * </p>
+ *
+ * <p>
+ * Thread-safety: rules may be registered concurrently with validation runs.
+ * Validators must be thread-safe when stores are validated in parallel.
+ * </p>
+ */
+public class ValidationEngine {
+
+    /**
+     * Default minimum store size at which validation runs in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Engine level rules, keyed by property key.
+     */
+    private final Map<String, List<PropertyValidator>> rules = new ConcurrentHashMap<>();
+
+    private final int parallelThreshold;
+
+    public ValidationEngine() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold minimum number of entries for which validation runs in parallel
+     */
+    public ValidationEngine(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Registers a validator for the given key.
+     *
+     * @param key the property key
+     * @param validator the validator to apply to the raw value of {@code key}
+     * @return this engine
+     */
+    @Contract("_, _ -> this")
+    public ValidationEngine rule(@NotNull String key, @NotNull PropertyValidator validator) {
+        rules.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(validator);
+        return this;
+    }
+
+    /**
+     * Registers a regular expression the raw value of the given key must match.
+     * The expression is compiled once, here.
+     *
+     * @param key the property key
+     * @param regex the regular expression
+     * @return this engine
+     */
+    @Contract("_, _ -> this")
+    public ValidationEngine pattern(@NotNull String key, @NotNull String regex) {
+        return rule(key, PropertyValidator.regex(Pattern.compile(regex)));
+    }
+
+    /**
+     * Validates every entry of the given store and the rules of this engine.
+     *
+     * @param propertiesStore the store to validate
+     * @return the aggregated report
+     */
+    public @NotNull ValidationReport validate(@NotNull PropertiesStore propertiesStore) {
+        final long start = System.nanoTime();
+
+        final Map<String, PropertyElement> elements = propertiesStore.snapshot().getPropertyElements();
+        final Collection<PropertyElement> values = elements.values();
+
+        final Stream<PropertyElement> stream = values.size() >= parallelThreshold
+                ? values.parallelStream()
+                : values.stream();
+
+        final List<String> invalidKeys = stream
+                .filter(element -> !isValid(element))
+                .map(PropertyElement::getKey)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        int checked = values.size();
+        for (final Map.Entry<String, List<PropertyValidator>> rule : rules.entrySet()) {
+            if (elements.containsKey(rule.getKey())) {
+                continue;
+            }
+            checked++;
+            if (!allValid(rule.getValue(), null)) {
+                invalidKeys.add(rule.getKey());
+            }
+        }
+
+        invalidKeys.sort(null);
+        return new ValidationReport(checked, invalidKeys, System.nanoTime() - start);
+    }
+
+    private boolean isValid(@NotNull PropertyElement element) {
+        if (!element.isValid()) {
+            return false;
+        }
+        final List<PropertyValidator> keyRules = rules.get(element.getKey());
+        return keyRules == null || allValid(keyRules, element.getPropertyValue().getRawValue());
+    }
+
+    private static boolean allValid(@NotNull List<PropertyValidator> validators, String value) {
+        for (final PropertyValidator validator : validators) {
+            if (!validator.isValid(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
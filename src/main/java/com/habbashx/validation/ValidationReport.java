@@ -0,0 +1,63 @@
+package com.habbashx.validation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Aggregated result of validating a whole {@link com.habbashx.property.PropertiesStore}
+ * with a {@link ValidationEngine}.
+ *
+ * The report is immutable. Invalid keys are sorted so that reports produced by
+ * parallel runs are stable and comparable.
+ */
+public final class ValidationReport {
+
+    private final int checkedCount;
+    private final List<String> invalidKeys;
+    private final long durationNanos;
+
+    ValidationReport(int checkedCount, @NotNull List<String> invalidKeys, long durationNanos) {
+        this.checkedCount = checkedCount;
+        this.invalidKeys = List.copyOf(invalidKeys);
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return {@code true} if no key failed validation
+     */
+    public boolean isValid() {
+        return invalidKeys.isEmpty();
+    }
+
+    /**
+     * @return the number of keys that were checked
+     */
+    public int getCheckedCount() {
+        return checkedCount;
+    }
+
+    /**
+     * @return the sorted keys that failed validation
+     */
+    public @Unmodifiable @NotNull List<String> getInvalidKeys() {
+        return invalidKeys;
+    }
+
+    /**
+     * @return the wall time spent producing this report, in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport{" +
+                "checkedCount=" + checkedCount +
+                ", invalidKeys=" + invalidKeys +
+                ", durationNanos=" + durationNanos +
+                '}';
+    }
+}
@@ -1,11 +1,17 @@
 module property.parser {
     requires org.jetbrains.annotations;
+    requires jdk.jfr;
+    requires java.management;
 
     opens com.habbashx.annotation;
     opens com.habbashx.converter;
     opens com.habbashx.decryptor;
     opens com.habbashx.exception;
     opens com.habbashx.injector;
+    opens com.habbashx.injector.listener;
+    opens com.habbashx.jfr;
+    opens com.habbashx.loader;
+    opens com.habbashx.management;
     opens com.habbashx.manager;
     opens com.habbashx.parser;
     opens com.habbashx.property;
@@ -13,7 +19,9 @@ module property.parser {
     opens com.habbashx.validation;
     opens com.habbashx.parser.factory;
     opens com.habbashx.decryptor.registry;
+    opens com.habbashx.decryptor.aes;
     opens com.habbashx.converter.registry;
     opens com.habbashx.resolver.registry;
+    opens com.habbashx.unit;
 
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.habbashx.decryptor.aes;
+
+import com.habbashx.exception.PropertyDecryptorException;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AesGcmPropertyDecryptorTest {
+
+    private final AesGcmPropertyDecryptor decryptor = new AesGcmPropertyDecryptor(AesGcmPropertyDecryptor.generateKey());
+
+    @Test
+    void decryptsWhatItEncrypts() {
+        final String large = "x".repeat(10_000);
+        for (final String value : new String[]{"", "secret", "pässwörd ✓", large}) {
+            final String encrypted = decryptor.encrypt(value);
+
+            assertEquals(value, decryptor.decrypt(encrypted));
+            assertEquals(value, decryptor.decrypt("ENC(" + encrypted + ")"));
+        }
+        assertNull(decryptor.decrypt(null));
+    }
+
+    @Test
+    void everyEncryptionUsesAFreshIv() {
+        assertNotEquals(decryptor.encrypt("secret"), decryptor.encrypt("secret"));
+    }
+
+    @Test
+    void acceptsUrlSafeBase64WithoutPadding() {
+        final String encrypted = decryptor.encrypt("url safe");
+        final String urlSafe = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Base64.getDecoder().decode(encrypted));
+
+        assertEquals("url safe", decryptor.decrypt(urlSafe));
+    }
+
+    @Test
+    void rejectsTamperedCiphertextWithTheCause() {
+        final byte[] bytes = Base64.getDecoder().decode(decryptor.encrypt("secret"));
+        bytes[AesGcmPropertyDecryptor.IV_LENGTH] ^= 1;
+        final String tampered = Base64.getEncoder().encodeToString(bytes);
+
+        final PropertyDecryptorException exception =
+                assertThrows(PropertyDecryptorException.class, () -> decryptor.decrypt(tampered));
+        assertInstanceOf(AEADBadTagException.class, exception.getCause());
+
+        // the cipher of the thread stays usable after a failure
+        assertEquals("after", decryptor.decrypt(decryptor.encrypt("after")));
+        assertEquals(1, decryptor.getMetrics().failures());
+    }
+
+    @Test
+    void rejectsValuesEncryptedWithAnotherKey() {
+        final String encrypted = new AesGcmPropertyDecryptor(AesGcmPropertyDecryptor.generateKey()).encrypt("secret");
+
+        final PropertyDecryptorException exception =
+                assertThrows(PropertyDecryptorException.class, () -> decryptor.decrypt(encrypted));
+        assertInstanceOf(AEADBadTagException.class, exception.getCause());
+    }
+
+    @Test
+    void rejectsMalformedValues() {
+        assertThrows(PropertyDecryptorException.class, () -> decryptor.decrypt("c2hvcnQ="));
+        assertThrows(PropertyDecryptorException.class, () -> decryptor.decrypt("not base64!"));
+        assertEquals(2, decryptor.getMetrics().failures());
+        assertEquals(0, decryptor.getMetrics().decryptions());
+    }
+
+    @Test
+    void keysOfEveryAesSizeRoundTrip() {
+        for (final int bytes : new int[]{16, 24, 32}) {
+            final SecretKey key = AesGcmPropertyDecryptor.keyOf(Base64.getEncoder().encodeToString(new byte[bytes]));
+            final AesGcmPropertyDecryptor sized = new AesGcmPropertyDecryptor(key);
+
+            assertEquals("value", sized.decrypt(sized.encrypt("value")));
+        }
+        assertThrows(PropertyDecryptorException.class,
+                () -> AesGcmPropertyDecryptor.keyOf(Base64.getEncoder().encodeToString(new byte[20])));
+    }
+
+    @Test
+    void derivedKeysAreDeterministic() {
+        final byte[] salt = "salt".getBytes(StandardCharsets.UTF_8);
+        final String encrypted = new AesGcmPropertyDecryptor("password".toCharArray(), salt).encrypt("value");
+
+        assertEquals("value", new AesGcmPropertyDecryptor("password".toCharArray(), salt).decrypt(encrypted));
+    }
+
+    @Test
+    void countsSuccessfulDecryptions() {
+        decryptor.decrypt(decryptor.encrypt("abc"));
+        decryptor.decrypt(decryptor.encrypt("de"));
+
+        final AesGcmPropertyDecryptor.Metrics metrics = decryptor.getMetrics();
+        assertEquals(2, metrics.decryptions());
+        assertEquals(5, metrics.decryptedBytes());
+    }
+}
@@ -0,0 +1,147 @@
+package com.habbashx.injector;
+
+import com.habbashx.injector.listener.InjectionStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Redeploys a config class in a fresh class loader 1,000 times, injecting it with one long-lived
+ * {@link PropertyInjector}, and checks that the injector's caches let every old loader be collected.
+ */
+class ClassLoaderLeakTest {
+
+    private static final int REDEPLOYS = 1_000;
+
+    private static final String CONFIG_CLASS = RedeployedConfig.class.getName();
+
+    /**
+     * Heap growth tolerated between the early and final measurements, to absorb JIT and GC noise.
+     */
+    private static final long HEAP_TOLERANCE_BYTES = 16L * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void redeployedClassLoadersAreCollected() throws Exception {
+        final Path file = directory.resolve("redeploy.properties");
+        Files.writeString(file, "app.port=8080\napp.users=alice,bob\ndb.url=jdbc:h2:mem:test\n");
+
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final List<WeakReference<ClassLoader>> loaders = new ArrayList<>(REDEPLOYS);
+
+        long baseline = 0;
+        for (int i = 0; i < REDEPLOYS; i++) {
+            loaders.add(new WeakReference<>(redeploy(injector)));
+            if (i == REDEPLOYS / 10) {
+                baseline = usedHeapAfterGc();
+            }
+        }
+
+        assertEquals(REDEPLOYS, injector.getInjectionCount());
+
+        final long used = usedHeapAfterGc();
+        final long alive = loaders.stream().filter(reference -> reference.get() != null).count();
+
+        assertEquals(0, alive, alive + " of " + REDEPLOYS + " redeployed class loaders are still reachable");
+        assertTrue(used - baseline < HEAP_TOLERANCE_BYTES,
+                "heap grew by " + (used - baseline) / 1024 + " KB over " + REDEPLOYS + " redeploys");
+    }
+
+    @Test
+    void statisticsDoNotKeepRedeployedClassLoadersAlive() throws Exception {
+        final Path file = directory.resolve("redeploy.properties");
+        Files.writeString(file, "app.port=8080\napp.users=alice,bob\ndb.url=jdbc:h2:mem:test\n");
+
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final InjectionStatistics statistics = new InjectionStatistics();
+        injector.setInjectionListener(statistics);
+        final List<WeakReference<ClassLoader>> loaders = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            loaders.add(new WeakReference<>(redeploy(injector)));
+        }
+        assertFalse(statistics.slowestClasses(10).isEmpty());
+
+        usedHeapAfterGc();
+        final long alive = loaders.stream().filter(reference -> reference.get() != null).count();
+
+        assertEquals(0, alive, alive + " redeployed class loaders are kept alive by the statistics");
+        assertEquals(List.of(), statistics.slowestClasses(10));
+        assertFalse(statistics.slowestKeys(10).isEmpty());
+    }
+
+    /**
+     * Loads the config class in a new class loader, injects an instance and returns the loader.
+     */
+    private static ClassLoader redeploy(PropertyInjector injector) throws ReflectiveOperationException {
+        final ClassLoader loader = new RedeployClassLoader(ClassLoaderLeakTest.class.getClassLoader());
+        final Class<?> type = Class.forName(CONFIG_CLASS, true, loader);
+        final Object config = type.getDeclaredConstructor().newInstance();
+
+        injector.inject(config);
+
+        assertEquals(8080, type.getMethod("getPort").invoke(config));
+        return loader;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Child-first loader for {@link RedeployedConfig} and its nested classes; everything else,
+     * including the library, comes from the parent.
+     */
+    private static final class RedeployClassLoader extends ClassLoader {
+
+        private RedeployClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(CONFIG_CLASS)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    final byte[] bytes = classBytes(name);
+                    type = defineClass(name, bytes, 0, bytes.length);
+                }
+                return type;
+            }
+        }
+
+        private byte[] classBytes(String name) {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new IllegalStateException("class file not found: " + name);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
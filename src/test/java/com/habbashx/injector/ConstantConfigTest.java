@@ -0,0 +1,103 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.Range;
+import com.habbashx.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConstantConfigTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void handlesAndProxyReturnTheConvertedValues() throws Throwable {
+        final ConstantConfig<Limits> config = injector("limits.max=32\n").constants(Limits.class);
+
+        assertEquals(32, (int) config.handle("max").invokeExact());
+        assertEquals(Duration.ofSeconds(30), (Duration) config.handle("timeout").invokeExact());
+        assertEquals(32, config.get().max());
+        assertEquals(List.of("max", "timeout"), config.getNames().stream().sorted().toList());
+        assertThrows(IllegalArgumentException.class, () -> config.handle("missing"));
+    }
+
+    @Test
+    void refreshSwapsOnlyChangedValues() throws Throwable {
+        final Path file = write("limits.max=32\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final ConstantConfig<Limits> config = injector.constants(Limits.class);
+        final MethodHandle max = config.handle("max");
+
+        Files.writeString(file, "limits.max=64\n");
+        // the file is only read again by reload()
+        assertEquals(0, config.refresh());
+
+        injector.reload();
+        assertEquals(64, (int) max.invokeExact());
+        assertEquals(64, config.get().max());
+    }
+
+    @Test
+    void violatingRefreshKeepsThePreviousValues() throws Throwable {
+        final Path file = write("limits.max=32\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final ConstantConfig<Limits> config = injector.constants(Limits.class);
+
+        Files.writeString(file, "limits.max=0\nlimits.timeout=1s\n");
+        assertThrows(ConstraintViolationException.class, injector::reload);
+
+        assertEquals(32, (int) config.handle("max").invokeExact());
+        assertEquals(Duration.ofSeconds(30), (Duration) config.handle("timeout").invokeExact());
+    }
+
+    @Test
+    void handlesKeepTheirConfigRefreshedAfterGarbageCollection() throws Throwable {
+        final Path file = write("limits.max=32\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final MethodHandle max = injector.constants(Limits.class).handle("max");
+        final Limits proxy = injector.constants(Limits.class).get();
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Files.writeString(file, "limits.max=48\n");
+        injector.reload();
+
+        assertEquals(48, (int) max.invokeExact());
+        assertEquals(48, proxy.max());
+    }
+
+    private PropertyInjector injector(String content) throws IOException {
+        return new PropertyInjector(write(content).toFile());
+    }
+
+    private Path write(String content) throws IOException {
+        final Path file = directory.resolve("limits.properties");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    interface Limits {
+
+        @InjectProperty("limits.max")
+        @Range(min = 1, max = 1024)
+        int max();
+
+        @InjectProperty("limits.timeout")
+        @DefaultValue("30s")
+        Duration timeout();
+    }
+}
@@ -0,0 +1,164 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.NotBlank;
+import com.habbashx.annotation.Pattern;
+import com.habbashx.annotation.Range;
+import com.habbashx.annotation.Required;
+import com.habbashx.annotation.Size;
+import com.habbashx.converter.registry.PropertyConverterRegistry;
+import com.habbashx.decryptor.registry.PropertyDecryptorRegistry;
+import com.habbashx.exception.ConstraintViolationException;
+import com.habbashx.injector.source.PropertySource;
+import com.habbashx.resolver.registry.ResolverRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConstraintInjectionTest {
+
+    @Test
+    void notBlankRejectsBlankAndMissingValues() {
+        final NotBlankConfig blank = new NotBlankConfig();
+        assertEquals(List.of("name: must not be blank"),
+                violations(injector(Map.of("name", "  ")), blank));
+        assertEquals("previous", blank.name);
+
+        assertEquals(List.of("name: must not be blank"),
+                violations(injector(Map.of()), new NotBlankConfig()));
+
+        final NotBlankConfig valid = new NotBlankConfig();
+        injector(Map.of("name", "app")).inject(valid);
+        assertEquals("app", valid.name);
+    }
+
+    @Test
+    void sizeRejectsValuesOutsideTheRangeAndMissingValuesBelowTheMinimum() {
+        final SizeConfig config = new SizeConfig();
+        assertEquals(List.of("code: size must be between 2 and 4 but was 5", "hosts: size must be between 1 and 3 but was 4"),
+                violations(injector(Map.of("code", "abcde", "hosts", "a,b,c,d")), config));
+        assertEquals("xx", config.code);
+        assertEquals(List.of("seed"), config.hosts);
+
+        assertEquals(List.of("code: size must be between 2 and 4 but was absent", "hosts: size must be between 1 and 3 but was absent"),
+                violations(injector(Map.of()), new SizeConfig()));
+    }
+
+    @Test
+    void rangeRejectsValuesOutsideTheRangeAndAcceptsMissingValues() {
+        final RangeConfig config = new RangeConfig();
+        assertEquals(List.of("port: must be between 1 and 65535 but was 70000"),
+                violations(injector(Map.of("port", "70000")), config));
+        assertEquals(8080, config.port);
+
+        final RangeConfig missing = new RangeConfig();
+        injector(Map.of()).inject(missing);
+        assertEquals(8080, missing.port);
+    }
+
+    @Test
+    void patternRejectsMismatchesAndAcceptsMissingValues() {
+        final PatternConfig config = new PatternConfig();
+        assertEquals(List.of("mode: must match \"fast|slow\""),
+                violations(injector(Map.of("mode", "medium")), config));
+        assertEquals("fast", config.mode);
+
+        final PatternConfig missing = new PatternConfig();
+        injector(Map.of()).inject(missing);
+        assertEquals("fast", missing.mode);
+    }
+
+    @Test
+    void requiredRejectsMissingValues() {
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> injector(Map.of()).inject(new RequiredConfig()));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("missing required property: url", exception.getCause().getMessage());
+    }
+
+    @Test
+    void constructorIsNotInvokedWithViolatingArguments() {
+        final int before = Server.CONSTRUCTED.get();
+
+        final ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> injector(Map.of("host", "", "port", "0")).create(Server.class));
+        assertEquals(List.of("host: must not be blank", "port: must be between 1 and 65535 but was 0"),
+                exception.getViolations());
+        assertEquals(before, Server.CONSTRUCTED.get());
+
+        assertEquals(new Server("db", 5432), injector(Map.of("host", "db", "port", "5432")).create(Server.class));
+    }
+
+    private static List<String> violations(PropertyInjector injector, Object config) {
+        return assertThrows(ConstraintViolationException.class, () -> injector.inject(config)).getViolations();
+    }
+
+    private static PropertyInjector injector(Map<String, String> values) {
+        final Properties properties = new Properties();
+        properties.putAll(values);
+        final PropertySource source = new PropertySource() {
+            @Override
+            public String get(String key) {
+                return properties.getProperty(key);
+            }
+
+            @Override
+            public Properties getAll() {
+                return properties;
+            }
+        };
+        return new PropertyInjector(source, new PropertyConverterRegistry(), new PropertyDecryptorRegistry(), new ResolverRegistry());
+    }
+
+    static class NotBlankConfig {
+        @InjectProperty("name")
+        @NotBlank
+        String name = "previous";
+    }
+
+    static class SizeConfig {
+        @InjectProperty("code")
+        @Size(min = 2, max = 4)
+        String code = "xx";
+
+        @InjectList("hosts")
+        @Size(min = 1, max = 3)
+        List<String> hosts = List.of("seed");
+    }
+
+    static class RangeConfig {
+        @InjectProperty("port")
+        @Range(min = 1, max = 65535)
+        int port = 8080;
+    }
+
+    static class PatternConfig {
+        @InjectProperty("mode")
+        @Pattern("fast|slow")
+        String mode = "fast";
+    }
+
+    static class RequiredConfig {
+        @InjectProperty("url")
+        @Required
+        String url;
+    }
+
+    record Server(@InjectProperty("host") @NotBlank String host,
+                  @InjectProperty("port") @Range(min = 1, max = 65535) int port) {
+
+        static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+        Server {
+            CONSTRUCTED.incrementAndGet();
+        }
+    }
+}
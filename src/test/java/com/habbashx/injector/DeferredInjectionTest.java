@@ -0,0 +1,176 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.DecryptWith;
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.NotBlank;
+import com.habbashx.annotation.Range;
+import com.habbashx.annotation.Required;
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.decryptor.Secret;
+import com.habbashx.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferredInjectionTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lazyValuesAreConvertedOnFirstAccessAndAfterEveryReload() throws IOException {
+        final Path file = write("pool.size=8\ntimeout=5s\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final LazyConfig config = new LazyConfig();
+        injector.inject(config);
+
+        assertFalse(config.poolSize.isResolved());
+        assertEquals(8, config.poolSize.get());
+        assertTrue(config.poolSize.isResolved());
+        assertEquals(Duration.ofSeconds(5), config.timeout.get());
+
+        Files.writeString(file, "pool.size=16\ntimeout=1m\n");
+        assertEquals(8, config.poolSize.get());
+
+        injector.reload();
+        assertFalse(config.poolSize.isResolved());
+        assertEquals(16, config.poolSize.get());
+        assertEquals(Duration.ofMinutes(1), config.timeout.get());
+    }
+
+    @Test
+    void lazyValuesFallBackToTheirDefaultWhenTheKeyIsRemoved() throws IOException {
+        final Path file = write("pool.size=8\ntimeout=5s\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final LazyConfig config = new LazyConfig();
+        injector.inject(config);
+        assertEquals(Duration.ofSeconds(5), config.timeout.get());
+
+        Files.writeString(file, "pool.size=8\n");
+        injector.reload();
+
+        assertEquals(Duration.ofSeconds(30), config.timeout.get());
+    }
+
+    @Test
+    void secretsAreDecryptedOnFirstAccessAndAgainAfterReload() throws IOException {
+        final Path file = write("db.password=1ssap\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final SecretConfig config = new SecretConfig();
+        final int before = Reverse.CALLS.get();
+        injector.inject(config);
+
+        assertFalse(config.password.isDecrypted());
+        assertEquals(before, Reverse.CALLS.get());
+        assertEquals("pass1", config.password.get());
+        assertEquals("pass1", config.password.get());
+        assertEquals(before + 1, Reverse.CALLS.get());
+        assertEquals("Secret[****]", config.password.toString());
+
+        Files.writeString(file, "db.password=2ssap\n");
+        injector.reload();
+
+        assertFalse(config.password.isDecrypted());
+        assertEquals("pass2", config.password.get());
+        assertEquals(before + 2, Reverse.CALLS.get());
+    }
+
+    @Test
+    void reloadedValuesAreCheckedOnAccess() throws IOException {
+        final Path file = write("pool.size=8\nname=app\nurl=jdbc:h2:mem:test\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final CheckedConfig config = new CheckedConfig();
+        injector.inject(config);
+        assertEquals(8, config.poolSize.get());
+        assertEquals("app", config.name.get());
+
+        Files.writeString(file, "pool.size=0\n");
+        injector.reload();
+
+        final ConstraintViolationException range =
+                assertThrows(ConstraintViolationException.class, () -> config.poolSize.get());
+        assertEquals(List.of("pool.size: must be between 1 and 64 but was 0"), range.getViolations());
+        final ConstraintViolationException blank =
+                assertThrows(ConstraintViolationException.class, () -> config.name.get());
+        assertEquals(List.of("name: must not be blank"), blank.getViolations());
+        assertThrows(IllegalArgumentException.class, () -> config.url.get());
+        assertFalse(config.url.isResolved());
+    }
+
+    @Test
+    void absentLazyValuesResolveToNullUntilAReloadSuppliesThem() throws IOException {
+        final Path file = write("timeout=1s\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        final LazyConfig config = new LazyConfig();
+        injector.inject(config);
+
+        assertNull(config.poolSize.get());
+        assertTrue(config.poolSize.isResolved());
+        assertEquals(2, injector.getDeferredHandleCount());
+
+        Files.writeString(file, "timeout=1s\npool.size=4\n");
+        injector.reload();
+
+        assertEquals(4, config.poolSize.get());
+    }
+
+    private Path write(String content) throws IOException {
+        final Path file = directory.resolve("deferred.properties");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    public static class Reverse implements PropertyDecryptor {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public String decrypt(String encryptedValue) {
+            CALLS.incrementAndGet();
+            return new StringBuilder(encryptedValue).reverse().toString();
+        }
+    }
+
+    static class LazyConfig {
+        @InjectProperty("pool.size")
+        Lazy<Integer> poolSize;
+
+        @InjectProperty("timeout")
+        @DefaultValue("30s")
+        Supplier<Duration> timeout;
+    }
+
+    static class SecretConfig {
+        @InjectProperty("db.password")
+        @DecryptWith(Reverse.class)
+        Secret<String> password;
+    }
+
+    static class CheckedConfig {
+        @InjectProperty("pool.size")
+        @Range(min = 1, max = 64)
+        Lazy<Integer> poolSize;
+
+        @InjectProperty("name")
+        @NotBlank
+        Lazy<String> name;
+
+        @InjectProperty("url")
+        @Required
+        Lazy<String> url;
+    }
+}
@@ -0,0 +1,99 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.Required;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NestedInjectionTest {
+
+    private static final String PROPERTIES = """
+            hosts=x,y
+            url=unprefixed
+            db.url=jdbc:h2:mem:test
+            db.hosts=a,b,c
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void nestedBeansPrefixPropertyKeysButNotListKeys() throws IOException {
+        final BeanConfig config = new BeanConfig();
+        injector(PROPERTIES).inject(config);
+
+        assertEquals("jdbc:h2:mem:test", config.database.url);
+        assertEquals(List.of("x", "y"), config.database.hosts);
+    }
+
+    @Test
+    void nestedRecordsFollowTheRuleOfNestedBeans() throws IOException {
+        final RecordConfig config = injector(PROPERTIES).create(RecordConfig.class);
+
+        assertEquals(new DatabaseRecord("jdbc:h2:mem:test", List.of("x", "y")), config.database());
+    }
+
+    @Test
+    void recordsNestedInABeanFollowTheSameRule() throws IOException {
+        final MixedConfig config = new MixedConfig();
+        injector(PROPERTIES).inject(config);
+
+        assertEquals(new DatabaseRecord("jdbc:h2:mem:test", List.of("x", "y")), config.database);
+    }
+
+    @Test
+    void missingRequiredNestedPropertiesReportThePrefixedKey() throws IOException {
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> injector("hosts=a\n").inject(new BeanConfig()));
+
+        assertEquals("missing required property: db.url", rootCause(exception).getMessage());
+    }
+
+    private PropertyInjector injector(String content) throws IOException {
+        final Path file = directory.resolve("nested.properties");
+        Files.writeString(file, content);
+        return new PropertyInjector(file.toFile());
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    static class BeanConfig {
+        @InjectPrefix("db")
+        DatabaseBean database;
+    }
+
+    static class DatabaseBean {
+        @InjectProperty("url")
+        @Required
+        String url;
+
+        @InjectList("hosts")
+        List<String> hosts;
+    }
+
+    record RecordConfig(@InjectPrefix("db") DatabaseRecord database) {
+    }
+
+    static class MixedConfig {
+        @InjectPrefix("db")
+        DatabaseRecord database;
+    }
+
+    record DatabaseRecord(@InjectProperty("url") String url, @InjectList("hosts") List<String> hosts) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.DecryptWith;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.converter.registry.PropertyConverterRegistry;
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.decryptor.registry.PropertyDecryptorRegistry;
+import com.habbashx.injector.listener.InjectionListener;
+import com.habbashx.injector.listener.InjectionPhase;
+import com.habbashx.injector.source.PropertySource;
+import com.habbashx.resolver.registry.ResolverRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelDecryptionTest {
+
+    @Test
+    void decryptedValuesOnlyReachFieldsWithTheSameDecryptor() {
+        final PropertyInjector injector = injector(Map.of("token", "terces"));
+        injector.setParallelDecryption(true);
+
+        final SharedKeyConfig config = new SharedKeyConfig();
+        injector.inject(config);
+
+        assertEquals("terces", config.plain);
+        assertEquals("secret", config.reversed);
+        assertEquals("TERCES", config.upper);
+    }
+
+    @Test
+    void nestedPrefixesAreDecryptedInTheBulkPhaseAtAnyDepth() {
+        final PropertyInjector injector = injector(Map.of(
+                "name", "app",
+                "password", "1ssap",
+                "outer.inner.password", "2ssap"
+        ));
+        injector.setParallelDecryption(true);
+        final List<String> phases = Collections.synchronizedList(new ArrayList<>());
+        injector.setInjectionListener(new InjectionListener() {
+            @Override
+            public void onPhase(@NotNull Class<?> type, @NotNull String key, @NotNull InjectionPhase phase, long nanos) {
+                if (phase == InjectionPhase.DECRYPT || phase == InjectionPhase.SET) {
+                    phases.add(phase + " " + key);
+                }
+            }
+        });
+
+        final RootConfig config = new RootConfig();
+        injector.inject(config);
+
+        assertEquals("pass1", config.password);
+        assertEquals("pass2", config.outer.inner().password());
+        final int firstSet = phases.indexOf("SET name");
+        assertTrue(phases.indexOf("DECRYPT outer.inner.password") < firstSet, phases.toString());
+        assertTrue(phases.indexOf("DECRYPT password") < firstSet, phases.toString());
+    }
+
+    private static PropertyInjector injector(Map<String, String> values) {
+        final Properties properties = new Properties();
+        properties.putAll(values);
+        final PropertySource source = new PropertySource() {
+            @Override
+            public String get(String key) {
+                return properties.getProperty(key);
+            }
+
+            @Override
+            public Properties getAll() {
+                return properties;
+            }
+        };
+        return new PropertyInjector(source, new PropertyConverterRegistry(), new PropertyDecryptorRegistry(), new ResolverRegistry());
+    }
+
+    public static class Reverse implements PropertyDecryptor {
+        @Override
+        public String decrypt(String encryptedValue) {
+            return new StringBuilder(encryptedValue).reverse().toString();
+        }
+    }
+
+    public static class Upper implements PropertyDecryptor {
+        @Override
+        public String decrypt(String encryptedValue) {
+            return encryptedValue.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    static class SharedKeyConfig {
+        @InjectProperty("token")
+        String plain;
+
+        @InjectProperty("token")
+        @DecryptWith(Reverse.class)
+        String reversed;
+
+        @InjectProperty("token")
+        @DecryptWith(Upper.class)
+        String upper;
+    }
+
+    static class RootConfig {
+        @InjectProperty("name")
+        String name;
+
+        @InjectProperty("password")
+        @DecryptWith(Reverse.class)
+        String password;
+
+        @InjectPrefix("outer")
+        Outer outer;
+    }
+
+    record Outer(@InjectPrefix("inner") Inner inner) {
+    }
+
+    record Inner(@InjectProperty("password") @DecryptWith(Reverse.class) String password) {
+    }
+}
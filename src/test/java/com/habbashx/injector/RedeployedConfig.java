@@ -0,0 +1,45 @@
+package com.habbashx.injector;
+
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.Range;
+
+import java.util.List;
+
+/**
+ * Config class that {@link ClassLoaderLeakTest} defines again in a fresh class loader for every redeploy.
+ */
+public class RedeployedConfig {
+
+    private static final String UNUSED_CONSTANT = "constant";
+
+    @InjectProperty("app.port")
+    @Range(min = 1, max = 65535)
+    private int port;
+
+    @InjectProperty("app.mode")
+    @DefaultValue("PRODUCTION")
+    private Mode mode;
+
+    @InjectList("app.users")
+    private List<String> users;
+
+    @InjectPrefix("db")
+    private Database database;
+
+    public int getPort() {
+        return port;
+    }
+
+    public enum Mode {
+        DEVELOPMENT, PRODUCTION
+    }
+
+    public static class Database {
+
+        @InjectProperty("url")
+        private String url;
+    }
+}
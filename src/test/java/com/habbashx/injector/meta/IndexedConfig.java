@@ -0,0 +1,17 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.annotation.InjectProperty;
+
+/**
+ * Config class that {@link PlanIndexTest} defines from a copy of its class file, so that the
+ * test controls the build stamp of the class.
+ */
+public class IndexedConfig {
+
+    @InjectProperty("app.port")
+    private int port;
+
+    public int getPort() {
+        return port;
+    }
+}
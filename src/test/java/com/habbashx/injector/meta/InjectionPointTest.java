@@ -0,0 +1,122 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.annotation.UseConverter;
+import com.habbashx.converter.PropertyConverter;
+import com.habbashx.converter.registry.PropertyConverterRegistry;
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.decryptor.registry.PropertyDecryptorRegistry;
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.injector.listener.InjectionCache;
+import com.habbashx.injector.listener.InjectionStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InjectionPointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyRegistryKeepsItsOwnBinding() throws Exception {
+        final FieldMeta meta = new FieldMeta(Config.class.getDeclaredField("name"));
+        final PropertyConverterRegistry first = new PropertyConverterRegistry();
+        final PropertyConverterRegistry second = new PropertyConverterRegistry();
+        final Suffix a = new Suffix("-a");
+        final Suffix b = new Suffix("-b");
+
+        meta.bindConverter(first, a);
+        meta.bindConverter(second, b);
+        meta.bindConverter(first, new Suffix("-ignored"));
+
+        assertSame(a, meta.getConverter(first));
+        assertSame(b, meta.getConverter(second));
+        assertNull(meta.getConverter(new PropertyConverterRegistry()));
+    }
+
+    @Test
+    void bindingsDoNotKeepRegistriesAlive() throws Exception {
+        final FieldMeta meta = new FieldMeta(Config.class.getDeclaredField("name"));
+        PropertyDecryptorRegistry registry = new PropertyDecryptorRegistry();
+        final WeakReference<PropertyDecryptorRegistry> reference = new WeakReference<>(registry);
+        meta.bindDecryptor(registry, value -> value);
+
+        registry = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+        final PropertyDecryptorRegistry other = new PropertyDecryptorRegistry();
+        final PropertyDecryptor decryptor = value -> value;
+        meta.bindDecryptor(other, decryptor);
+        assertSame(decryptor, meta.getDecryptor(other));
+    }
+
+    @Test
+    void injectorsWithSeparateRegistriesHitTheirOwnBinding() throws Exception {
+        final Path file = directory.resolve("app.properties");
+        Files.writeString(file, "app.name=app\n");
+        final InjectionStatistics firstStatistics = new InjectionStatistics();
+        final InjectionStatistics secondStatistics = new InjectionStatistics();
+        final PropertyInjector first = injector(file, new Suffix("-first"), firstStatistics);
+        final PropertyInjector second = injector(file, new Suffix("-second"), secondStatistics);
+
+        for (int i = 0; i < 3; i++) {
+            final Config firstConfig = new Config();
+            final Config secondConfig = new Config();
+            first.inject(firstConfig);
+            second.inject(secondConfig);
+
+            assertEquals("app-first", firstConfig.name);
+            assertEquals("app-second", secondConfig.name);
+        }
+
+        assertEquals(0, firstStatistics.cacheMisses(InjectionCache.CONVERTER));
+        assertEquals(3, firstStatistics.cacheHits(InjectionCache.CONVERTER));
+        assertEquals(0, secondStatistics.cacheMisses(InjectionCache.CONVERTER));
+        assertEquals(3, secondStatistics.cacheHits(InjectionCache.CONVERTER));
+    }
+
+    private static PropertyInjector injector(Path file, Suffix converter, InjectionStatistics statistics) {
+        return PropertyInjector.injectorBuilder()
+                .propertySource(file.toFile())
+                .propertyConverter(Suffix.class, converter)
+                .bind(Config.class)
+                .injectionListener(statistics)
+                .build();
+    }
+
+    public static class Suffix implements PropertyConverter<String> {
+
+        private final String suffix;
+
+        public Suffix() {
+            this("");
+        }
+
+        Suffix(String suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override
+        public String convert(Class<?> type, String rawValue) {
+            return rawValue + suffix;
+        }
+    }
+
+    static class Config {
+        @InjectProperty("app.name")
+        @UseConverter(Suffix.class)
+        String name;
+    }
+}
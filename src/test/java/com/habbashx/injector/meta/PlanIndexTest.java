@@ -0,0 +1,162 @@
+package com.habbashx.injector.meta;
+
+import com.habbashx.injector.PropertyInjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlanIndexTest {
+
+    private static final String CONFIG_CLASS = IndexedConfig.class.getName();
+
+    @TempDir
+    Path directory;
+
+    private Path classes;
+
+    private Path classFile;
+
+    @BeforeEach
+    void copyConfigClass() throws IOException {
+        classes = directory.resolve("classes");
+        classFile = classes.resolve(CONFIG_CLASS.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = IndexedConfig.class.getResourceAsStream("IndexedConfig.class")) {
+            Files.write(classFile, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void plansSurviveAWriteAndReadRoundTrip() throws Exception {
+        final Class<?> type = load();
+        final List<FieldPlan> plans = List.of(FieldPlan.of(type.getDeclaredField("port")));
+        final PlanIndex index = new PlanIndex();
+        index.put(type, plans);
+        final Path file = directory.resolve("plans.idx");
+
+        index.write(file);
+        final PlanIndex read = PlanIndex.read(file);
+
+        assertEquals(1, read.size());
+        assertEquals(plans, read.plansFor(type));
+        // the same class file defined again by another loader has the same stamp
+        assertEquals(plans, read.plansFor(load()));
+    }
+
+    @Test
+    void rebuiltClassesAreStale() throws Exception {
+        final Class<?> type = load();
+        final PlanIndex index = new PlanIndex();
+        index.put(type, List.of(FieldPlan.of(type.getDeclaredField("port"))));
+        final Path file = directory.resolve("plans.idx");
+        index.write(file);
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 60_000));
+
+        assertNull(PlanIndex.read(file).plansFor(load()));
+    }
+
+    @Test
+    void classesNotLoadedFromAFileAreNotRecorded() {
+        final PlanIndex index = new PlanIndex();
+        index.put(String.class, List.of());
+
+        assertEquals(0, index.size());
+        assertNull(index.plansFor(String.class));
+    }
+
+    @Test
+    void missingOrCorruptIndexesAreEmpty() throws IOException {
+        assertEquals(0, PlanIndex.read(directory.resolve("missing.idx")).size());
+
+        final Path corrupt = directory.resolve("corrupt.idx");
+        Files.write(corrupt, new byte[]{0x50, 0x50, 0x49, 0x58, 0, 2, 0, 0, 0, 9});
+        assertEquals(0, PlanIndex.read(corrupt).size());
+    }
+
+    @Test
+    void failedWritesDeleteTheTemporaryFile() throws IOException {
+        final Path target = directory.resolve("plans.idx");
+        Files.createDirectories(target);
+        Files.writeString(target.resolve("occupied"), "x");
+
+        assertThrows(RuntimeException.class, () -> new PlanIndex().write(target));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(), files.filter(path -> path.toString().endsWith(".tmp")).toList());
+        }
+    }
+
+    @Test
+    void injectionUsesThePlansInsteadOfTheAnnotations() throws Exception {
+        final Class<?> type = load();
+        final PlanIndex index = new PlanIndex();
+        index.put(type, List.of(new FieldPlan("port", "indexed.port", null, null, null, false, null, null, false)));
+        final Path file = directory.resolve("plans.idx");
+        index.write(file);
+        final Path properties = directory.resolve("app.properties");
+        Files.writeString(properties, "app.port=1\nindexed.port=2\n");
+
+        final PropertyInjector injector = PropertyInjector.injectorBuilder()
+                .propertySource(properties.toFile())
+                .planIndex(file)
+                .build();
+        final Object config = type.getDeclaredConstructor().newInstance();
+        injector.inject(config);
+
+        assertEquals(2, type.getMethod("getPort").invoke(config));
+    }
+
+    /**
+     * Defines the config class from the copied class file, in a new loader whose code source is the copy.
+     */
+    private Class<?> load() throws ClassNotFoundException {
+        return Class.forName(CONFIG_CLASS, true, new CopyClassLoader(classes, PlanIndexTest.class.getClassLoader()));
+    }
+
+    private static final class CopyClassLoader extends ClassLoader {
+
+        private final Path classes;
+
+        private CopyClassLoader(Path classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(CONFIG_CLASS)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    try {
+                        final byte[] bytes = Files.readAllBytes(classes.resolve(name.replace('.', '/') + ".class"));
+                        final CodeSource source = new CodeSource(classes.toUri().toURL(), (Certificate[]) null);
+                        type = defineClass(name, bytes, 0, bytes.length, new ProtectionDomain(source, null));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return type;
+            }
+        }
+    }
+}
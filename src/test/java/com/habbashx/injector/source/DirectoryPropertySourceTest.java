@@ -0,0 +1,103 @@
+package com.habbashx.injector.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DirectoryPropertySourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fragmentsAreMergedInFileNameOrder() throws IOException {
+        write("20-local.properties", "db.url=jdbc:h2:mem:local\n");
+        write("10-env.properties", "db.url=jdbc:h2:mem:env\ndb.user=env\n");
+        write("00-defaults.properties", "db.url=jdbc:h2:mem:default\ndb.user=sa\npool.size=8\n");
+        write("notes.txt", "db.url=ignored\n");
+        Files.createDirectory(directory.resolve("30-nested.properties"));
+
+        final DirectoryPropertySource source = new DirectoryPropertySource(directory, "*.properties");
+
+        assertEquals(List.of(directory.resolve("00-defaults.properties"), directory.resolve("10-env.properties"),
+                directory.resolve("20-local.properties")), source.getFiles());
+        assertEquals("jdbc:h2:mem:local", source.get("db.url"));
+        assertEquals("env", source.get("db.user"));
+        assertEquals("8", source.get("pool.size"));
+        assertEquals(3, source.getAll().size());
+    }
+
+    @Test
+    void reloadParsesOnlyFragmentsWhoseContentChanged() throws IOException {
+        final Path stable = write("a.properties", "name=app\n");
+        final Path changing = write("b.properties", "pool.size=8\n");
+        final DirectoryPropertySource source = new DirectoryPropertySource(directory, "*.properties");
+        assertEquals(2, source.getParseCount());
+
+        source.reload();
+        assertEquals(2, source.getParseCount());
+
+        // a newer modification time with the same content is re-read, but the hash matches
+        touch(stable, 10);
+        source.reload();
+        assertEquals(2, source.getParseCount());
+
+        Files.writeString(changing, "pool.size=16\n");
+        touch(changing, 20);
+        source.reload();
+        assertEquals(3, source.getParseCount());
+        assertEquals("16", source.get("pool.size"));
+        assertEquals("app", source.get("name"));
+    }
+
+    @Test
+    void unchangedModificationTimeAndSizeSkipTheRead() throws IOException {
+        final Path file = write("a.properties", "pool.size=8\n");
+        final FileTime modified = Files.getLastModifiedTime(file);
+        final DirectoryPropertySource source = new DirectoryPropertySource(directory, "*.properties");
+
+        Files.writeString(file, "pool.size=9\n");
+        Files.setLastModifiedTime(file, modified);
+        source.reload();
+
+        assertEquals("8", source.get("pool.size"));
+        assertEquals(1, source.getParseCount());
+    }
+
+    @Test
+    void reloadPicksUpAddedAndDeletedFragments() throws IOException {
+        final Path defaults = write("00-defaults.properties", "pool.size=8\nname=app\n");
+        final DirectoryPropertySource source = new DirectoryPropertySource(directory, "*.properties");
+
+        write("10-override.properties", "pool.size=32\n");
+        source.reload();
+        assertEquals("32", source.get("pool.size"));
+        assertEquals(2, source.getFiles().size());
+
+        Files.delete(defaults);
+        source.reload();
+        assertEquals("32", source.get("pool.size"));
+        assertNull(source.get("name"));
+        assertEquals(List.of(directory.resolve("10-override.properties")), source.getFiles());
+        assertEquals(2, source.getParseCount());
+    }
+
+    private Path write(String name, String content) throws IOException {
+        final Path file = directory.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static void touch(Path file, long seconds) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(seconds)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.habbashx.jfr;
+
+import com.habbashx.annotation.DecryptWith;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.decryptor.PropertyDecryptor;
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.manager.PropertyManager;
+import com.habbashx.resolver.PlaceholderResolver;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            ClassPlanEvent.class, DecryptionEvent.class, FieldInjectionEvent.class, PlaceholderResolutionEvent.class,
+            PropertyLoadEvent.class, PropertyStoreEvent.class, ReloadEvent.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void injectionReloadLoadStoreAndDecryptionAreRecorded() throws IOException {
+        final Path file = directory.resolve("jfr.properties");
+        Files.writeString(file, "host=db\nurl=jdbc://${host}/${missing}\ntoken=terces\n");
+
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (final Class<? extends Event> type : EVENTS) {
+                recording.enable(type).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            final PropertyInjector injector = PropertyInjector.injectorBuilder()
+                    .propertySource(file.toFile())
+                    .resolver(new PlaceholderResolver())
+                    .build();
+            injector.inject(new RecordedConfig());
+            injector.reload();
+            final PropertyManager manager = new PropertyManager(file.toFile());
+            manager.storeProperties();
+
+            recording.stop();
+            final Path dump = directory.resolve("events.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        final RecordedEvent plan = only(events, "com.habbashx.ClassPlan",
+                event -> event.getClass("type").getName().equals(RecordedConfig.class.getName()));
+        assertEquals(3, plan.getInt("fieldCount"));
+        assertFalse(plan.getBoolean("indexed"));
+
+        final RecordedEvent field = only(events, "com.habbashx.FieldInjection",
+                event -> "url".equals(event.getString("key")));
+        assertEquals(RecordedConfig.class.getName(), field.getClass("declaringClass").getName());
+        assertEquals("url", field.getString("field"));
+        assertEquals(String.class.getName(), field.getClass("valueType").getName());
+
+        final RecordedEvent placeholders = only(events, "com.habbashx.PlaceholderResolution",
+                event -> event.getInt("placeholders") == 2);
+        assertEquals(1, placeholders.getInt("unresolved"));
+
+        final RecordedEvent decryption = only(events, "com.habbashx.Decryption", event -> true);
+        assertEquals(RecordedConfig.class.getName(), decryption.getClass("declaringClass").getName());
+        assertEquals("token", decryption.getString("field"));
+        assertEquals(Reverse.class.getName(), decryption.getClass("decryptor").getName());
+
+        final RecordedEvent reload = only(events, "com.habbashx.Reload", event -> true);
+        assertTrue(reload.getClass("source").getName().endsWith("FilePropertySource"));
+        assertEquals(0, reload.getInt("resetHandles"));
+
+        for (final String name : List.of("com.habbashx.PropertyLoad", "com.habbashx.PropertyStore")) {
+            final RecordedEvent io = only(events, name, event -> true);
+            assertEquals(file.toString(), io.getString("file"));
+            assertEquals(3, io.getInt("keyCount"));
+        }
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name, Predicate<RecordedEvent> filter) {
+        final List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .filter(filter)
+                .toList();
+        assertEquals(1, matching.size(), () -> name + " events: " + matching);
+        return matching.get(0);
+    }
+
+    public static class Reverse implements PropertyDecryptor {
+        @Override
+        public String decrypt(String encryptedValue) {
+            return new StringBuilder(encryptedValue).reverse().toString();
+        }
+    }
+
+    static class RecordedConfig {
+        @InjectProperty("host")
+        String host;
+
+        @InjectProperty("url")
+        String url;
+
+        @InjectProperty("token")
+        @DecryptWith(Reverse.class)
+        String token;
+    }
+}
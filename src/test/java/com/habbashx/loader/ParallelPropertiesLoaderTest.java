@@ -0,0 +1,151 @@
+package com.habbashx.loader;
+
+import com.habbashx.property.PropertiesStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential tests of {@link ParallelPropertiesLoader} against {@link Properties#load}, with every
+ * chunk size from one byte to the whole file, so that a chunk boundary is tried at every offset.
+ */
+class ParallelPropertiesLoaderTest {
+
+    /**
+     * Wide enough that the chunk size passed to the loader, not the parallelism, sets the chunk
+     * boundaries of the small files below.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(64);
+
+    @TempDir
+    Path directory;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void continuationsWithAnOddNumberOfBackslashesAreNeverSplit() throws IOException {
+        assertSameAsPropertiesAtEveryBoundary("a=1\\\n  2\nb=3\\\\\\\n   4\\\n5\nc=6\\\n");
+    }
+
+    @Test
+    void linesWithAnEvenNumberOfBackslashesEndTheirEntry() throws IOException {
+        assertSameAsPropertiesAtEveryBoundary("a=1\\\\\nb=2\\\\\\\\\n  c=3\n\\\\=4\\\\\n");
+    }
+
+    @Test
+    void crlfLineEndingsAreSplitAfterTheLineFeed() throws IOException {
+        assertSameAsPropertiesAtEveryBoundary("a=1\r\nb=2\\\r\n  3\r\nc=4\\\\\r\nd=5\\\\\\\r\n 6\r\n\r\ne=7");
+    }
+
+    @Test
+    void commentLinesEndingInABackslashDoNotContinue() throws IOException {
+        assertSameAsPropertiesAtEveryBoundary("# note \\\nkey=v\n! other \\\\\\\nx=y\n#\\\n#\\\\\nz=\\\n  w\n");
+    }
+
+    @Test
+    void keysRepeatedAcrossChunksKeepTheirLastValue() throws IOException {
+        assertSameAsPropertiesAtEveryBoundary("k=1\nfiller.one=aaaaaaaa\nk=2\nfiller.two=bbbbbbbb\nk\\\n=3\nk=4\n");
+
+        final Path file = write("k=1\nother=x\nk=2\nk=3\n");
+        final List<String> values = new ArrayList<>();
+        new ParallelPropertiesLoader(POOL, StandardCharsets.ISO_8859_1, 4).forEach(file, (key, value) -> {
+            if (key.equals("k")) {
+                values.add(value);
+            }
+        });
+        assertEquals(List.of("1", "2", "3"), values);
+    }
+
+    @Test
+    void matchesPropertiesLoadOnRandomInput() throws IOException {
+        final String[] tokens = {"a", "b", "=", ":", " ", "#", "!", "\n", "\r", "\r\n", "\\", "\\\n", "\\\r\n", "\\\\", "\\t"};
+        final Random random = new Random(0x10ad);
+        for (int i = 0; i < 150; i++) {
+            final StringBuilder input = new StringBuilder();
+            for (int j = 0; j < 20 + random.nextInt(30); j++) {
+                input.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertSameAsPropertiesAtEveryBoundary(input.toString());
+        }
+    }
+
+    @Test
+    void anEmptyFileEmptiesTheStore() throws IOException {
+        final Path file = write("");
+        final ParallelPropertiesLoader loader = new ParallelPropertiesLoader(POOL, StandardCharsets.ISO_8859_1, 1);
+        final List<String> keys = new ArrayList<>();
+        loader.forEach(file, (key, value) -> keys.add(key));
+        assertTrue(keys.isEmpty());
+
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(Map.of("stale", "1"));
+        loader.load(file, store);
+        assertTrue(store.getPropertyElements().isEmpty());
+    }
+
+    @Test
+    void aMissingFileIsReportedAsAnIOFailure() {
+        final ParallelPropertiesLoader loader = new ParallelPropertiesLoader();
+        assertThrows(UncheckedIOException.class, () -> loader.forEach(directory.resolve("missing.properties"), (key, value) -> {
+        }));
+    }
+
+    /**
+     * Loads the input with every chunk size, through both {@code forEach} and {@code load}, and
+     * compares the result with {@code Properties.load}.
+     */
+    private void assertSameAsPropertiesAtEveryBoundary(String input) throws IOException {
+        final byte[] bytes = input.getBytes(StandardCharsets.ISO_8859_1);
+        final Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(bytes));
+        final Map<String, String> expected = new HashMap<>();
+        properties.forEach((key, value) -> expected.put((String) key, (String) value));
+
+        final Path file = write(input);
+        for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+            final ParallelPropertiesLoader loader = new ParallelPropertiesLoader(POOL, StandardCharsets.ISO_8859_1, chunkSize);
+            final int size = chunkSize;
+
+            final Map<String, String> visited = new HashMap<>();
+            loader.forEach(file, visited::put);
+            assertEquals(expected, visited, () -> "chunk size " + size + ", input: " + escape(input));
+
+            final PropertiesStore store = new PropertiesStore();
+            loader.load(file, store);
+            final Map<String, String> loaded = new HashMap<>();
+            store.getPropertyElements().forEach((key, element) -> loaded.put(key, element.getPropertyValue().getRawValue()));
+            assertEquals(expected, loaded, () -> "chunk size " + size + ", input: " + escape(input));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        final Path file = Files.createTempFile(directory, "parallel", ".properties");
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    private static String escape(String input) {
+        return input.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,165 @@
+package com.habbashx.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Differential tests of {@link PropertiesReader} against {@link Properties#load}.
+ */
+class PropertiesReaderTest {
+
+    /**
+     * Fragments the fuzzer builds inputs from: separators, comment markers, every line terminator,
+     * escapes (valid, malformed and truncated), continuations and non-ASCII characters.
+     */
+    private static final String[] TOKENS = {
+            "a", "key", "b.c", "value", " ", "  ", "\t", "\f", "=", ":", " = ", "#", "!", "\n", "\r", "\r\n",
+            "\\", "\\\n", "\\\r\n", "\\\r", "\\\n   ", "\\\\", "\\=", "\\:", "\\ ", "\\#", "\\t", "\\n", "\\r",
+            "\\f", "\\u0041", "\\u00e9", "\\uD83D\\uDE00", "\\u12", "\\uZZZZ", "\\q", "é", "ÿ", "§", "0", "\u00a0"
+    };
+
+    @Test
+    void matchesPropertiesLoadOnFuzzedInput() {
+        final Random random = new Random(0x5eed);
+        for (int i = 0; i < 5000; i++) {
+            final String input = randomInput(random, 1 + random.nextInt(60));
+            assertSameAsProperties(input, StandardCharsets.ISO_8859_1);
+            assertSameAsProperties(input, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void matchesPropertiesLoadAcrossBufferBoundaries() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            final StringBuilder input = new StringBuilder();
+            while (input.length() < 80_000) {
+                input.append(randomInput(random, 40));
+                if (random.nextInt(8) == 0) {
+                    input.append("long").append(i).append('=').append("x\\\n  y".repeat(2_000)).append('\n');
+                }
+            }
+            assertSameAsProperties(input.toString(), StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    @Test
+    void rejectsMalformedUnicodeEscapes() {
+        final PropertiesReader reader = new PropertiesReader(
+                ByteBuffer.wrap("key=\\u12G4\n".getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.ISO_8859_1);
+
+        assertThrows(IllegalArgumentException.class, () -> reader.forEach((key, value) -> {
+        }));
+    }
+
+    private static String randomInput(Random random, int tokens) {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            input.append(TOKENS[random.nextInt(TOKENS.length)]);
+        }
+        return input.toString();
+    }
+
+    /**
+     * Parses the input with {@code Properties.load} and with the reader, both over a trickling
+     * channel and over an in-memory buffer, and compares the resulting maps or failures.
+     */
+    private static void assertSameAsProperties(String input, Charset charset) {
+        final byte[] bytes = input.getBytes(charset);
+        final Properties expected = new Properties();
+        IllegalArgumentException expectedFailure = null;
+        try {
+            if (charset == StandardCharsets.ISO_8859_1) {
+                expected.load(new ByteArrayInputStream(bytes));
+            } else {
+                expected.load(new StringReader(input));
+            }
+        } catch (IllegalArgumentException e) {
+            expectedFailure = e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final PropertiesReader[] readers = {
+                new PropertiesReader(Channels.newChannel(new TricklingInputStream(bytes)), charset),
+                new PropertiesReader(ByteBuffer.wrap(bytes), charset)
+        };
+        for (final PropertiesReader reader : readers) {
+            final Map<String, String> actual = new HashMap<>();
+            try (reader) {
+                reader.forEach(actual::put);
+            } catch (IllegalArgumentException e) {
+                if (expectedFailure == null) {
+                    fail("reader rejected input accepted by Properties.load: " + escape(input), e);
+                }
+                continue;
+            }
+            if (expectedFailure != null) {
+                fail("reader accepted input rejected by Properties.load: " + escape(input), expectedFailure);
+            }
+            final Map<String, String> expectedMap = new HashMap<>();
+            expected.forEach((key, value) -> expectedMap.put((String) key, (String) value));
+            assertEquals(expectedMap, actual, () -> "input: " + escape(input));
+        }
+    }
+
+    private static String escape(String input) {
+        final StringBuilder escaped = new StringBuilder("\"");
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '\\' || c == '"') {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    /**
+     * Returns at most a few bytes per read, so that lines and escapes straddle read boundaries.
+     */
+    private static final class TricklingInputStream extends InputStream {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        TricklingInputStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return position < bytes.length ? bytes[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == bytes.length) {
+                return -1;
+            }
+            final int count = Math.min(Math.min(length, 1 + position % 7), bytes.length - position);
+            System.arraycopy(bytes, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
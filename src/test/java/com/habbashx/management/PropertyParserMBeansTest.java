@@ -0,0 +1,118 @@
+package com.habbashx.management;
+
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.manager.PropertyManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyParserMBeansTest {
+
+    private static final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void managerAttributesAndOperationsWorkThroughTheServer() throws IOException, JMException {
+        final Path file = directory.resolve("managed.properties");
+        Files.writeString(file, "name=app\nport=8080\n");
+        final long before = System.currentTimeMillis();
+        final PropertyManager manager = new PropertyManager(file.toFile());
+        final ObjectName name = PropertyParserMBeans.register(manager);
+        try {
+            assertEquals("com.habbashx", name.getDomain());
+            assertEquals(file.toString(), SERVER.getAttribute(name, "File"));
+            assertEquals(2, SERVER.getAttribute(name, "KeyCount"));
+            assertEquals(1L, SERVER.getAttribute(name, "LoadCount"));
+            assertEquals(0L, SERVER.getAttribute(name, "StoreCount"));
+            assertEquals(false, SERVER.getAttribute(name, "Dirty"));
+            assertEquals(manager.getEstimatedBytes(), SERVER.getAttribute(name, "EstimatedBytes"));
+            assertTrue(manager.getEstimatedBytes() >= "nameappport8080".length());
+            assertTrue(manager.getLastLoadTime() >= before);
+            assertEquals(Instant.ofEpochMilli(manager.getLastLoadTime()).toString(), SERVER.getAttribute(name, "LastReloadTime"));
+
+            manager.getPropertiesStore().updateRawValue("port", "9090");
+            assertEquals(true, SERVER.getAttribute(name, "Dirty"));
+
+            SERVER.invoke(name, "flush", null, null);
+            assertEquals(1L, SERVER.getAttribute(name, "StoreCount"));
+            assertEquals(false, SERVER.getAttribute(name, "Dirty"));
+            assertTrue(Files.readString(file).contains("port=9090"));
+
+            Files.writeString(file, "name=app\nport=7070\nmode=fast\n");
+            SERVER.invoke(name, "reload", null, null);
+            assertEquals(2L, SERVER.getAttribute(name, "LoadCount"));
+            assertEquals(3, SERVER.getAttribute(name, "KeyCount"));
+            assertEquals(false, SERVER.getAttribute(name, "Dirty"));
+            assertEquals("7070", manager.getPropertiesStore().getRawValue("port"));
+        } finally {
+            PropertyParserMBeans.unregister(name);
+        }
+        assertFalse(SERVER.isRegistered(name));
+    }
+
+    @Test
+    void injectorAttributesAndOperationsWorkThroughTheServer() throws IOException, JMException {
+        final Path file = directory.resolve("injected.properties");
+        Files.writeString(file, "name=app\n");
+        final PropertyInjector injector = new PropertyInjector(file.toFile());
+        injector.inject(new Config());
+        final ObjectName name = PropertyParserMBeans.register("mbeans-test", injector);
+        try {
+            assertEquals(1L, SERVER.getAttribute(name, "InjectionCount"));
+            assertEquals(1L, SERVER.getAttribute(name, "InjectedFieldCount"));
+            assertEquals(0L, SERVER.getAttribute(name, "FailedInjectionCount"));
+
+            SERVER.setAttribute(name, new Attribute("ParallelDecryption", true));
+            assertTrue(injector.isParallelDecryption());
+
+            Files.writeString(file, "name=reloaded\n");
+            SERVER.invoke(name, "reload", null, null);
+            final Config config = new Config();
+            injector.inject(config);
+            assertEquals("reloaded", config.name);
+            assertEquals(2L, SERVER.getAttribute(name, "InjectionCount"));
+        } finally {
+            PropertyParserMBeans.unregister(name);
+        }
+    }
+
+    @Test
+    void registeringANameTwiceFailsAndUnregisteringIsIdempotent() throws IOException {
+        final Path file = directory.resolve("twice.properties");
+        Files.writeString(file, "name=app\n");
+        final PropertyManager manager = new PropertyManager(file.toFile());
+        final ObjectName name = PropertyParserMBeans.register(manager);
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> PropertyParserMBeans.register(new PropertyManager(file.toFile())));
+            assertInstanceOf(javax.management.InstanceAlreadyExistsException.class, exception.getCause());
+        } finally {
+            PropertyParserMBeans.unregister(name);
+        }
+        PropertyParserMBeans.unregister(name);
+        assertFalse(SERVER.isRegistered(name));
+    }
+
+    static class Config {
+        @InjectProperty("name")
+        String name;
+    }
+}
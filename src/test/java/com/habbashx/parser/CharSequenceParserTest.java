@@ -0,0 +1,98 @@
+package com.habbashx.parser;
+
+import com.habbashx.unit.DataSize;
+import com.habbashx.unit.Percentage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CharSequenceParserTest {
+
+    @Test
+    void parsesDurations() {
+        assertEquals(Duration.ofMillis(250), duration("250ms"));
+        assertEquals(Duration.ofMillis(1500), duration("1.5s"));
+        assertEquals(Duration.ofMinutes(10), duration(" 10 m "));
+        assertEquals(Duration.ofMillis(42), duration("42"));
+        assertEquals(Duration.ofNanos(7), duration("7ns"));
+        assertEquals(Duration.ofNanos(3_000), duration("3µs"));
+        assertEquals(Duration.ofHours(-2), duration("-2h"));
+        assertEquals(Duration.ofSeconds(5), duration("PT5S"));
+        assertEquals(Duration.ofMillis(500), duration(".5s"));
+    }
+
+    @Test
+    void parsesDurationRangeOfALargerBuffer() {
+        assertEquals(Duration.ofSeconds(30), CharSequenceParser.parseDuration("timeout=30s;", 8, 11));
+    }
+
+    @Test
+    void dropsOnlyExcessFractionDigits() {
+        assertEquals(Duration.ofNanos(1_123_456_789L), duration("1.12345678901234567890123s"));
+        assertEquals(1_610_612_736L, CharSequenceParser.parseDataSize("1.50000000000000000000001GiB", 0, 28));
+    }
+
+    @Test
+    void rejectsMalformedDurations() {
+        assertThrows(IllegalArgumentException.class, () -> duration(""));
+        assertThrows(IllegalArgumentException.class, () -> duration("s"));
+        assertThrows(IllegalArgumentException.class, () -> duration("10 weeks"));
+        assertThrows(IllegalArgumentException.class, () -> duration("1.2.3s"));
+        assertThrows(IllegalArgumentException.class, () -> duration("1.12345678901234567890.5s"));
+        assertThrows(IllegalArgumentException.class, () -> duration("99999999999d"));
+    }
+
+    @Test
+    void parsesDataSizes() {
+        assertEquals(512, DataSize.parse("512").toBytes());
+        assertEquals(512, DataSize.parse("512B").toBytes());
+        assertEquals(64L * 1024 * 1024, DataSize.parse("64MiB").toBytes());
+        assertEquals(1_500_000_000L, DataSize.parse("1.5 GB").toBytes());
+        assertEquals(16 * 1024, DataSize.parse("16k").toBytes());
+        assertEquals(2L * 1024 * 1024 * 1024 * 1024, DataSize.parse("2TiB").toBytes());
+    }
+
+    @Test
+    void rejectsMalformedDataSizes() {
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("MB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("10 XB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("1..5GB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("1.00000000000000000000.1KB"));
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse("9999999PiB"));
+    }
+
+    @Test
+    void parsesPercentages() {
+        assertEquals(0.5, Percentage.parse("50%").fraction());
+        assertEquals(0.5, Percentage.parse("0.5").fraction());
+        assertEquals(0.125, Percentage.parse(" 12.5% ").fraction());
+        assertEquals(Percentage.ofPercent(75), Percentage.parse("75%"));
+    }
+
+    @Test
+    void rejectsMalformedPercentages() {
+        assertThrows(NumberFormatException.class, () -> Percentage.parse("%"));
+        assertThrows(NumberFormatException.class, () -> Percentage.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> Percentage.parse("5%%"));
+    }
+
+    @Test
+    void parsesNumbers() {
+        assertEquals(Long.MIN_VALUE, CharSequenceParser.parseLong("-9223372036854775808", 0, 20));
+        assertThrows(NumberFormatException.class, () -> CharSequenceParser.parseLong("9223372036854775808", 0, 19));
+        assertEquals(-12.75, CharSequenceParser.parseDouble("-12.75", 0, 6));
+        assertEquals(1e10, CharSequenceParser.parseDouble("1e10", 0, 4));
+        final String tiny = "0.00000000000000000000001";
+        assertEquals(Double.parseDouble(tiny), CharSequenceParser.parseDouble(tiny, 0, tiny.length()));
+        assertEquals(-1e-23, CharSequenceParser.parseDouble("-" + tiny, 0, tiny.length() + 1));
+        assertEquals(Double.parseDouble(tiny) / 100d, CharSequenceParser.parsePercentage(tiny + "%", 0, tiny.length() + 1));
+        assertThrows(NumberFormatException.class, () -> CharSequenceParser.parseDouble("-.", 0, 2));
+    }
+
+    private static Duration duration(String value) {
+        return CharSequenceParser.parseDuration(value, 0, value.length());
+    }
+}
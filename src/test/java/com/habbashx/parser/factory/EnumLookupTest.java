@@ -0,0 +1,87 @@
+package com.habbashx.parser.factory;
+
+import com.habbashx.annotation.EnumAlias;
+import com.habbashx.exception.InvalidEnumerationValueException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumLookupTest {
+
+    @Test
+    void matchesNamesAndAliasesIgnoringCaseAndWhitespace() {
+        final EnumLookup<Level> lookup = EnumLookup.of(Level.class);
+
+        assertSame(Level.WARNING, lookup.parse("warning"));
+        assertSame(Level.WARNING, lookup.parse(" WARN "));
+        assertSame(Level.ERROR, lookup.parse("Err"));
+        assertSame(Level.INFO, lookup.find("x=info;", 2, 6));
+        assertNull(lookup.find("debug", 0, 5));
+
+        final InvalidEnumerationValueException exception =
+                assertThrows(InvalidEnumerationValueException.class, () -> lookup.parse("debug"));
+        assertTrue(exception.getMessage().contains("WARNING"));
+    }
+
+    @Test
+    void prefersExactMatchWhenNamesDifferOnlyByCase() {
+        final EnumLookup<Mixed> lookup = EnumLookup.of(Mixed.class);
+
+        assertSame(Mixed.a, lookup.parse("a"));
+        assertSame(Mixed.A, lookup.parse("A"));
+    }
+
+    @Test
+    void rejectsAliasOfAnotherConstantIgnoringCase() {
+        final IllegalStateException exception =
+                assertThrows(IllegalStateException.class, () -> EnumLookup.of(CaseConflict.class));
+        assertTrue(exception.getMessage().contains("WARNING"), exception.getMessage());
+    }
+
+    @Test
+    void rejectsAliasDeclaredForTwoConstantsIgnoringCase() {
+        assertThrows(IllegalStateException.class, () -> EnumLookup.of(AliasConflict.class));
+    }
+
+    @Test
+    void acceptsRepeatedAliasOfTheSameConstant() {
+        final EnumLookup<Repeated> lookup = EnumLookup.of(Repeated.class);
+
+        assertSame(Repeated.ON, lookup.parse("yes"));
+        assertSame(Repeated.ON, lookup.parse("on"));
+    }
+
+    enum Level {
+        INFO,
+        @EnumAlias("warn")
+        WARNING,
+        @EnumAlias({"err", "fatal"})
+        ERROR
+    }
+
+    enum Mixed {
+        a, A
+    }
+
+    enum CaseConflict {
+        @EnumAlias("warning")
+        WARN,
+        WARNING
+    }
+
+    enum AliasConflict {
+        @EnumAlias("off")
+        DISABLED,
+        @EnumAlias("OFF")
+        STOPPED
+    }
+
+    enum Repeated {
+        @EnumAlias({"yes", "YES", "On"})
+        ON,
+        OFF
+    }
+}
@@ -0,0 +1,153 @@
+package com.habbashx.parser.factory;
+
+import com.habbashx.exception.UnSupportedTypeException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParserFactoryTest {
+
+    @Test
+    void registeredParserTakesPrecedenceOverFactoryMethods() {
+        assertEquals("valueOf:a", ParserFactory.parse(AllFactories.class, "a").source);
+
+        ParserFactory.register(AllFactories.class, value -> new AllFactories("registered:" + value));
+        try {
+            assertEquals("registered:a", ParserFactory.parse(AllFactories.class, "a").source);
+        } finally {
+            ParserFactory.unregister(AllFactories.class);
+        }
+        assertEquals("valueOf:a", ParserFactory.parse(AllFactories.class, "a").source);
+    }
+
+    @Test
+    void enumsUseTheLookupTableRatherThanValueOf() {
+        assertSame(Color.RED, ParserFactory.parse(Color.class, " red "));
+    }
+
+    @Test
+    void factoryMethodsAreProbedInOrderBeforeTheConstructor() {
+        assertEquals("valueOf:a", ParserFactory.parse(AllFactories.class, "a").source);
+        assertEquals("of:a", ParserFactory.parse(OfAndParse.class, "a").source);
+        assertEquals("parse:a", ParserFactory.parse(ParseAndConstructor.class, "a").source);
+        assertEquals("constructor:a", ParserFactory.parse(ConstructorOnly.class, "a").source);
+    }
+
+    @Test
+    void interfacesResolveStaticFactories() {
+        assertTrue(ParserFactory.isSupported(Path.class));
+        assertEquals(Path.of("conf", "app.properties"), ParserFactory.parse(Path.class, "conf/app.properties"));
+    }
+
+    @Test
+    void unsupportedTypesAreReportedAsSuch() {
+        assertFalse(ParserFactory.isSupported(int[].class));
+        assertThrows(UnSupportedTypeException.class, () -> ParserFactory.parse(int[].class, "1"));
+        assertThrows(UnSupportedTypeException.class, () -> ParserFactory.parse(NoStrategy.class, "x"));
+    }
+
+    @Test
+    void parseFailuresKeepTheExceptionOfTheStrategy() {
+        assertThrows(NumberFormatException.class, () -> ParserFactory.parse(int.class, "x"));
+        assertThrows(DateTimeParseException.class, () -> ParserFactory.parse(LocalDate.class, "x"));
+
+        final IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class,
+                () -> ParserFactory.parse(ConstructorOnly.class, ""));
+        assertEquals("empty", rejected.getMessage());
+
+        final IllegalArgumentException checked = assertThrows(IllegalArgumentException.class,
+                () -> ParserFactory.parse(CheckedFactory.class, "x"));
+        assertInstanceOf(Exception.class, checked.getCause());
+        assertEquals("checked", checked.getCause().getMessage());
+    }
+
+    enum Color {
+        RED, GREEN
+    }
+
+    static final class AllFactories {
+
+        final String source;
+
+        AllFactories(String source) {
+            this.source = source;
+        }
+
+        public static AllFactories valueOf(String value) {
+            return new AllFactories("valueOf:" + value);
+        }
+
+        public static AllFactories of(String value) {
+            return new AllFactories("of:" + value);
+        }
+
+        public static AllFactories parse(String value) {
+            return new AllFactories("parse:" + value);
+        }
+    }
+
+    static final class OfAndParse {
+
+        final String source;
+
+        private OfAndParse(String source) {
+            this.source = source;
+        }
+
+        public static OfAndParse of(CharSequence value) {
+            return new OfAndParse("of:" + value);
+        }
+
+        public static OfAndParse parse(String value) {
+            return new OfAndParse("parse:" + value);
+        }
+    }
+
+    static final class ParseAndConstructor {
+
+        final String source;
+
+        public ParseAndConstructor(String value) {
+            this.source = "constructor:" + value;
+        }
+
+        private ParseAndConstructor(String source, boolean ignored) {
+            this.source = source;
+        }
+
+        public static ParseAndConstructor parse(String value) {
+            return new ParseAndConstructor("parse:" + value, true);
+        }
+    }
+
+    static final class ConstructorOnly {
+
+        final String source;
+
+        public ConstructorOnly(String value) {
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("empty");
+            }
+            this.source = "constructor:" + value;
+        }
+    }
+
+    static final class CheckedFactory {
+
+        public static CheckedFactory valueOf(String value) throws Exception {
+            throw new Exception("checked");
+        }
+    }
+
+    static final class NoStrategy {
+    }
+}
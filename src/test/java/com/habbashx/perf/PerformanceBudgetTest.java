@@ -0,0 +1,295 @@
+package com.habbashx.perf;
+
+import com.habbashx.annotation.DefaultValue;
+import com.habbashx.annotation.InjectList;
+import com.habbashx.annotation.InjectPrefix;
+import com.habbashx.annotation.InjectProperty;
+import com.habbashx.injector.PropertyInjector;
+import com.habbashx.injector.meta.FieldPlan;
+import com.habbashx.injector.meta.PlanIndex;
+import com.habbashx.injector.source.FilePropertySource;
+import com.habbashx.property.PropertiesStore;
+import com.habbashx.property.PropertyKey;
+import com.habbashx.property.PropertyValue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation and latency budgets for the hot paths.
+ *
+ * <p>
+ * Each test warms the operation up, then measures the bytes allocated by the current thread
+ * ({@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}) and the wall time
+ * per operation, and fails when either exceeds the budget in {@code perf-budgets.properties}.
+ * Time budgets are coarse on purpose and can be scaled on slow machines with
+ * {@code -Dperf.time.scale=<factor>}.
+ * </p>
+ */
+class PerformanceBudgetTest {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final double TIME_SCALE = Double.parseDouble(System.getProperty("perf.time.scale", "1"));
+
+    private static final Properties BUDGETS = new Properties();
+
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void loadBudgets() throws IOException {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation accounting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        try (InputStream inputStream = PerformanceBudgetTest.class.getResourceAsStream("/perf-budgets.properties")) {
+            BUDGETS.load(inputStream);
+        }
+    }
+
+    @Test
+    void injectFlat() throws IOException {
+        final PropertyInjector injector = new PropertyInjector(writeProperties("inject.properties", 0).toFile());
+
+        final Measurement measurement = measure(2_000, 10_000, () -> injector.inject(new FlatConfig()));
+
+        final FlatConfig config = new FlatConfig();
+        injector.inject(config);
+        assertEquals(8080, config.port);
+        assertBudget("inject.flat", measurement);
+    }
+
+    @Test
+    void injectNested() throws IOException {
+        final PropertyInjector injector = new PropertyInjector(writeProperties("nested.properties", 0).toFile());
+
+        final Measurement measurement = measure(2_000, 10_000, () -> injector.inject(new NestedConfig()));
+
+        final NestedConfig config = new NestedConfig();
+        injector.inject(config);
+        assertEquals(32, config.database.pool);
+        assertBudget("inject.nested", measurement);
+    }
+
+    @Test
+    void propertiesStoreGetInt() {
+        final PropertiesStore propertiesStore = new PropertiesStore();
+        for (int i = 0; i < 1_000; i++) {
+            propertiesStore.addProperty("key." + i, new PropertyValue(Integer.toString(i)));
+        }
+
+        final int[] sink = new int[1];
+        final Measurement measurement = measure(50_000, 1_000_000, () -> sink[0] += propertiesStore.getInt("key.500"));
+
+        assertEquals(500, propertiesStore.getInt("key.500"));
+        assertBudget("store.getInt", measurement);
+    }
+
+    @Test
+    void propertiesStoreGetTypedKey() {
+        final PropertiesStore propertiesStore = new PropertiesStore();
+        for (int i = 0; i < 1_000; i++) {
+            propertiesStore.addProperty("key." + i, new PropertyValue(Integer.toString(i)));
+        }
+        final PropertyKey<Integer> key = PropertyKey.of("key.500", int.class);
+
+        final int[] sink = new int[1];
+        final Measurement measurement = measure(50_000, 1_000_000, () -> sink[0] += propertiesStore.get(key));
+
+        assertEquals(500, propertiesStore.get(key));
+        propertiesStore.updateRawValue("key.500", "501");
+        assertEquals(501, propertiesStore.get(key));
+        assertBudget("store.getKey", measurement);
+    }
+
+    @Test
+    void propertiesStoreAddProperty() {
+        final PropertiesStore propertiesStore = new PropertiesStore();
+        propertiesStore.replaceAll(sink -> {
+            for (int i = 0; i < 1_000; i++) {
+                sink.accept("key." + i, Integer.toString(i));
+            }
+        });
+        final PropertyValue value = new PropertyValue("500");
+
+        final Measurement measurement = measure(2_000, 20_000, () -> propertiesStore.addProperty("key.500", value));
+
+        assertEquals(1_000, propertiesStore.getPropertyElements().size());
+        assertBudget("store.addProperty", measurement);
+    }
+
+    @Test
+    void propertiesStoreAddPropertyFill() {
+        final String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key." + i;
+        }
+        final PropertyValue value = new PropertyValue("value");
+        final PropertiesStore[] filled = new PropertiesStore[1];
+
+        final Measurement measurement = measure(5, 20, () -> {
+            final PropertiesStore propertiesStore = new PropertiesStore();
+            for (final String key : keys) {
+                propertiesStore.addProperty(key, value);
+            }
+            filled[0] = propertiesStore;
+        });
+
+        assertEquals(10_000, filled[0].getPropertyElements().size());
+        assertEquals(10_000, filled[0].getModificationCount());
+        assertBudget("store.addProperty.fill10k", measurement);
+    }
+
+    @Test
+    void propertiesStoreUpdateBatch() {
+        final PropertiesStore propertiesStore = new PropertiesStore();
+        final String[] keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key." + i;
+        }
+        final PropertyValue value = new PropertyValue("value");
+        final long generation = propertiesStore.getModificationCount();
+
+        final Measurement measurement = measure(200, 2_000, () -> propertiesStore.update(builder -> {
+            for (final String key : keys) {
+                builder.addProperty(key, value);
+            }
+        }));
+
+        assertEquals(1_000, propertiesStore.getPropertyElements().size());
+        assertEquals(generation + 2_200, propertiesStore.getModificationCount());
+        assertBudget("store.update.1k", measurement);
+    }
+
+    @Test
+    void planIndexLookup() throws Exception {
+        final PlanIndex index = new PlanIndex();
+        final List<FieldPlan> plans = List.of(FieldPlan.of(FlatConfig.class.getDeclaredField("port")));
+        index.put(FlatConfig.class, plans);
+
+        final Measurement measurement = measure(2_000, 20_000, () -> index.plansFor(FlatConfig.class));
+
+        assertEquals(plans, index.plansFor(FlatConfig.class));
+        assertBudget("planIndex.plansFor", measurement);
+    }
+
+    @Test
+    void filePropertySourceLoad() throws IOException {
+        final Path file = writeProperties("source.properties", 100_000);
+
+        final Measurement measurement = measure(2, 5, () -> new FilePropertySource(file.toFile()));
+
+        assertEquals("value-99999", new FilePropertySource(file.toFile()).get("key.99999"));
+        assertBudget("source.load.100k", measurement);
+    }
+
+    private static void assertBudget(String name, Measurement measurement) {
+        final long bytesBudget = Long.parseLong(BUDGETS.getProperty(name + ".bytes"));
+        final long nanosBudget = (long) (Long.parseLong(BUDGETS.getProperty(name + ".nanos")) * TIME_SCALE);
+
+        assertTrue(measurement.bytesPerOp() <= bytesBudget,
+                () -> name + " allocated " + measurement.bytesPerOp() + " B/op, budget is " + bytesBudget + " B/op");
+        assertTrue(measurement.nanosPerOp() <= nanosBudget,
+                () -> name + " took " + Duration.ofNanos(measurement.nanosPerOp()) + "/op, budget is " + Duration.ofNanos(nanosBudget) + "/op");
+    }
+
+    private static Measurement measure(int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Measurement(allocated / iterations, elapsed / iterations);
+    }
+
+    private static Path writeProperties(String name, int extraKeys) throws IOException {
+        final Path file = directory.resolve(name);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            writer.write("app.name=perf\n");
+            writer.write("app.port=8080\n");
+            writer.write("app.timeout=250ms\n");
+            writer.write("app.ratio=0.75\n");
+            writer.write("app.enabled=true\n");
+            writer.write("app.users=alice,bob,carol,dave\n");
+            writer.write("db.url=jdbc:postgresql://localhost/perf\n");
+            writer.write("db.user=perf\n");
+            writer.write("db.pool=32\n");
+            for (int i = 0; i < extraKeys; i++) {
+                writer.write("key." + i + "=value-" + i + "\n");
+            }
+        }
+        return file;
+    }
+
+    private record Measurement(long bytesPerOp, long nanosPerOp) {
+    }
+
+    static class FlatConfig {
+
+        @InjectProperty("app.name")
+        private String name;
+
+        @InjectProperty("app.port")
+        private int port;
+
+        @InjectProperty("app.timeout")
+        private Duration timeout;
+
+        @InjectProperty("app.ratio")
+        private double ratio;
+
+        @InjectProperty("app.enabled")
+        private boolean enabled;
+
+        @InjectProperty("app.missing")
+        @DefaultValue("fallback")
+        private String missing;
+
+        @InjectList("app.users")
+        private List<String> users;
+    }
+
+    static class NestedConfig {
+
+        @InjectProperty("app.name")
+        private String name;
+
+        @InjectPrefix("db")
+        private DatabaseConfig database;
+    }
+
+    static class DatabaseConfig {
+
+        @InjectProperty("url")
+        private String url;
+
+        @InjectProperty("user")
+        private String user;
+
+        @InjectProperty("pool")
+        private int pool;
+    }
+}
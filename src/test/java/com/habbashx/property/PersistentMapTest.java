@@ -0,0 +1,105 @@
+package com.habbashx.property;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistentMapTest {
+
+    /**
+     * Keys with equal hash codes ("Aa" and "BB" hash alike, and so do their concatenations),
+     * mixed with ordinary keys, so that collision nodes are created, split and emptied.
+     */
+    private static String randomKey(Random random) {
+        if (random.nextBoolean()) {
+            final StringBuilder key = new StringBuilder();
+            for (int i = 0; i < 3; i++) {
+                key.append(random.nextBoolean() ? "Aa" : "BB");
+            }
+            return key.toString();
+        }
+        return "key." + random.nextInt(2_000);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomChanges() {
+        final Random random = new Random(7);
+        final Map<String, Integer> expected = new HashMap<>();
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20_000; i++) {
+            final String key = randomKey(random);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    void derivedMapsLeaveTheirOriginUnchanged() {
+        final Random random = new Random(11);
+        final PersistentMap.Editor<String, Integer> editor = PersistentMap.<String, Integer>empty().edit();
+        final Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            final String key = randomKey(random);
+            editor.put(key, i);
+            expected.put(key, i);
+        }
+        final PersistentMap<String, Integer> origin = editor.build();
+        assertEquals(expected, origin);
+
+        final PersistentMap.Editor<String, Integer> next = origin.edit();
+        for (final String key : expected.keySet()) {
+            if (random.nextBoolean()) {
+                next.remove(key);
+            } else {
+                next.put(key, -1);
+            }
+        }
+        next.put("added", 1);
+        final PersistentMap<String, Integer> derived = next.build();
+
+        assertEquals(expected, origin);
+        assertEquals(1, derived.get("added"));
+        assertNull(origin.get("added"));
+        assertEquals(expected.size(), origin.size());
+    }
+
+    @Test
+    void unchangedMapsAreReturnedAsIs() {
+        final Integer one = 1;
+        final PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().with("a", one);
+
+        assertSame(map, map.with("a", one));
+        assertSame(map, map.without("b"));
+        assertSame(PersistentMap.empty(), map.without("a"));
+    }
+
+    @Test
+    void theMapIsUnmodifiableAndItsEditorIsSingleUse() {
+        final PersistentMap.Editor<String, Integer> editor = PersistentMap.<String, Integer>empty().edit();
+        editor.put("a", 1);
+        final PersistentMap<String, Integer> map = editor.build();
+
+        assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(3));
+        assertThrows(IllegalStateException.class, () -> editor.put("b", 2));
+        assertEquals(Map.of("a", 1), map);
+    }
+}
@@ -0,0 +1,236 @@
+package com.habbashx.property;
+
+import com.habbashx.validation.PropertyValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertiesStoreTest {
+
+    @Test
+    void everyPublishedChangeIsOneGeneration() {
+        final PropertiesStore store = new PropertiesStore();
+        assertEquals(0, store.getModificationCount());
+
+        store.addProperty("a", new PropertyValue("1"));
+        assertEquals(1, store.getModificationCount());
+
+        store.updateRawValue("missing", "1");
+        store.removeProperty("missing");
+        store.update(builder -> builder.updateConvertedValue("missing", 1));
+        assertEquals(1, store.getModificationCount());
+
+        store.update(builder -> builder
+                .addProperty("b", new PropertyValue("2"))
+                .updateRawValue("a", "10")
+                .removeProperty("b"));
+        assertEquals(2, store.getModificationCount());
+        assertEquals(store.getModificationCount(), store.snapshot().getGeneration());
+
+        store.replaceAll(Map.of("c", "3"));
+        store.clear();
+        assertEquals(4, store.getModificationCount());
+    }
+
+    @Test
+    void pinnedSnapshotsNeverChange() {
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(Map.of("db.url", "jdbc:h2:mem:a", "db.user", "sa"));
+        final PropertiesSnapshot pinned = store.snapshot();
+
+        store.update(builder -> builder
+                .updateRawValue("db.url", "jdbc:h2:mem:b")
+                .removeProperty("db.user")
+                .addProperty("db.pool", new PropertyValue("8")));
+
+        assertEquals("jdbc:h2:mem:a", pinned.getRawValue("db.url"));
+        assertEquals("sa", pinned.getRawValue("db.user"));
+        assertNull(pinned.getRawValue("db.pool"));
+        assertEquals(2, pinned.size());
+        assertEquals(pinned.getGeneration() + 1, store.snapshot().getGeneration());
+        assertThrows(UnsupportedOperationException.class, () -> pinned.getPropertyElements().remove("db.url"));
+    }
+
+    @Test
+    void readersNeverSeeHalfAppliedBatches() throws InterruptedException {
+        final PropertiesStore store = new PropertiesStore();
+        store.update(builder -> builder.addProperty("a", new PropertyValue("0")).addProperty("b", new PropertyValue("0")));
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread reader = new Thread(() -> {
+                long generation = 0;
+                while (!done.get()) {
+                    final PropertiesSnapshot snapshot = store.snapshot();
+                    if (!snapshot.getRawValue("a").equals(snapshot.getRawValue("b")) || snapshot.getGeneration() < generation) {
+                        failure.compareAndSet(null, snapshot.toString());
+                    }
+                    generation = snapshot.getGeneration();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int i = 1; i <= 20_000; i++) {
+            final String value = Integer.toString(i);
+            store.update(builder -> builder.updateRawValue("a", value).updateRawValue("b", value));
+        }
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(20_001, store.getModificationCount());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void settersOfTheElementsOfTheStoreForwardToTheStore() {
+        final PropertiesStore store = new PropertiesStore();
+        final PropertyValue value = new PropertyValue("8080");
+        store.addProperty("port", value);
+        value.setRawValue("changed by the caller");
+
+        final PropertyElement element = store.getPropertyElement("port");
+        assertEquals("8080", element.getPropertyValue().getRawValue());
+
+        element.getPropertyValue().setRawValue("443");
+        assertEquals("8080", element.getPropertyValue().getRawValue());
+        assertEquals("443", store.getRawValue("port"));
+
+        store.getPropertyElement("port").getPropertyValue().setConvertedValue(443);
+        assertEquals(443, store.getConvertedValue("port"));
+
+        element.addValidator(PropertyValidator.integerRange(1, 100));
+        assertTrue(element.isValid());
+        assertFalse(store.getPropertyElement("port").isValid());
+
+        store.updateConvertedValue("port", 8080);
+        assertEquals(8080, store.getConvertedValue("port"));
+        assertFalse(store.getPropertyElement("port").isValid());
+        assertEquals(5, store.getModificationCount());
+
+        final PropertiesStore other = new PropertiesStore();
+        other.addProperty("port", store.getPropertyElement("port").getPropertyValue());
+        other.getPropertyElement("port").getPropertyValue().setRawValue("1");
+        assertEquals("1", other.getRawValue("port"));
+        assertEquals("443", store.getRawValue("port"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void propertyElementsIsALiveViewForwardingChanges() {
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(Map.of("a", "1", "b", "2"));
+        final Map<String, PropertyElement> elements = store.getPropertyElements();
+
+        store.addProperty("c", new PropertyValue("3"));
+        assertEquals(3, elements.size());
+        assertEquals("3", elements.get("c").getPropertyValue().getRawValue());
+
+        final PropertyElement validated = new PropertyElement("d", new PropertyValue(""));
+        validated.addValidator(PropertyValidator.notEmpty());
+        assertNull(elements.put("d", validated));
+        assertFalse(store.getPropertyElement("d").isValid());
+        assertEquals("1", elements.remove("a").getPropertyValue().getRawValue());
+        assertNull(store.getRawValue("a"));
+
+        elements.entrySet().removeIf(entry -> entry.getKey().equals("b"));
+        assertNull(store.getRawValue("b"));
+
+        elements.clear();
+        assertTrue(store.snapshot().getPropertyElements().isEmpty());
+        assertEquals(6, store.getModificationCount());
+    }
+
+    @Test
+    void failedBatchesLeaveTheStoreUnchanged() {
+        final PropertiesStore store = new PropertiesStore();
+        store.addProperty("a", new PropertyValue("1"));
+        final AtomicReference<PropertiesStore.Builder> escaped = new AtomicReference<>();
+
+        assertThrows(IllegalStateException.class, () -> store.update(builder -> {
+            escaped.set(builder);
+            builder.updateRawValue("a", "2").addProperty("b", new PropertyValue("3"));
+            throw new IllegalStateException("abort");
+        }));
+
+        assertEquals("1", store.getRawValue("a"));
+        assertNull(store.getRawValue("b"));
+        assertEquals(1, store.getModificationCount());
+        assertThrows(IllegalStateException.class, () -> escaped.get().removeProperty("a"));
+    }
+
+    @Test
+    void typedValuesSetInABatchAreCachedUnlessOverwritten() {
+        final PropertiesStore store = new PropertiesStore();
+        final PropertyKey<Integer> pool = PropertyKey.of("pool.size", int.class);
+        final PropertyKey<Integer> port = PropertyKey.of("port", int.class);
+
+        store.update(builder -> builder
+                .set(pool, 8)
+                .set(port, 80)
+                .updateRawValue("port", "443"));
+
+        assertEquals(8, store.get(pool));
+        assertEquals(443, store.get(port));
+    }
+
+    @Test
+    void batchesArePublishedAsOneCoalescedBatch() throws InterruptedException {
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(Map.of("a", "1", "b", "2"));
+        final List<PropertyChange> changes = new ArrayList<>();
+        final CountDownLatch received = new CountDownLatch(2);
+        store.getChangePublisher().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(PropertyChange item) {
+                synchronized (changes) {
+                    changes.add(item);
+                }
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        store.update(builder -> builder
+                .updateRawValue("a", "10")
+                .updateRawValue("a", "11")
+                .removeProperty("b")
+                .addProperty("c", new PropertyValue("3"))
+                .removeProperty("c"));
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        synchronized (changes) {
+            assertEquals(List.of(new PropertyChange("a", "1", "11"), new PropertyChange("b", "2", null)), changes);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.habbashx.property;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertyChangePublisherTest {
+
+    private final PropertyChangePublisher publisher = new PropertyChangePublisher(Runnable::run);
+
+    @Test
+    void repeatedChangesOfAKeyAreCoalescedUntilRequested() {
+        final Recorder recorder = new Recorder(0);
+        publisher.subscribe(recorder);
+
+        publisher.publish(new PropertyChange("a", "1", "2"));
+        publisher.publish(new PropertyChange("b", "x", "y"));
+        publisher.publish(new PropertyChange("a", "2", "3"));
+        publisher.publish(new PropertyChange("b", "y", "x"));
+        publisher.publish(new PropertyChange("c", null, "new"));
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(new PropertyChange("a", "1", "3"), new PropertyChange("c", null, "new")), recorder.changes);
+    }
+
+    @Test
+    void neverDeliversMoreThanRequested() {
+        final Recorder recorder = new Recorder(2);
+        publisher.subscribe(recorder);
+        final List<PropertyChange> changes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            changes.add(new PropertyChange("key." + i, null, String.valueOf(i)));
+        }
+
+        publisher.publish(changes);
+        assertEquals(changes.subList(0, 2), recorder.changes);
+
+        recorder.subscription.request(1);
+        assertEquals(changes.subList(0, 3), recorder.changes);
+
+        recorder.subscription.request(10);
+        assertEquals(changes, recorder.changes);
+    }
+
+    @Test
+    void prefixSubscribersOnlyReceiveMatchingKeys() {
+        final Recorder database = new Recorder(Long.MAX_VALUE);
+        final Recorder port = new Recorder(Long.MAX_VALUE);
+        publisher.forPrefix("db.").subscribe(database);
+        publisher.forKey("server.port").subscribe(port);
+
+        publisher.publish(List.of(
+                new PropertyChange("db.url", null, "jdbc:h2:mem:test"),
+                new PropertyChange("dbx.url", null, "other"),
+                new PropertyChange("server.port", "80", "443"),
+                new PropertyChange("db.user", "sa", "admin")
+        ));
+
+        assertEquals(List.of("db.url", "db.user"), database.changes.stream().map(PropertyChange::key).toList());
+        assertEquals(List.of(new PropertyChange("server.port", "80", "443")), port.changes);
+    }
+
+    @Test
+    void nonPositiveRequestsAreSignalledAsErrors() {
+        final Recorder recorder = new Recorder(0);
+        publisher.subscribe(recorder);
+
+        recorder.subscription.request(0);
+        publisher.publish(new PropertyChange("a", null, "1"));
+        recorder.subscription.request(1);
+
+        assertInstanceOf(IllegalArgumentException.class, recorder.error);
+        assertTrue(recorder.changes.isEmpty());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    void noSignalReachesTheSubscriberBeforeOnSubscribeReturns() {
+        final List<String> signals = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+                publisher.publish(new PropertyChange("early", null, "1"));
+                signals.add("subscribed");
+            }
+
+            @Override
+            public void onNext(PropertyChange item) {
+                signals.add(item.key());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals.add("error");
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("complete");
+            }
+        });
+        publisher.publish(new PropertyChange("late", null, "2"));
+
+        assertEquals(List.of("subscribed", "late"), signals);
+    }
+
+    @Test
+    void completionIsSignalledWithoutHoldingTheSubscriptionLock() throws InterruptedException {
+        final boolean[] blocked = new boolean[1];
+        final Recorder recorder = new Recorder(Long.MAX_VALUE) {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                final Thread requester = new Thread(() -> subscription.request(1));
+                requester.start();
+                try {
+                    requester.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                blocked[0] = requester.isAlive();
+            }
+        };
+        publisher.subscribe(recorder);
+        publisher.publish(new PropertyChange("a", null, "1"));
+
+        publisher.close();
+
+        assertTrue(recorder.completed);
+        assertFalse(blocked[0]);
+        assertEquals(1, recorder.changes.size());
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    private static class Recorder implements Flow.Subscriber<PropertyChange> {
+
+        private final long initialRequest;
+
+        final List<PropertyChange> changes = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        Throwable error;
+
+        boolean completed;
+
+        Recorder(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(PropertyChange item) {
+            changes.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
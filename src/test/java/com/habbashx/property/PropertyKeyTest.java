@@ -0,0 +1,66 @@
+package com.habbashx.property;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PropertyKeyTest {
+
+    @Test
+    void slotsAreAssignedPerStore() {
+        final PropertiesStore first = new PropertiesStore();
+        final PropertiesStore second = new PropertiesStore();
+        first.addProperty("pool.size", new PropertyValue("8"));
+        second.addProperty("pool.size", new PropertyValue("16"));
+        for (int i = 0; i < 100; i++) {
+            first.get(PropertyKey.of("tenant." + i, String.class));
+        }
+        final PropertyKey<Integer> pool = PropertyKey.of("pool.size", int.class);
+
+        assertEquals(8, first.get(pool));
+        assertEquals(16, second.get(pool));
+        assertEquals(8, first.get(pool));
+        assertEquals(101, first.snapshot().slotCount());
+        assertEquals(1, second.snapshot().slotCount());
+    }
+
+    @Test
+    void keysBeyondTheLimitAreParsedWithoutCaching() {
+        final PropertiesStore store = new PropertiesStore();
+        store.addProperty("value", new PropertyValue("1"));
+        for (int i = 0; i < SlotTable.MAX_SLOTS + 100; i++) {
+            assertEquals(1, store.get(PropertyKey.of("value", int.class)));
+        }
+        final PropertyKey<Integer> late = PropertyKey.of("value", int.class);
+        store.set(late, 2);
+
+        assertEquals(SlotTable.MAX_SLOTS, store.snapshot().slotCount());
+        assertEquals(2, store.get(late));
+        assertEquals(2, store.get(PropertyKey.of("value", int.class)));
+    }
+
+    @Test
+    void changesClearTheSlotsOfEveryKeyOfTheProperty() {
+        final PropertiesStore store = new PropertiesStore();
+        store.addProperty("port", new PropertyValue("80"));
+        final PropertyKey<Integer> asInt = PropertyKey.of("port", int.class);
+        final PropertyKey<String> asString = PropertyKey.of("port", String.class);
+        final PropertyKey<String> other = PropertyKey.of("host", String.class);
+        assertEquals(80, store.get(asInt));
+        assertEquals("80", store.get(asString));
+        assertNull(store.get(other));
+
+        store.updateRawValue("port", "443");
+        assertEquals(443, store.get(asInt));
+        assertEquals("443", store.get(asString));
+
+        store.addProperty("host", new PropertyValue("db"));
+        assertEquals("db", store.get(other));
+        assertEquals(443, store.get(asInt));
+
+        store.removeProperty("port");
+        assertNull(store.get(asInt));
+        assertEquals("fallback", store.get(asString, "fallback"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.habbashx.resolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlaceholderResolverTest {
+
+    private final PlaceholderResolver resolver = new PlaceholderResolver();
+
+    @Test
+    void replacesPlaceholdersFromThePropertiesFirst() {
+        final Properties properties = new Properties();
+        properties.setProperty("host", "db");
+        properties.setProperty("java.version", "overridden");
+
+        assertEquals("jdbc://db:5432/app", resolver.resolve("jdbc://${host}:5432/app", properties));
+        assertEquals("overridden", resolver.resolve("${java.version}", properties));
+        assertEquals(System.getProperty("java.version"), resolver.resolve("${java.version}", new Properties()));
+    }
+
+    @Test
+    void keepsUnresolvedPlaceholdersAsWritten() {
+        final Properties properties = new Properties();
+        properties.setProperty("a", "1");
+
+        assertEquals("1-${property.parser.missing}-1", resolver.resolve("${a}-${property.parser.missing}-${a}", properties));
+    }
+
+    @Test
+    void returnsValuesWithoutPlaceholdersUnchanged() {
+        final String value = "plain $value {with} braces";
+
+        assertSame(value, resolver.resolve(value, new Properties()));
+    }
+}
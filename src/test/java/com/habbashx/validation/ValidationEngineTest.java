@@ -0,0 +1,87 @@
+package com.habbashx.validation;
+
+import com.habbashx.property.PropertiesStore;
+import com.habbashx.property.PropertyElement;
+import com.habbashx.property.PropertyValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationEngineTest {
+
+    @Test
+    void elementVerdictIsCachedUntilTheRawValueChanges() {
+        final PropertiesStore store = new PropertiesStore();
+        store.addProperty("port", new PropertyValue("8080"));
+        final AtomicInteger calls = new AtomicInteger();
+        final PropertyValidator counting = value -> {
+            calls.incrementAndGet();
+            return PropertyValidator.integerRange(1, 65535).isValid(value);
+        };
+        store.addValidator("port", counting);
+
+        assertTrue(store.getPropertyElement("port").isValid());
+        assertTrue(store.getPropertyElement("port").isValid());
+        assertEquals(1, calls.get());
+
+        store.updateRawValue("port", "70000");
+        assertFalse(store.getPropertyElement("port").isValid());
+        assertFalse(store.getPropertyElement("port").isValid());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addingAValidatorDropsTheCachedVerdict() {
+        final PropertyElement element = new PropertyElement("name", new PropertyValue(""));
+
+        assertTrue(element.isValid());
+        element.addValidator(PropertyValidator.notEmpty());
+        assertFalse(element.isValid());
+    }
+
+    @Test
+    void reportsElementAndEngineRulesIncludingMissingKeys() {
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(Map.of("port", "8080", "host", "", "mode", "fast"));
+
+        final ValidationReport report = new ValidationEngine()
+                .rule("host", PropertyValidator.notEmpty())
+                .pattern("mode", "fast|slow")
+                .rule("missing", value -> value != null)
+                .validate(store);
+
+        assertFalse(report.isValid());
+        assertEquals(4, report.getCheckedCount());
+        assertEquals(List.of("host", "missing"), report.getInvalidKeys());
+    }
+
+    @Test
+    void parallelValidationMatchesSequentialValidation() {
+        final PropertiesStore store = new PropertiesStore();
+        store.replaceAll(sink -> {
+            for (int i = 0; i < 10_000; i++) {
+                sink.accept("key." + i, i % 1000 == 0 ? "x" : Integer.toString(i));
+            }
+        });
+        final ValidationEngine sequential = new ValidationEngine(Integer.MAX_VALUE);
+        final ValidationEngine parallel = new ValidationEngine(1);
+        for (int i = 0; i < 10_000; i++) {
+            sequential.rule("key." + i, PropertyValidator.integerRange(0, 10_000));
+            parallel.rule("key." + i, PropertyValidator.integerRange(0, 10_000));
+        }
+
+        final ValidationReport expected = sequential.validate(store);
+        final ValidationReport actual = parallel.validate(store);
+
+        assertEquals(10, expected.getInvalidKeys().size());
+        assertEquals(expected.getInvalidKeys(), actual.getInvalidKeys());
+        assertEquals(expected.getCheckedCount(), actual.getCheckedCount());
+    }
+}